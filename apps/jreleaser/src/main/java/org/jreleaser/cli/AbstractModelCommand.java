@@ -52,6 +52,10 @@ public abstract class AbstractModelCommand extends AbstractLoggingCommand {
     @CommandLine.Option(names = {"-grs", "--git-root-search"})
     boolean gitRootSearch;
 
+    @CommandLine.Option(names = {"--max-parallelism"},
+        paramLabel = "<n>")
+    Integer maxParallelism;
+
     @CommandLine.Option(names = {"-P", "--set-property"},
         paramLabel = "<key=value>")
     String[] properties;
@@ -137,7 +141,7 @@ public abstract class AbstractModelCommand extends AbstractLoggingCommand {
         Environment.PropertiesSource propertiesSource = new Environment.PropertiesPropertiesSource(collectProperties());
         model.getEnvironment().setPropertiesSource(propertiesSource);
 
-        return ContextCreator.create(
+        JReleaserContext context = ContextCreator.create(
             logger,
             resolveConfigurer(actualConfigFile),
             getMode(),
@@ -147,6 +151,8 @@ public abstract class AbstractModelCommand extends AbstractLoggingCommand {
             dryrun(),
             gitRootSearch,
             collectSelectedPlatforms());
+        context.setMaxParallelism(maxParallelism);
+        return context;
     }
 
     protected JReleaserContext.Configurer resolveConfigurer(Path configFile) {
@@ -42,7 +42,7 @@ public class ColorizedJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void debug(String message) {
+    protected void doDebug(String message) {
         String msg = formatMessage(message);
         if (isLevelEnabled(Level.DEBUG)) {
             out.println(Level.DEBUG + msg);
@@ -51,7 +51,7 @@ public class ColorizedJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void info(String message) {
+    protected void doInfo(String message) {
         String msg = formatMessage(message);
         if (isLevelEnabled(Level.INFO)) {
             out.println(Level.INFO + msg);
@@ -60,7 +60,7 @@ public class ColorizedJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void warn(String message) {
+    protected void doWarn(String message) {
         String msg = formatMessage(message);
         if (isLevelEnabled(Level.WARN)) {
             out.println(Level.WARN + msg);
@@ -69,7 +69,7 @@ public class ColorizedJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void error(String message) {
+    protected void doError(String message) {
         String msg = formatMessage(message);
         if (isLevelEnabled(Level.ERROR)) {
             out.println(Level.ERROR + msg);
@@ -78,7 +78,7 @@ public class ColorizedJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void debug(String message, Object... args) {
+    protected void doDebug(String message, Object... args) {
         String msg = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
         if (isLevelEnabled(Level.DEBUG)) {
             out.println(Level.DEBUG + msg);
@@ -87,7 +87,7 @@ public class ColorizedJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void info(String message, Object... args) {
+    protected void doInfo(String message, Object... args) {
         String msg = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
         if (isLevelEnabled(Level.INFO)) {
             out.println(Level.INFO + msg);
@@ -96,7 +96,7 @@ public class ColorizedJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void warn(String message, Object... args) {
+    protected void doWarn(String message, Object... args) {
         String msg = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
         if (isLevelEnabled(Level.WARN)) {
             out.println(Level.WARN + msg);
@@ -105,7 +105,7 @@ public class ColorizedJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void error(String message, Object... args) {
+    protected void doError(String message, Object... args) {
         String msg = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
         if (isLevelEnabled(Level.ERROR)) {
             out.println(Level.ERROR + msg);
@@ -114,7 +114,7 @@ public class ColorizedJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void debug(String message, Throwable throwable) {
+    protected void doDebug(String message, Throwable throwable) {
         String msg = formatMessage(message);
         if (isLevelEnabled(Level.DEBUG)) {
             out.println(Level.DEBUG + msg);
@@ -124,7 +124,7 @@ public class ColorizedJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void info(String message, Throwable throwable) {
+    protected void doInfo(String message, Throwable throwable) {
         String msg = formatMessage(message);
         if (isLevelEnabled(Level.INFO)) {
             out.println(Level.INFO + msg);
@@ -134,7 +134,7 @@ public class ColorizedJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void warn(String message, Throwable throwable) {
+    protected void doWarn(String message, Throwable throwable) {
         String msg = formatMessage(message);
         if (isLevelEnabled(Level.WARN)) {
             out.println(Level.WARN + msg);
@@ -144,7 +144,7 @@ public class ColorizedJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void error(String message, Throwable throwable) {
+    protected void doError(String message, Throwable throwable) {
         String msg = formatMessage(message);
         if (isLevelEnabled(Level.ERROR)) {
             out.println(Level.ERROR + msg);
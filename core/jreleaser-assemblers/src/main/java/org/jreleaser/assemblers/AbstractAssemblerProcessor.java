@@ -21,8 +21,10 @@ import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Assembler;
 import org.jreleaser.model.FileSet;
 import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.JReleaserVersion;
 import org.jreleaser.model.assembler.spi.AssemblerProcessingException;
 import org.jreleaser.model.assembler.spi.AssemblerProcessor;
+import org.jreleaser.model.releaser.spi.Commit;
 import org.jreleaser.util.Constants;
 import org.jreleaser.util.FileUtils;
 import org.jreleaser.util.command.Command;
@@ -33,9 +35,13 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
@@ -79,7 +85,11 @@ abstract class AbstractAssemblerProcessor<A extends Assembler> implements Assemb
             Path assembleDirectory = (Path) props.get(Constants.KEY_DISTRIBUTION_ASSEMBLE_DIRECTORY);
             Files.createDirectories(assembleDirectory);
 
+            String fingerprint = resolveFingerprint(newProps);
+            if (isUpToDate(assembleDirectory, fingerprint)) return;
+
             doAssemble(newProps);
+            saveFingerprint(assembleDirectory, fingerprint);
         } catch (IllegalArgumentException | IOException e) {
             throw new AssemblerProcessingException(e);
         }
@@ -87,6 +97,65 @@ abstract class AbstractAssemblerProcessor<A extends Assembler> implements Assemb
 
     protected abstract void doAssemble(Map<String, Object> props) throws AssemblerProcessingException;
 
+    /**
+     * Computes a digest of the assembler inputs, or {@code null} unless incremental assembly
+     * has been enabled with {@code assemble.incremental}.
+     */
+    protected String resolveFingerprint(Map<String, Object> props) throws IOException {
+        if (!context.getModel().getAssemble().isIncremental()) return null;
+
+        AssemblerFingerprint fingerprint = new AssemblerFingerprint();
+        fingerprint(fingerprint, props);
+        return fingerprint.digest();
+    }
+
+    protected void fingerprint(AssemblerFingerprint fingerprint, Map<String, Object> props) throws IOException {
+        Commit commit = context.getModel().getCommit();
+        fingerprint.add("jreleaser", JReleaserVersion.getPlainVersion())
+            .add("version", context.getModel().getProject().getResolvedVersion())
+            .add("commit", null != commit ? commit.getFullHash() : "")
+            .add("project", context.getModel().getProject().asMap(true))
+            .add("assembler", assembler.asMap(true));
+
+        if (assembler.isReproducible()) {
+            // SOURCE_DATE_EPOCH may change between runs without touching the model
+            fingerprint.add("timestamp", resolveArchiveTimestamp().toMillis());
+        }
+
+        for (FileSet fileSet : assembler.getFileSets()) {
+            Path src = context.getBasedir().resolve(fileSet.getResolvedInput(context));
+            fingerprint.add("fileSet.output", fileSet.getResolvedOutput(context));
+            for (Path path : fileSet.getResolvedPaths(context)) {
+                fingerprint.addPath("fileSet", src.resolve(path));
+            }
+        }
+    }
+
+    protected boolean isUpToDate(Path assembleDirectory, String fingerprint) throws IOException {
+        if (null == fingerprint) return false;
+
+        Path fingerprintFile = resolveFingerprintFile();
+        if (AssemblerFingerprint.isUpToDate(fingerprintFile, fingerprint, assembleDirectory)) {
+            context.getLogger().info(RB.$("assembler.up.to.date"), assembler.getName());
+            return true;
+        }
+
+        // outputs are about to change, a partial assembly must not look up to date
+        Files.deleteIfExists(fingerprintFile);
+        return false;
+    }
+
+    protected void saveFingerprint(Path assembleDirectory, String fingerprint) throws IOException {
+        if (null == fingerprint) return;
+        AssemblerFingerprint.save(resolveFingerprintFile(), fingerprint, assembleDirectory);
+    }
+
+    private Path resolveFingerprintFile() {
+        return context.getAssembleDirectory()
+            .resolve(".fingerprints")
+            .resolve(assembler.getType() + "-" + assembler.getName() + ".properties");
+    }
+
     protected void writeFile(String content, Path outputFile) throws AssemblerProcessingException {
         try {
             createDirectoriesWithFullAccess(outputFile.getParent());
@@ -190,6 +259,35 @@ abstract class AbstractAssemblerProcessor<A extends Assembler> implements Assemb
         }
     }
 
+    protected FileUtils.ArchiveOptions resolveArchiveOptions() {
+        FileUtils.ArchiveOptions options = new FileUtils.ArchiveOptions();
+        if (assembler.isReproducible()) {
+            FileTime timestamp = resolveArchiveTimestamp();
+            context.getLogger().debug(RB.$("assembler.reproducible.timestamp"), timestamp);
+            options.withTimestamp(timestamp);
+        }
+        return options;
+    }
+
+    private FileTime resolveArchiveTimestamp() {
+        String sourceDateEpoch = System.getenv("SOURCE_DATE_EPOCH");
+        if (isNotBlank(sourceDateEpoch)) {
+            try {
+                return FileTime.from(Long.parseLong(sourceDateEpoch.trim()), TimeUnit.SECONDS);
+            } catch (NumberFormatException e) {
+                context.getLogger().warn(RB.$("WARN_assembler_invalid_source_date_epoch"), sourceDateEpoch);
+            }
+        }
+
+        Commit commit = context.getModel().getCommit();
+        if (null != commit && commit.getTimestamp() > 0) {
+            return FileTime.from(commit.getTimestamp(), TimeUnit.SECONDS);
+        }
+
+        // earliest time that can be stored in a zip entry
+        return FileTime.from(ZonedDateTime.of(1980, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant());
+    }
+
     protected String maybeQuote(String str) {
         return isWindows() ? quote(str) : str;
     }
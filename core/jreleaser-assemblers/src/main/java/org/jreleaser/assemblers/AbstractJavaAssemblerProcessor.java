@@ -19,24 +19,33 @@ package org.jreleaser.assemblers;
 
 import org.apache.commons.io.IOUtils;
 import org.jreleaser.bundle.RB;
+import org.jreleaser.model.Artifact;
 import org.jreleaser.model.Glob;
 import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.JavaAssembler;
 import org.jreleaser.model.Project;
 import org.jreleaser.model.assembler.spi.AssemblerProcessingException;
+import org.jreleaser.model.util.Artifacts;
 import org.jreleaser.templates.TemplateResource;
 import org.jreleaser.util.Constants;
+import org.jreleaser.util.FileType;
+import org.jreleaser.util.JdkCache;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.jreleaser.templates.TemplateUtils.resolveAndMergeTemplates;
 import static org.jreleaser.util.MustacheUtils.applyTemplate;
+import static org.jreleaser.util.StringUtils.isBlank;
+import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
  * @author Andres Almiray
@@ -63,6 +72,12 @@ abstract class AbstractJavaAssemblerProcessor<A extends JavaAssembler> extends A
             context.getLogger().debug(RB.$("packager.create.properties"), assembler.getType(), assembler.getName());
             Map<String, Object> newProps = fillProps(props);
 
+            Path assembleDirectory = (Path) props.get(Constants.KEY_DISTRIBUTION_ASSEMBLE_DIRECTORY);
+            Files.createDirectories(assembleDirectory);
+
+            String fingerprint = resolveFingerprint(newProps);
+            if (isUpToDate(assembleDirectory, fingerprint)) return;
+
             context.getLogger().debug(RB.$("packager.resolve.templates"), assembler.getType(), assembler.getName());
             Map<String, TemplateResource> templates = resolveAndMergeTemplates(context.getLogger(),
                 assembler.getType(),
@@ -85,19 +100,64 @@ abstract class AbstractJavaAssemblerProcessor<A extends JavaAssembler> extends A
                 }
             }
 
-            Path assembleDirectory = (Path) props.get(Constants.KEY_DISTRIBUTION_ASSEMBLE_DIRECTORY);
-            Files.createDirectories(assembleDirectory);
-
             doAssemble(newProps);
+            saveFingerprint(assembleDirectory, fingerprint);
         } catch (IllegalArgumentException | IOException e) {
             throw new AssemblerProcessingException(e);
         }
     }
 
+    @Override
+    protected void fingerprint(AssemblerFingerprint fingerprint, Map<String, Object> props) throws IOException {
+        super.fingerprint(fingerprint, props);
+
+        if (null != assembler.getMainJar() && isNotBlank(assembler.getMainJar().getPath())) {
+            fingerprint.addPath("mainJar", assembler.getMainJar().getEffectivePath(context, assembler));
+        }
+
+        List<Glob> globs = new ArrayList<>();
+        assembler.getJars().stream()
+            .filter(glob -> isBlank(glob.getPlatform()) || context.isPlatformSelected(glob.getPlatform()))
+            .forEach(globs::add);
+        globs.addAll(assembler.getFiles());
+        Artifacts.resolveGlobs(context, globs);
+        for (Glob glob : globs) {
+            for (Artifact artifact : glob.getResolvedArtifacts(context)) {
+                fingerprint.addPath("glob", artifact.getResolvedPath(context, assembler));
+            }
+        }
+
+        if (isNotBlank(assembler.getTemplateDirectory())) {
+            fingerprint.addPath("templates", context.getBasedir().resolve(assembler.getTemplateDirectory()));
+        }
+    }
+
+    /**
+     * Returns the home of the given JDK. JDKs given as archives are unpacked once into
+     * the shared {@link JdkCache} and reused by later builds.
+     */
+    protected Path resolveJdkPath(Artifact jdk) throws AssemblerProcessingException {
+        Path path = jdk.getEffectivePath(context, assembler);
+        Optional<FileType> fileType = FileType.getFileType(path);
+        if (!Files.isRegularFile(path) || !fileType.isPresent() || !fileType.get().archive()) {
+            return path;
+        }
+
+        try {
+            JdkCache cache = JdkCache.getDefault();
+            Path home = JdkCache.resolveJdkHome(cache.unpack(path));
+            context.getLogger().debug(RB.$("assembler.jdk.cached"), path.getFileName(), home);
+            return home;
+        } catch (IOException e) {
+            throw new AssemblerProcessingException(RB.$("ERROR_assembler_unpack_jdk", context.relativizeToBasedir(path)), e);
+        }
+    }
+
     protected Set<Path> copyFiles(JReleaserContext context, Path destination) throws AssemblerProcessingException {
         Set<Path> paths = new LinkedHashSet<>();
 
         // resolve all first
+        Artifacts.resolveGlobs(context, assembler.getFiles());
         for (Glob glob : assembler.getFiles()) {
             glob.getResolvedArtifacts(context).stream()
                 .map(artifact -> artifact.getResolvedPath(context, assembler))
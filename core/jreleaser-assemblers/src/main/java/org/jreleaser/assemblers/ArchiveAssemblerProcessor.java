@@ -21,13 +21,21 @@ import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Archive;
 import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.assembler.spi.AssemblerProcessingException;
+import org.jreleaser.util.ConcurrentUtils;
 import org.jreleaser.util.Constants;
+import org.jreleaser.util.FileType;
 import org.jreleaser.util.FileUtils;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import static java.util.stream.Collectors.toList;
 
 /**
  * @author Andres Almiray
@@ -57,38 +65,83 @@ public class ArchiveAssemblerProcessor extends AbstractAssemblerProcessor<Archiv
         copyFileSets(context, archiveDirectory);
 
         // run archive x format
-        for (Archive.Format format : assembler.getFormats()) {
-            archive(workDirectory, assembleDirectory, archiveName, format);
-        }
+        archive(workDirectory, assembleDirectory, archiveName);
     }
 
-    private void archive(Path workDirectory, Path assembleDirectory, String archiveName, Archive.Format format) throws AssemblerProcessingException {
-        String finalArchiveName = archiveName + "." + format.extension();
-        context.getLogger().info("- {}", finalArchiveName);
+    private void archive(Path workDirectory, Path assembleDirectory, String archiveName) throws AssemblerProcessingException {
+        List<Archive.Format> formats = new ArrayList<>(assembler.getFormats());
+        List<Archive.Format> tarFormats = formats.stream()
+            .filter(format -> format != Archive.Format.ZIP)
+            .collect(toList());
+
+        // Block-parallel compression writes a sequence of independently compressed 4 MB members.
+        // Every member is valid gzip/bzip2/xz, yet some readers stop after the first one, the xz
+        // ratio drops as the dictionary is reset on every block, and each worker holds its own
+        // encoder (~94 MB for xz). Hence plain single-stream output unless explicitly requested.
+        Integer parallelism = assembler.getParallelism();
+        ExecutorService compressor = null;
+        FileUtils.ArchiveOptions archiveOptions = resolveArchiveOptions();
+        if (null != parallelism && parallelism > 1) {
+            compressor = ConcurrentUtils.newExecutor("archive-compress", parallelism);
+            archiveOptions = archiveOptions.withExecutor(compressor, parallelism);
+        }
+        FileUtils.ArchiveOptions options = archiveOptions;
 
         try {
-            Path archiveFile = assembleDirectory.resolve(finalArchiveName);
-            switch (format) {
-                case ZIP:
-                    FileUtils.zip(workDirectory, archiveFile);
-                    break;
-                case TAR:
-                    FileUtils.tar(workDirectory, archiveFile);
-                    break;
-                case TGZ:
-                case TAR_GZ:
-                    FileUtils.tgz(workDirectory, archiveFile);
-                    break;
-                case TXZ:
-                case TAR_XZ:
-                    FileUtils.xz(workDirectory, archiveFile);
-                    break;
-                case TBZ2:
-                case TAR_BZ2:
-                    FileUtils.bz2(workDirectory, archiveFile);
+            if (tarFormats.size() < 2) {
+                ConcurrentUtils.invokeAll("archive", formats.size(), formats, context.getLogger().scoped(format -> {
+                    archive(workDirectory, assembleDirectory, archiveName, format, options);
+                    return format;
+                }));
+                return;
+            }
+
+            // walk the work directory once for all tar based formats, then compress the tarball concurrently
+            boolean tarRequested = tarFormats.remove(Archive.Format.TAR);
+            Path tarball = tarRequested ? assembleDirectory.resolve(archiveName + "." + Archive.Format.TAR.extension()) :
+                Files.createTempFile(assembleDirectory, "jreleaser-" + archiveName, "." + Archive.Format.TAR.extension());
+            try {
+                List<Archive.Format> sources = new ArrayList<>();
+                if (formats.contains(Archive.Format.ZIP)) sources.add(Archive.Format.ZIP);
+                sources.add(Archive.Format.TAR);
+                ConcurrentUtils.invokeAll("archive", sources.size(), sources, context.getLogger().scoped(format -> {
+                    if (format == Archive.Format.ZIP) {
+                        archive(workDirectory, assembleDirectory, archiveName, format, options);
+                    } else {
+                        if (tarRequested) context.getLogger().info("- {}", tarball.getFileName());
+                        FileUtils.tar(workDirectory, tarball, FileType.TAR, options);
+                    }
+                    return format;
+                }));
+
+                ConcurrentUtils.invokeAll("archive", tarFormats.size(), tarFormats, context.getLogger().scoped(format -> {
+                    Path archiveFile = assembleDirectory.resolve(archiveName + "." + format.extension());
+                    context.getLogger().info("- {}", archiveFile.getFileName());
+                    FileUtils.compress(tarball, archiveFile, FileType.of(format.extension()), options);
+                    return format;
+                }));
+            } finally {
+                if (!tarRequested) Files.deleteIfExists(tarball);
             }
         } catch (IOException e) {
             throw new AssemblerProcessingException(RB.$("ERROR_unexpected_error"), e);
+        } catch (ExecutionException e) {
+            throw new AssemblerProcessingException(RB.$("ERROR_unexpected_error"), e.getCause());
+        } finally {
+            if (null != compressor) compressor.shutdownNow();
+        }
+    }
+
+    private void archive(Path workDirectory, Path assembleDirectory, String archiveName, Archive.Format format,
+                         FileUtils.ArchiveOptions options) throws IOException {
+        String finalArchiveName = archiveName + "." + format.extension();
+        context.getLogger().info("- {}", finalArchiveName);
+
+        Path archiveFile = assembleDirectory.resolve(finalArchiveName);
+        if (format == Archive.Format.ZIP) {
+            FileUtils.zip(workDirectory, archiveFile, options);
+        } else {
+            FileUtils.tar(workDirectory, archiveFile, FileType.of(format.extension()), options);
         }
     }
 }
@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.assemblers;
+
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Digest of everything an assembler reads, plus a record of the files it wrote.
+ * An assembler whose inputs match the stored digest and whose outputs are still
+ * in place does not need to run again.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+final class AssemblerFingerprint {
+    private static final String KEY_INPUTS = "inputs";
+    private static final String KEY_OUTPUT_PREFIX = "output.";
+
+    private final MessageDigest digest;
+    private final byte[] buffer = new byte[64 * 1024];
+
+    AssemblerFingerprint() throws IOException {
+        this.digest = ChecksumUtils.createDigest(Algorithm.SHA_256);
+    }
+
+    AssemblerFingerprint add(String key, Object value) {
+        update(key);
+        update(String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * Adds the contents of a file, or of every file inside a directory.
+     */
+    AssemblerFingerprint addPath(String key, Path path) throws IOException {
+        update(key);
+        update(path.toAbsolutePath().normalize().toString());
+
+        if (Files.isDirectory(path)) {
+            for (Path file : listFiles(path)) {
+                update(path.relativize(file).toString());
+                updateContent(file);
+            }
+        } else if (Files.isRegularFile(path)) {
+            updateContent(path);
+        } else {
+            update("<missing>");
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds a JDK. Hashing a whole JDK costs more than most assemblies, so an unpacked JDK
+     * is identified by its location and its {@code release} file instead.
+     */
+    AssemblerFingerprint addJdk(String key, Path path) throws IOException {
+        if (!Files.isDirectory(path)) return addPath(key, path);
+
+        update(key);
+        update(path.toAbsolutePath().normalize().toString());
+        Path release = path.resolve("release");
+        if (Files.isRegularFile(release)) {
+            updateContent(release);
+        }
+        update(String.valueOf(Files.getLastModifiedTime(path).toMillis()));
+        return this;
+    }
+
+    String digest() {
+        StringBuilder b = new StringBuilder();
+        for (byte x : digest.digest()) {
+            b.append(String.format("%02x", x));
+        }
+        return b.toString();
+    }
+
+    static boolean isUpToDate(Path fingerprintFile, String inputs, Path outputDirectory) throws IOException {
+        if (!Files.isRegularFile(fingerprintFile)) return false;
+
+        Properties stored = new Properties();
+        try (InputStream in = Files.newInputStream(fingerprintFile)) {
+            stored.load(in);
+        }
+
+        if (!inputs.equals(stored.getProperty(KEY_INPUTS))) return false;
+
+        boolean hasOutputs = false;
+        for (String key : stored.stringPropertyNames()) {
+            if (!key.startsWith(KEY_OUTPUT_PREFIX)) continue;
+            hasOutputs = true;
+            Path output = outputDirectory.resolve(key.substring(KEY_OUTPUT_PREFIX.length()));
+            if (!Files.isRegularFile(output) || !describe(output).equals(stored.getProperty(key))) {
+                return false;
+            }
+        }
+
+        return hasOutputs;
+    }
+
+    static void save(Path fingerprintFile, String inputs, Path outputDirectory) throws IOException {
+        Map<String, String> entries = new TreeMap<>();
+        entries.put(KEY_INPUTS, inputs);
+        try (Stream<Path> files = Files.list(outputDirectory)) {
+            for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                entries.put(KEY_OUTPUT_PREFIX + file.getFileName().toString(), describe(file));
+            }
+        }
+
+        Properties properties = new Properties();
+        properties.putAll(entries);
+        Files.createDirectories(fingerprintFile.getParent());
+        try (OutputStream out = Files.newOutputStream(fingerprintFile)) {
+            properties.store(out, null);
+        }
+    }
+
+    private static String describe(Path file) throws IOException {
+        return Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis();
+    }
+
+    private static List<Path> listFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile)
+                .sorted(Comparator.comparing(Path::toString))
+                .collect(Collectors.toList());
+        }
+    }
+
+    private void update(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(bytes);
+        // separator, so that ("ab", "c") and ("a", "bc") differ
+        digest.update((byte) 0);
+    }
+
+    private void updateContent(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        digest.update((byte) 0);
+    }
+}
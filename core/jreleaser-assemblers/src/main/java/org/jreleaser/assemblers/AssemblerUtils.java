@@ -22,6 +22,7 @@ import org.jreleaser.model.Glob;
 import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.JavaAssembler;
 import org.jreleaser.model.assembler.spi.AssemblerProcessingException;
+import org.jreleaser.model.util.Artifacts;
 import org.jreleaser.util.PlatformUtils;
 
 import java.io.File;
@@ -29,7 +30,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 
@@ -79,16 +82,22 @@ public final class AssemblerUtils {
             paths.add(assembler.getMainJar().getEffectivePath(context, assembler));
         }
 
+        List<Glob> globs = new ArrayList<>();
         for (Glob glob : assembler.getJars()) {
             boolean platformIsBlank = isBlank(platform) && isBlank(glob.getPlatform());
             boolean platformIsCompatible = isNotBlank(platform) && PlatformUtils.isCompatible(platform, glob.getPlatform());
             if (platformIsBlank || platformIsCompatible) {
-                glob.getResolvedArtifacts(context).stream()
-                    .map(artifact -> artifact.getResolvedPath(context, assembler))
-                    .forEach(paths::add);
+                globs.add(glob);
             }
         }
 
+        Artifacts.resolveGlobs(context, globs);
+        for (Glob glob : globs) {
+            glob.getResolvedArtifacts(context).stream()
+                .map(artifact -> artifact.getResolvedPath(context, assembler))
+                .forEach(paths::add);
+        }
+
         // copy all next
         try {
             Files.createDirectories(jarsDirectory);
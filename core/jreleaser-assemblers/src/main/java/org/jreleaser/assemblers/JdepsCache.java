@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.assemblers;
+
+import org.jreleaser.model.assembler.spi.AssemblerProcessingException;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Module names computed by jdeps, keyed by the digest of everything jdeps reads: the
+ * contents of the jars, the JDK version and the jdeps options. Platforms that share
+ * the same jars resolve their modules once, and reruns reuse previous results.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+final class JdepsCache {
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+    private final Map<String, String> hashes = new ConcurrentHashMap<>();
+    // guarded by itself, entries are read, written and snapshot under the same lock
+    private final Map<String, String> entries = new TreeMap<>();
+    private final Path file;
+
+    private JdepsCache(Path file) {
+        this.file = file;
+    }
+
+    static JdepsCache load(Path file) {
+        JdepsCache cache = new JdepsCache(file);
+        if (Files.isRegularFile(file)) {
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            } catch (IOException | IllegalArgumentException e) {
+                // a damaged cache is as good as an empty one
+                properties.clear();
+            }
+            for (String key : properties.stringPropertyNames()) {
+                cache.entries.put(key, properties.getProperty(key));
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the digest of a jar's contents, computed once per jar.
+     */
+    String hash(Path jar) throws IOException {
+        String key = jar.toAbsolutePath().normalize().toString();
+        String hash = hashes.get(key);
+        if (null == hash) {
+            hash = ChecksumUtils.checksum(Algorithm.SHA_256, jar);
+            hashes.put(key, hash);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns cached module names for the given key, otherwise calls the resolver and stores
+     * its result. Concurrent callers with the same key wait for the first one to finish.
+     */
+    Set<String> resolve(String key, Resolver resolver) throws AssemblerProcessingException {
+        synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+            Set<String> cached = get(key);
+            if (!cached.isEmpty()) {
+                return cached;
+            }
+
+            Set<String> moduleNames = resolver.resolve();
+            if (!moduleNames.isEmpty()) {
+                // an empty result is not cached, it would read back as a single blank module name
+                synchronized (entries) {
+                    entries.put(key, String.join(",", new TreeSet<>(moduleNames)));
+                }
+                save();
+            }
+            return moduleNames;
+        }
+    }
+
+    boolean contains(String key) {
+        return !get(key).isEmpty();
+    }
+
+    private Set<String> get(String key) {
+        String cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (null == cached) return Collections.emptySet();
+
+        return Arrays.stream(cached.split(","))
+            .map(String::trim)
+            .filter(StringUtils::isNotBlank)
+            .collect(toSet());
+    }
+
+    private synchronized void save() {
+        Properties properties = new Properties();
+        synchronized (entries) {
+            properties.putAll(entries);
+        }
+
+        Path tmp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                properties.store(out, null);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // results are still cached for this run
+            deleteQuietly(tmp);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (null == path) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // noop
+        }
+    }
+
+    interface Resolver {
+        Set<String> resolve() throws AssemblerProcessingException;
+    }
+}
@@ -20,11 +20,17 @@ package org.jreleaser.assemblers;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Archive;
 import org.jreleaser.model.Artifact;
+import org.jreleaser.model.Glob;
 import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.Jlink;
 import org.jreleaser.model.Project;
 import org.jreleaser.model.assembler.spi.AssemblerProcessingException;
+import org.jreleaser.model.util.Artifacts;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ConcurrentUtils;
 import org.jreleaser.util.Constants;
+import org.jreleaser.util.FileType;
 import org.jreleaser.util.FileUtils;
 import org.jreleaser.util.PlatformUtils;
 import org.jreleaser.util.SemVer;
@@ -36,13 +42,19 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Stream;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.jreleaser.assemblers.AssemblerUtils.copyJars;
 import static org.jreleaser.assemblers.AssemblerUtils.readJavaVersion;
@@ -62,10 +74,20 @@ public class JlinkAssemblerProcessor extends AbstractJavaAssemblerProcessor<Jlin
         super(context);
     }
 
+    @Override
+    protected void fingerprint(AssemblerFingerprint fingerprint, Map<String, Object> props) throws IOException {
+        super.fingerprint(fingerprint, props);
+        fingerprint.addJdk("jdk", assembler.getJdk().getEffectivePath(context, assembler));
+        for (Artifact targetJdk : assembler.getTargetJdks()) {
+            if (!context.isPlatformSelected(targetJdk)) continue;
+            fingerprint.addJdk("targetJdk", targetJdk.getEffectivePath(context, assembler));
+        }
+    }
+
     @Override
     protected void doAssemble(Map<String, Object> props) throws AssemblerProcessingException {
         // verify jdk
-        Path jdkPath = assembler.getJdk().getEffectivePath(context, assembler);
+        Path jdkPath = resolveJdkPath(assembler.getJdk());
         SemVer jdkVersion = SemVer.of(readJavaVersion(jdkPath));
         context.getLogger().debug(RB.$("assembler.jlink.jdk"), jdkVersion, jdkPath.toAbsolutePath().toString());
 
@@ -73,7 +95,7 @@ public class JlinkAssemblerProcessor extends AbstractJavaAssemblerProcessor<Jlin
         for (Artifact targetJdk : assembler.getTargetJdks()) {
             if (!context.isPlatformSelected(targetJdk)) continue;
 
-            Path targetJdkPath = targetJdk.getEffectivePath(context, assembler);
+            Path targetJdkPath = resolveJdkPath(targetJdk);
             SemVer targetJdkVersion = SemVer.of(readJavaVersion(targetJdkPath));
             context.getLogger().debug(RB.$("assembler.jlink.target"), jdkVersion, targetJdkPath.toAbsolutePath().toString());
 
@@ -91,38 +113,75 @@ public class JlinkAssemblerProcessor extends AbstractJavaAssemblerProcessor<Jlin
             imageName = assembler.getResolvedImageNameTransform(context);
         }
 
-        for (Artifact targetJdk : assembler.getTargetJdks()) {
-            if (!context.isPlatformSelected(targetJdk)) continue;
+        List<Artifact> targetJdks = assembler.getTargetJdks().stream()
+            .filter(context::isPlatformSelected)
+            .collect(toList());
 
-            String platform = targetJdk.getPlatform();
-            // copy jars to assembly
-            Path jarsDirectory = inputsDirectory.resolve("jars");
-            Path universalJarsDirectory = jarsDirectory.resolve("universal");
-            context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(universalJarsDirectory));
-            Set<Path> jars = copyJars(context, assembler, universalJarsDirectory, "");
-            Path platformJarsDirectory = jarsDirectory.resolve(platform);
-            context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(platformJarsDirectory));
-            jars.addAll(copyJars(context, assembler, platformJarsDirectory, platform));
-
-            // resolve module names
-            Set<String> moduleNames = new TreeSet<>(resolveModuleNames(context, jdkPath, jarsDirectory, platform, props));
-            context.getLogger().debug(RB.$("assembler.resolved.module.names"), moduleNames);
-            if (moduleNames.isEmpty()) {
-                throw new AssemblerProcessingException(RB.$("ERROR_assembler_no_module_names"));
-            }
-            moduleNames.addAll(assembler.getAdditionalModuleNames());
-            if (isNotBlank(assembler.getJava().getMainModule())) {
-                moduleNames.add(assembler.getJava().getMainModule());
+        // shared inputs are prepared once, before platforms run concurrently
+        Path jarsDirectory = inputsDirectory.resolve("jars");
+        Path universalJarsDirectory = jarsDirectory.resolve("universal");
+        context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(universalJarsDirectory));
+        copyJars(context, assembler, universalJarsDirectory, "");
+        List<Glob> globs = new ArrayList<>(assembler.getFiles());
+        assembler.getJars().stream()
+            .filter(glob -> isNotBlank(glob.getPlatform()) && context.isPlatformSelected(glob.getPlatform()))
+            .forEach(globs::add);
+        Artifacts.resolveGlobs(context, globs);
+
+        JdepsCache jdepsCache = JdepsCache.load(context.getAssembleDirectory().resolve(".jdeps.properties"));
+        String finalImageName = imageName;
+        // targets sharing a platform would share a work directory too
+        long platforms = targetJdks.stream().map(Artifact::getPlatform).distinct().count();
+        int parallelism = platforms < targetJdks.size() ? 1 : ConcurrentUtils.resolveParallelism(assembler.getParallelism());
+
+        List<String> failedPlatforms = Collections.synchronizedList(new ArrayList<>());
+        try {
+            ConcurrentUtils.invokeAll("jlink", parallelism, targetJdks, context.getLogger().scoped(targetJdk -> {
+                try {
+                    return jlink(assembleDirectory, jdkPath, jdkVersion, targetJdk, finalImageName, jdepsCache, props);
+                } catch (Exception e) {
+                    failedPlatforms.add(targetJdk.getPlatform());
+                    context.getLogger().error(RB.$("ERROR_assembler_jlink_platform", targetJdk.getPlatform(), e.getMessage()));
+                    throw e;
+                }
+            }));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (failedPlatforms.size() == 1 && cause instanceof AssemblerProcessingException) {
+                throw (AssemblerProcessingException) cause;
             }
-            context.getLogger().debug(RB.$("assembler.module.names"), moduleNames);
-
-            String str = targetJdk.getExtraProperties()
-                .getOrDefault("archiveFormat", "ZIP")
-                .toString();
-            Archive.Format archiveFormat = Archive.Format.of(str);
+            failedPlatforms.sort(null);
+            throw new AssemblerProcessingException(RB.$("ERROR_assembler_jlink_platforms", failedPlatforms), e);
+        }
+    }
 
-            jlink(assembleDirectory, jdkPath, targetJdk, moduleNames, imageName, archiveFormat);
+    private Artifact jlink(Path assembleDirectory, Path jdkPath, SemVer jdkVersion, Artifact targetJdk, String imageName,
+                           JdepsCache jdepsCache, Map<String, Object> props) throws AssemblerProcessingException {
+        String platform = targetJdk.getPlatform();
+        // copy jars to assembly
+        Path jarsDirectory = assembleDirectory.resolve("inputs").resolve("jars");
+        Path platformJarsDirectory = jarsDirectory.resolve(platform);
+        context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(platformJarsDirectory));
+        copyJars(context, assembler, platformJarsDirectory, platform);
+
+        // resolve module names
+        Set<String> moduleNames = new TreeSet<>(resolveModuleNames(context, jdkPath, jdkVersion, jarsDirectory, platform, jdepsCache, props));
+        context.getLogger().debug(RB.$("assembler.resolved.module.names"), moduleNames);
+        if (moduleNames.isEmpty()) {
+            throw new AssemblerProcessingException(RB.$("ERROR_assembler_no_module_names"));
         }
+        moduleNames.addAll(assembler.getAdditionalModuleNames());
+        if (isNotBlank(assembler.getJava().getMainModule())) {
+            moduleNames.add(assembler.getJava().getMainModule());
+        }
+        context.getLogger().debug(RB.$("assembler.module.names"), moduleNames);
+
+        String str = targetJdk.getExtraProperties()
+            .getOrDefault("archiveFormat", "ZIP")
+            .toString();
+        Archive.Format archiveFormat = Archive.Format.of(str);
+
+        return jlink(assembleDirectory, jdkPath, targetJdk, moduleNames, imageName, archiveFormat);
     }
 
     private Artifact jlink(Path assembleDirectory, Path jdkPath, Artifact targetJdk, Set<String> moduleNames, String imageName, Archive.Format archiveFormat) throws AssemblerProcessingException {
@@ -143,7 +202,7 @@ public class JlinkAssemblerProcessor extends AbstractJavaAssemblerProcessor<Jlin
 
         // jlink it
         String moduleName = assembler.getJava().getMainModule();
-        String modulePath = maybeQuote(targetJdk.getEffectivePath(context, assembler).resolve("jmods").toAbsolutePath().toString());
+        String modulePath = maybeQuote(resolveJdkPath(targetJdk).resolve("jmods").toAbsolutePath().toString());
         if (isNotBlank(moduleName) || assembler.isCopyJars()) {
             modulePath += File.pathSeparator + maybeQuote(jarsDirectory
                 .resolve("universal")
@@ -225,24 +284,11 @@ public class JlinkAssemblerProcessor extends AbstractJavaAssemblerProcessor<Jlin
             copyFiles(context, imageDirectory);
             copyFileSets(context, imageDirectory);
 
-            switch (archiveFormat) {
-                case ZIP:
-                    FileUtils.zip(workDirectory, imageArchive);
-                    break;
-                case TAR:
-                    FileUtils.tar(workDirectory, imageArchive);
-                    break;
-                case TGZ:
-                case TAR_GZ:
-                    FileUtils.tgz(workDirectory, imageArchive);
-                    break;
-                case TXZ:
-                case TAR_XZ:
-                    FileUtils.xz(workDirectory, imageArchive);
-                    break;
-                case TBZ2:
-                case TAR_BZ2:
-                    FileUtils.bz2(workDirectory, imageArchive);
+            FileUtils.ArchiveOptions options = resolveArchiveOptions();
+            if (archiveFormat == Archive.Format.ZIP) {
+                FileUtils.zip(workDirectory, imageArchive, options);
+            } else {
+                FileUtils.tar(workDirectory, imageArchive, FileType.of(archiveFormat.extension()), options);
             }
 
             context.getLogger().debug("- {}", imageArchive.getFileName());
@@ -253,11 +299,48 @@ public class JlinkAssemblerProcessor extends AbstractJavaAssemblerProcessor<Jlin
         }
     }
 
-    private Set<String> resolveModuleNames(JReleaserContext context, Path jdkPath, Path jarsDirectory, String platform, Map<String, Object> props) throws AssemblerProcessingException {
+    private Set<String> resolveModuleNames(JReleaserContext context, Path jdkPath, SemVer jdkVersion, Path jarsDirectory, String platform,
+                                           JdepsCache jdepsCache, Map<String, Object> props) throws AssemblerProcessingException {
         if (!assembler.getModuleNames().isEmpty()) {
             return assembler.getModuleNames();
         }
 
+        String key = resolveJdepsCacheKey(jdkVersion, jarsDirectory, platform, jdepsCache, props);
+        if (jdepsCache.contains(key)) {
+            context.getLogger().debug(RB.$("assembler.jdeps.cached"), platform);
+        }
+
+        return jdepsCache.resolve(key, () -> jdeps(context, jdkPath, jarsDirectory, platform, props));
+    }
+
+    private String resolveJdepsCacheKey(SemVer jdkVersion, Path jarsDirectory, String platform,
+                                         JdepsCache jdepsCache, Map<String, Object> props) throws AssemblerProcessingException {
+        Jlink.Jdeps jdeps = assembler.getJdeps();
+        StringBuilder key = new StringBuilder()
+            .append("jdk=").append(jdkVersion).append('\n')
+            .append("multiRelease=").append(jdeps.getMultiRelease()).append('\n')
+            .append("ignoreMissingDeps=").append(jdeps.isIgnoreMissingDeps()).append('\n')
+            .append("useWildcardInPath=").append(jdeps.isUseWildcardInPath()).append('\n')
+            .append("mainModule=").append(assembler.getJava().getMainModule()).append('\n');
+        jdeps.getTargets().stream()
+            .map(target -> resolveTemplate(target, props))
+            .forEach(target -> key.append("target=").append(target).append('\n'));
+
+        try {
+            // jar names matter to jdeps targets, their location does not
+            for (String directory : Arrays.asList("universal", platform)) {
+                key.append("jars=").append('\n');
+                for (Path jar : listFilesAndProcess(jarsDirectory.resolve(directory), files -> files.sorted().collect(toList()))) {
+                    key.append(jar.getFileName()).append('=').append(jdepsCache.hash(jar)).append('\n');
+                }
+            }
+            return ChecksumUtils.checksum(Algorithm.SHA_256, key.toString().getBytes(UTF_8));
+        } catch (IOException e) {
+            throw new AssemblerProcessingException(RB.$("ERROR_assembler_jdeps_error", e.getMessage()));
+        }
+    }
+
+    private Set<String> jdeps(JReleaserContext context, Path jdkPath, Path jarsDirectory, String platform, Map<String, Object> props) throws AssemblerProcessingException {
         Path jdepsExecutable = jdkPath
             .resolve("bin")
             .resolve(PlatformUtils.isWindows() ? "jdeps.exe" : "jdeps")
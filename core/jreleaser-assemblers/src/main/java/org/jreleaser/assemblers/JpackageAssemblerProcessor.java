@@ -58,12 +58,37 @@ public class JpackageAssemblerProcessor extends AbstractJavaAssemblerProcessor<J
         super(context);
     }
 
+    @Override
+    protected void fingerprint(AssemblerFingerprint fingerprint, Map<String, Object> props) throws IOException {
+        super.fingerprint(fingerprint, props);
+        Jpackage.PlatformPackager packager = assembler.getResolvedPlatformPackager();
+        fingerprint.addJdk("jdk", packager.getJdk().getEffectivePath(context, assembler));
+        for (Artifact runtimeImage : assembler.getRuntimeImages()) {
+            if (!context.isPlatformSelected(runtimeImage)) continue;
+            fingerprint.addPath("runtimeImage", runtimeImage.getEffectivePath(context, assembler));
+        }
+
+        addPath(fingerprint, "icon", packager.getIcon(), props);
+        addPath(fingerprint, "licenseFile", assembler.getApplicationPackage().getLicenseFile(), props);
+        for (String filename : assembler.getApplicationPackage().getFileAssociations()) {
+            addPath(fingerprint, "fileAssociations", filename, props);
+        }
+        addPath(fingerprint, "resourceDir", packager.getResourceDir(), props);
+    }
+
+    private void addPath(AssemblerFingerprint fingerprint, String key, String path, Map<String, Object> props) throws IOException {
+        String resolvedPath = resolveTemplate(path, props);
+        if (isNotBlank(resolvedPath)) {
+            fingerprint.addPath(key, context.getBasedir().resolve(resolvedPath));
+        }
+    }
+
     @Override
     protected void doAssemble(Map<String, Object> props) throws AssemblerProcessingException {
         Jpackage.PlatformPackager packager = assembler.getResolvedPlatformPackager();
 
         // verify jdk
-        Path jdkPath = packager.getJdk().getEffectivePath(context, assembler);
+        Path jdkPath = resolveJdkPath(packager.getJdk());
         SemVer jdkVersion = SemVer.of(readJavaVersion(jdkPath));
         context.getLogger().debug(RB.$("assembler.jpackage.jdk"), jdkVersion, jdkPath.toAbsolutePath().toString());
         if (jdkVersion.getMajor() < 16) {
@@ -160,7 +185,7 @@ public class JpackageAssemblerProcessor extends AbstractJavaAssemblerProcessor<J
 
     private void jpackage(JReleaserContext context, String type, Path workDirectory, Map<String, Object> props) throws AssemblerProcessingException {
         Jpackage.PlatformPackager packager = assembler.getResolvedPlatformPackager();
-        Path jdkPath = packager.getJdk().getEffectivePath(context, assembler);
+        Path jdkPath = resolveJdkPath(packager.getJdk());
         String platform = packager.getJdk().getPlatform();
         String platformReplaced = assembler.getPlatform().applyReplacements(platform);
 
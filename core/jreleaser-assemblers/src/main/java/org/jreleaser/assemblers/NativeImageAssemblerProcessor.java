@@ -18,6 +18,7 @@
 package org.jreleaser.assemblers;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.model.Archive;
 import org.jreleaser.model.Artifact;
 import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.NativeImage;
@@ -26,7 +27,9 @@ import org.jreleaser.model.assembler.spi.AssemblerProcessingException;
 import org.jreleaser.sdk.tool.ToolException;
 import org.jreleaser.sdk.tool.Upx;
 import org.jreleaser.util.Constants;
+import org.jreleaser.util.FileType;
 import org.jreleaser.util.FileUtils;
+import org.jreleaser.util.JdkCache;
 import org.jreleaser.util.PlatformUtils;
 import org.jreleaser.util.SemVer;
 import org.jreleaser.util.command.Command;
@@ -58,10 +61,19 @@ public class NativeImageAssemblerProcessor extends AbstractJavaAssemblerProcesso
         super(context);
     }
 
+    @Override
+    protected void fingerprint(AssemblerFingerprint fingerprint, Map<String, Object> props) throws IOException {
+        super.fingerprint(fingerprint, props);
+        fingerprint.add("platform", PlatformUtils.getCurrentFull());
+        fingerprint.addJdk("graal", assembler.getGraal().getEffectivePath(context, assembler));
+    }
+
     @Override
     protected void doAssemble(Map<String, Object> props) throws AssemblerProcessingException {
+        Path assembleDirectory = (Path) props.get(Constants.KEY_DISTRIBUTION_ASSEMBLE_DIRECTORY);
+
         // verify graal
-        Path graalPath = assembler.getGraal().getEffectivePath(context, assembler);
+        Path graalPath = resolveGraalPath(assembleDirectory);
         SemVer javaVersion = SemVer.of(readJavaVersion(graalPath));
         SemVer graalVersion = SemVer.of(readGraalVersion(graalPath));
         context.getLogger().debug(RB.$("assembler.graal.java"), javaVersion, graalPath.toAbsolutePath().toString());
@@ -69,7 +81,6 @@ public class NativeImageAssemblerProcessor extends AbstractJavaAssemblerProcesso
 
         String platform = assembler.getGraal().getPlatform();
         // copy jars to assembly
-        Path assembleDirectory = (Path) props.get(Constants.KEY_DISTRIBUTION_ASSEMBLE_DIRECTORY);
         Path jarsDirectory = assembleDirectory.resolve("jars");
         Path universalJarsDirectory = jarsDirectory.resolve("universal");
         context.getLogger().debug(RB.$("assembler.copy.jars"), context.relativizeToBasedir(universalJarsDirectory));
@@ -90,13 +101,32 @@ public class NativeImageAssemblerProcessor extends AbstractJavaAssemblerProcesso
         nativeImage(assembleDirectory, graalPath, jars, imageName);
     }
 
-    private void installNativeImage(Path graalPath) throws AssemblerProcessingException {
-        Path nativeImageExecutable = graalPath
+    private Path resolveGraalPath(Path assembleDirectory) throws AssemblerProcessingException {
+        Path archive = assembler.getGraal().getEffectivePath(context, assembler);
+        Path graalPath = resolveJdkPath(assembler.getGraal());
+        if (graalPath.equals(archive) || Files.exists(resolveNativeImageExecutable(graalPath))) {
+            return graalPath;
+        }
+
+        // gu installs into the JDK, link the shared cache entry into a private copy first
+        Path graalDirectory = assembleDirectory.resolve("graal");
+        try {
+            JdkCache.getDefault().unpack(archive, graalDirectory, false);
+            return JdkCache.resolveJdkHome(graalDirectory);
+        } catch (IOException e) {
+            throw new AssemblerProcessingException(RB.$("ERROR_assembler_unpack_jdk", context.relativizeToBasedir(archive)), e);
+        }
+    }
+
+    private Path resolveNativeImageExecutable(Path graalPath) {
+        return graalPath
             .resolve("bin")
             .resolve(PlatformUtils.isWindows() ? "native-image.cmd" : "native-image")
             .toAbsolutePath();
+    }
 
-        if (!Files.exists(nativeImageExecutable)) {
+    private void installNativeImage(Path graalPath) throws AssemblerProcessingException {
+        if (!Files.exists(resolveNativeImageExecutable(graalPath))) {
             Path guExecutable = graalPath
                 .resolve("bin")
                 .resolve(PlatformUtils.isWindows() ? "gu.cmd" : "gu")
@@ -137,12 +167,7 @@ public class NativeImageAssemblerProcessor extends AbstractJavaAssemblerProcesso
             .findFirst()
             .ifPresent(assembler.getArgs()::remove);
 
-        Path nativeImageExecutable = graalPath
-            .resolve("bin")
-            .resolve(PlatformUtils.isWindows() ? "native-image.cmd" : "native-image")
-            .toAbsolutePath();
-
-        Command cmd = new Command(nativeImageExecutable.toString(), true)
+        Command cmd = new Command(resolveNativeImageExecutable(graalPath).toString(), true)
             .args(assembler.getArgs());
 
         NativeImage.PlatformCustomizer customizer = assembler.getResolvedPlatformCustomizer();
@@ -181,24 +206,11 @@ public class NativeImageAssemblerProcessor extends AbstractJavaAssemblerProcesso
             copyFileSets(context, distDirectory);
 
             Path imageArchive = assembleDirectory.resolve(finalImageName + "." + assembler.getArchiveFormat().extension());
-            switch (assembler.getArchiveFormat()) {
-                case ZIP:
-                    FileUtils.zip(tempDirectory, imageArchive);
-                    break;
-                case TAR:
-                    FileUtils.tar(tempDirectory, imageArchive);
-                    break;
-                case TGZ:
-                case TAR_GZ:
-                    FileUtils.tgz(tempDirectory, imageArchive);
-                    break;
-                case TXZ:
-                case TAR_XZ:
-                    FileUtils.xz(tempDirectory, imageArchive);
-                    break;
-                case TBZ2:
-                case TAR_BZ2:
-                    FileUtils.bz2(tempDirectory, imageArchive);
+            FileUtils.ArchiveOptions options = resolveArchiveOptions();
+            if (assembler.getArchiveFormat() == Archive.Format.ZIP) {
+                FileUtils.zip(tempDirectory, imageArchive, options);
+            } else {
+                FileUtils.tar(tempDirectory, imageArchive, FileType.of(assembler.getArchiveFormat().extension()), options);
             }
 
             context.getLogger().debug("- {}", imageArchive.getFileName());
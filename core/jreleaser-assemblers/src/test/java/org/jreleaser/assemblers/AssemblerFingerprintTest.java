@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.assemblers;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class AssemblerFingerprintTest {
+    @Test
+    public void sameInputsProduceTheSameDigest() throws Exception {
+        // given:
+        Path dir = Files.createTempDirectory("fingerprint");
+        Files.write(dir.resolve("app.jar"), "app".getBytes(StandardCharsets.UTF_8));
+
+        // when:
+        String first = new AssemblerFingerprint()
+            .add("project", Collections.singletonMap("version", "1.0.0"))
+            .add("timestamp", 0L)
+            .addPath("fileSet", dir)
+            .digest();
+        String second = new AssemblerFingerprint()
+            .add("project", Collections.singletonMap("version", "1.0.0"))
+            .add("timestamp", 0L)
+            .addPath("fileSet", dir)
+            .digest();
+
+        // then:
+        assertThat(first, equalTo(second));
+    }
+
+    @Test
+    public void projectAndTimestampChangesProduceADifferentDigest() throws Exception {
+        // given:
+        String digest = new AssemblerFingerprint()
+            .add("project", Collections.singletonMap("description", "one"))
+            .add("timestamp", 0L)
+            .digest();
+
+        // expect:
+        assertThat(new AssemblerFingerprint()
+            .add("project", Collections.singletonMap("description", "two"))
+            .add("timestamp", 0L)
+            .digest(), not(equalTo(digest)));
+        assertThat(new AssemblerFingerprint()
+            .add("project", Collections.singletonMap("description", "one"))
+            .add("timestamp", 1000L)
+            .digest(), not(equalTo(digest)));
+    }
+
+    @Test
+    public void valuesAreSeparated() throws Exception {
+        // expect:
+        assertThat(new AssemblerFingerprint().add("ab", "c").digest(),
+            not(equalTo(new AssemblerFingerprint().add("a", "bc").digest())));
+    }
+
+    @Test
+    public void fileContentChangesProduceADifferentDigest() throws Exception {
+        // given:
+        Path dir = Files.createTempDirectory("fingerprint");
+        Path file = dir.resolve("app.jar");
+        Files.write(file, "app".getBytes(StandardCharsets.UTF_8));
+        String digest = new AssemblerFingerprint().addPath("fileSet", dir).digest();
+
+        // when:
+        Files.write(file, "app2".getBytes(StandardCharsets.UTF_8));
+
+        // then:
+        assertThat(new AssemblerFingerprint().addPath("fileSet", dir).digest(), not(equalTo(digest)));
+    }
+
+    @Test
+    public void savedFingerprintIsUpToDateUntilOutputsChange() throws Exception {
+        // given:
+        Path outputs = Files.createTempDirectory("outputs");
+        Path archive = outputs.resolve("app-1.0.0.zip");
+        Files.write(archive, "zip".getBytes(StandardCharsets.UTF_8));
+        Path fingerprintFile = Files.createTempDirectory("fingerprints").resolve("archive-app.properties");
+
+        // when:
+        AssemblerFingerprint.save(fingerprintFile, "inputs", outputs);
+
+        // then:
+        assertThat(AssemblerFingerprint.isUpToDate(fingerprintFile, "inputs", outputs), equalTo(true));
+        assertThat(AssemblerFingerprint.isUpToDate(fingerprintFile, "other", outputs), equalTo(false));
+
+        // when:
+        Files.setLastModifiedTime(archive, FileTime.fromMillis(Files.getLastModifiedTime(archive).toMillis() - 60_000L));
+
+        // then:
+        assertThat(AssemblerFingerprint.isUpToDate(fingerprintFile, "inputs", outputs), equalTo(false));
+
+        // when:
+        AssemblerFingerprint.save(fingerprintFile, "inputs", outputs);
+        Files.delete(archive);
+
+        // then:
+        assertThat(AssemblerFingerprint.isUpToDate(fingerprintFile, "inputs", outputs), equalTo(false));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.assemblers;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class JdepsCacheTest {
+    @Test
+    public void resultsAreReusedAcrossRuns() throws Exception {
+        // given:
+        Path file = Files.createTempDirectory("jdeps").resolve(".jdeps.properties");
+        Set<String> modules = new HashSet<>(Arrays.asList("java.base", "java.logging"));
+        AtomicInteger calls = new AtomicInteger();
+
+        // when:
+        Set<String> first = JdepsCache.load(file).resolve("key", () -> {
+            calls.incrementAndGet();
+            return modules;
+        });
+        JdepsCache cache = JdepsCache.load(file);
+        Set<String> second = cache.resolve("key", () -> {
+            calls.incrementAndGet();
+            return Collections.emptySet();
+        });
+
+        // then:
+        assertThat(first, equalTo(modules));
+        assertThat(second, equalTo(modules));
+        assertThat(cache.contains("key"), equalTo(true));
+        assertThat(calls.get(), equalTo(1));
+    }
+
+    @Test
+    public void emptyResultsAreNotCached() throws Exception {
+        // given:
+        Path file = Files.createTempDirectory("jdeps").resolve(".jdeps.properties");
+        // written by a previous version, an empty result stored as a blank value
+        Files.write(file, Collections.singletonList("stale="));
+        AtomicInteger calls = new AtomicInteger();
+
+        // when:
+        JdepsCache cache = JdepsCache.load(file);
+        Set<String> stale = cache.resolve("stale", () -> {
+            calls.incrementAndGet();
+            return Collections.emptySet();
+        });
+        cache.resolve("key", () -> {
+            calls.incrementAndGet();
+            return Collections.emptySet();
+        });
+
+        // then:
+        assertThat(stale, empty());
+        assertThat(calls.get(), equalTo(2));
+        assertThat(JdepsCache.load(file).contains("stale"), equalTo(false));
+        assertThat(JdepsCache.load(file).contains("key"), equalTo(false));
+    }
+
+    @Test
+    public void concurrentResultsAreAllSaved() throws Exception {
+        // given:
+        Path file = Files.createTempDirectory("jdeps").resolve(".jdeps.properties");
+        JdepsCache cache = JdepsCache.load(file);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when:
+        try {
+            List<Future<Set<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                String key = "key" + i;
+                futures.add(executor.submit(() -> cache.resolve(key, () -> Collections.singleton("module." + key))));
+            }
+            for (Future<Set<String>> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then:
+        JdepsCache reloaded = JdepsCache.load(file);
+        for (int i = 0; i < 64; i++) {
+            assertThat(reloaded.resolve("key" + i, () -> {
+                throw new IllegalStateException("not cached");
+            }), equalTo(Collections.singleton("module.key" + i)));
+        }
+    }
+}
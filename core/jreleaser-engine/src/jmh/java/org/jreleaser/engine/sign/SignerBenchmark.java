@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.sign;
+
+import org.bouncycastle.bcpg.HashAlgorithmTags;
+import org.bouncycastle.openpgp.PGPEncryptedData;
+import org.bouncycastle.openpgp.PGPKeyPair;
+import org.bouncycastle.openpgp.PGPKeyRingGenerator;
+import org.bouncycastle.openpgp.PGPPublicKey;
+import org.bouncycastle.openpgp.PGPSecretKey;
+import org.bouncycastle.openpgp.PGPSignature;
+import org.bouncycastle.openpgp.PGPSignatureGenerator;
+import org.bouncycastle.openpgp.operator.PGPDigestCalculator;
+import org.bouncycastle.openpgp.operator.jcajce.JcaPGPContentSignerBuilder;
+import org.bouncycastle.openpgp.operator.jcajce.JcaPGPDigestCalculatorProviderBuilder;
+import org.bouncycastle.openpgp.operator.jcajce.JcaPGPKeyPair;
+import org.bouncycastle.openpgp.operator.jcajce.JcePBESecretKeyEncryptorBuilder;
+import org.jreleaser.util.signing.InMemoryKeyring;
+import org.jreleaser.util.signing.Keyring;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPairGenerator;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures BouncyCastle sign and verify throughput for inputs of increasing size.
+ * Run with {@code ./gradlew :jreleaser-engine:jmh -Pjmh.includes=SignerBenchmark}.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class SignerBenchmark {
+    private static final String PASSPHRASE = "jreleaser";
+
+    @Param({"1", "100", "1024"})
+    public int sizeInMb;
+
+    private Path input;
+    private Keyring keyring;
+    private PGPSignatureGenerator signatureGenerator;
+    private byte[] signature;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        input = Files.createTempFile("jreleaser-signer-benchmark", ".bin");
+        byte[] chunk = new byte[1024 * 1024];
+        new Random(42).nextBytes(chunk);
+        try (OutputStream out = Files.newOutputStream(input)) {
+            for (int i = 0; i < sizeInMb; i++) {
+                out.write(chunk);
+            }
+        }
+
+        keyring = generateKeyring();
+        PGPSecretKey secretKey = keyring.getSecretKey();
+        signatureGenerator = Signer.initSignatureGenerator(secretKey, Signer.extractPrivateKey(secretKey, PASSPHRASE));
+        signature = sign();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(input);
+    }
+
+    @Benchmark
+    public byte[] sign() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = Files.newInputStream(input)) {
+            Signer.sign(signatureGenerator, true, in, out);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public boolean verify() throws Exception {
+        try (InputStream in = Files.newInputStream(input)) {
+            return Signer.verify(keyring, new ByteArrayInputStream(signature), in);
+        }
+    }
+
+    @Benchmark
+    public boolean signAndVerify() throws Exception {
+        byte[] sig = sign();
+        try (InputStream in = Files.newInputStream(input)) {
+            return Signer.verify(keyring, new ByteArrayInputStream(sig), in);
+        }
+    }
+
+    private static Keyring generateKeyring() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        PGPKeyPair keyPair = new JcaPGPKeyPair(PGPPublicKey.RSA_GENERAL, generator.generateKeyPair(), new Date());
+
+        PGPDigestCalculator sha1Calc = new JcaPGPDigestCalculatorProviderBuilder().build().get(HashAlgorithmTags.SHA1);
+        PGPKeyRingGenerator keyRingGenerator = new PGPKeyRingGenerator(PGPSignature.POSITIVE_CERTIFICATION,
+            keyPair, "benchmark@jreleaser.org", sha1Calc, null, null,
+            new JcaPGPContentSignerBuilder(keyPair.getPublicKey().getAlgorithm(), HashAlgorithmTags.SHA256),
+            new JcePBESecretKeyEncryptorBuilder(PGPEncryptedData.AES_256, sha1Calc).build(PASSPHRASE.toCharArray()));
+
+        Keyring keyring = new InMemoryKeyring(keyRingGenerator.generatePublicKeyRing().getEncoded(),
+            keyRingGenerator.generateSecretKeyRing().getEncoded());
+        return keyring.initialize(false);
+    }
+}
@@ -25,13 +25,29 @@ import org.jreleaser.model.announcer.spi.AnnounceException;
 import org.jreleaser.model.announcer.spi.Announcer;
 import org.jreleaser.model.announcer.spi.AnnouncerBuilder;
 import org.jreleaser.model.announcer.spi.AnnouncerBuilderFactory;
+import org.jreleaser.util.JReleaserException;
+import org.jreleaser.util.JReleaserLogger;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.jreleaser.util.ConcurrentUtils.newExecutor;
+import static org.jreleaser.util.ConcurrentUtils.newScheduler;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
@@ -50,6 +66,7 @@ public class Announcers {
             return;
         }
 
+        List<Announcer> selected = new ArrayList<>();
         if (!context.getIncludedAnnouncers().isEmpty()) {
             for (String announcerName : context.getIncludedAnnouncers()) {
                 // check if the announcer name is valid
@@ -70,8 +87,9 @@ public class Announcers {
                     continue;
                 }
 
-                announce(context, announcer);
+                selected.add(announcer);
             }
+            announce(context, selected);
             return;
         }
 
@@ -83,26 +101,104 @@ public class Announcers {
                 continue;
             }
 
-            announce(context, announcer);
+            selected.add(announcer);
+        }
+        announce(context, selected);
+    }
+
+    static void announce(JReleaserContext context, List<Announcer> announcers) {
+        if (announcers.isEmpty()) return;
+
+        Announce announce = context.getModel().getAnnounce();
+        int parallelism = null != announce.getParallelism() && announce.getParallelism() > 0 ?
+            Math.min(announce.getParallelism(), announcers.size()) : announcers.size();
+        int timeout = null != announce.getTimeout() && announce.getTimeout() > 0 ? announce.getTimeout() : Announce.DEFAULT_TIMEOUT;
+
+        ExecutorService executor = newExecutor("announce", parallelism);
+        ScheduledExecutorService scheduler = newScheduler("announce-timeout");
+
+        List<AnnounceTask> tasks = new ArrayList<>();
+        for (Announcer announcer : announcers) {
+            JReleaserLogger.ScopedTask<Announcer, Announcer> task = context.getLogger().scoped(a -> {
+                announce(context, a);
+                return a;
+            });
+            AnnounceTask t = new AnnounceTask(announcer, task, scheduler, timeout);
+            tasks.add(t);
+            executor.execute(t);
+        }
+        executor.shutdown();
+
+        // every announcer is bounded by its own timeout, waves of announcers by the pool size
+        long waves = (announcers.size() + parallelism - 1) / parallelism;
+        long limit = null != announce.getDeadline() && announce.getDeadline() > 0 ? announce.getDeadline() : timeout * waves + 1;
+        long deadline = System.nanoTime() + SECONDS.toNanos(limit);
+
+        List<String> failures = new ArrayList<>();
+        RuntimeException unexpected = null;
+        try {
+            for (AnnounceTask t : tasks) {
+                String name = t.announcer.getName();
+                try {
+                    t.get(Math.max(0, deadline - System.nanoTime()), NANOSECONDS);
+                } catch (CancellationException e) {
+                    // a cancelled announcer may never complete, keep what it logged so far
+                    t.task.flush();
+                    context.getLogger().warn(RB.$("announcers.announcer.timeout"), name, timeout);
+                    failures.add(name);
+                } catch (TimeoutException e) {
+                    t.cancel(true);
+                    t.task.flush();
+                    context.getLogger().warn(RB.$("announcers.announcer.deadline"), name, limit);
+                    failures.add(name);
+                } catch (ExecutionException e) {
+                    failures.add(name);
+                    if (!(e.getCause() instanceof AnnounceException) && null == unexpected) {
+                        unexpected = e.getCause() instanceof RuntimeException ?
+                            (RuntimeException) e.getCause() :
+                            new JReleaserException(RB.$("ERROR_unexpected_release_announce"), e.getCause());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (AnnounceTask t : tasks) {
+                t.cancel(true);
+                t.task.flush();
+            }
+            throw new JReleaserException(RB.$("ERROR_unexpected_release_announce"), e);
+        } finally {
+            executor.shutdownNow();
+            scheduler.shutdownNow();
+        }
+
+        if (!failures.isEmpty()) {
+            context.getLogger().warn(RB.$("announcers.failures"), failures.size(), failures);
+        }
+        if (null != unexpected) {
+            throw unexpected;
         }
     }
 
-    private static void announce(JReleaserContext context, Announcer announcer) {
+    private static void announce(JReleaserContext context, Announcer announcer) throws AnnounceException {
         context.getLogger().increaseIndent();
         context.getLogger().setPrefix(announcer.getName());
 
-        if (announcer.isEnabled()) {
-            try {
-                announcer.announce();
-            } catch (AnnounceException e) {
-                context.getLogger().warn(e.getMessage().trim());
+        try {
+            if (announcer.isEnabled()) {
+                try {
+                    announcer.announce();
+                } catch (AnnounceException e) {
+                    context.getLogger().warn(e.getMessage().trim());
+                    throw e;
+                }
+            } else {
+                context.getLogger().debug(RB.$("announcers.announcer.disabled"));
             }
-        } else {
-            context.getLogger().debug(RB.$("announcers.announcer.disabled"));
+        } finally {
+            context.getLogger().restorePrefix();
+            context.getLogger().decreaseIndent();
         }
-
-        context.getLogger().restorePrefix();
-        context.getLogger().decreaseIndent();
     }
 
     private static Map<String, Announcer> findAnnouncers(JReleaserContext context) {
@@ -122,4 +218,31 @@ public class Announcers {
 
         return announcers;
     }
+
+    private static final class AnnounceTask extends FutureTask<Announcer> {
+        private final Announcer announcer;
+        private final JReleaserLogger.ScopedTask<Announcer, Announcer> task;
+        private final ScheduledExecutorService scheduler;
+        private final int timeout;
+
+        private AnnounceTask(Announcer announcer, JReleaserLogger.ScopedTask<Announcer, Announcer> task,
+                             ScheduledExecutorService scheduler, int timeout) {
+            super(() -> task.call(announcer));
+            this.announcer = announcer;
+            this.task = task;
+            this.scheduler = scheduler;
+            this.timeout = timeout;
+        }
+
+        @Override
+        public void run() {
+            // the timeout starts when the announcer does, not when it was queued
+            ScheduledFuture<?> timer = scheduler.schedule(() -> cancel(true), timeout, SECONDS);
+            try {
+                super.run();
+            } finally {
+                timer.cancel(false);
+            }
+        }
+    }
 }
@@ -18,24 +18,37 @@
 package org.jreleaser.engine.checksum;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.engine.sign.InlineSigner;
 import org.jreleaser.model.Artifact;
 import org.jreleaser.model.Distribution;
 import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.util.Artifacts;
 import org.jreleaser.util.Algorithm;
 import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ConcurrentUtils;
 import org.jreleaser.util.JReleaserException;
+import org.jreleaser.util.signing.SigningException;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
 
+import static java.util.Collections.singletonMap;
+import static org.jreleaser.model.Checksum.INDIVIDUAL_CHECKSUM;
 import static org.jreleaser.model.Checksum.KEY_SKIP_CHECKSUM;
+import static org.jreleaser.util.ConcurrentUtils.resolveParallelism;
 import static org.jreleaser.util.StringUtils.isNotBlank;
+import static org.jreleaser.util.StringUtils.isTrue;
+import static org.jreleaser.util.TimeUtils.formatDuration;
 
 /**
  * @author Andres Almiray
@@ -47,30 +60,59 @@ public class Checksum {
         context.getLogger().increaseIndent();
         context.getLogger().setPrefix("checksum");
 
-        Map<Algorithm, List<String>> checksums = new LinkedHashMap<>();
+        List<ChecksumTarget> targets = new ArrayList<>();
 
         if (context.getModel().getChecksum().isFiles()) {
             for (Artifact artifact : Artifacts.resolveFiles(context)) {
                 if (!artifact.isActive()) continue;
-                artifact.getEffectivePath(context);
+                Path artifactPath = artifact.getEffectivePath(context);
                 if (artifact.extraPropertyIsTrue(KEY_SKIP_CHECKSUM)) continue;
-                for (Algorithm algorithm : context.getModel().getChecksum().getAlgorithms()) {
-                    readHash(context, algorithm, artifact);
-                    List<String> list = checksums.computeIfAbsent(algorithm, k -> new ArrayList<>());
-                    list.add(artifact.getHash(algorithm) + "  " + artifact.getEffectivePath(context).getFileName());
-                }
+                targets.add(new ChecksumTarget(null, artifact, artifactPath));
             }
         }
 
         for (Distribution distribution : context.getModel().getActiveDistributions()) {
             for (Artifact artifact : distribution.getArtifacts()) {
                 if (!artifact.isActive()) continue;
-                artifact.getEffectivePath(context, distribution);
-                for (Algorithm algorithm : context.getModel().getChecksum().getAlgorithms()) {
-                    readHash(context, distribution, algorithm, artifact);
-                    List<String> list = checksums.computeIfAbsent(algorithm, k -> new ArrayList<>());
-                    list.add(artifact.getHash(algorithm) + "  " + artifact.getEffectivePath(context, distribution).getFileName());
+                Path artifactPath = artifact.getEffectivePath(context, distribution);
+                targets.add(new ChecksumTarget(distribution, artifact, artifactPath));
+            }
+        }
+
+        ChecksumIndex index = ChecksumIndex.load(context);
+        InlineSigner signer = createInlineSigner(context);
+        int parallelism = resolveParallelism(context.getModel().getChecksum().getParallelism());
+        try {
+            ConcurrentUtils.invokeAll("checksum", parallelism, targets, context.getLogger().scoped(target -> {
+                long start = System.currentTimeMillis();
+                Set<Algorithm> algorithms = context.getModel().getChecksum().getAlgorithms();
+                if (null != target.distribution) {
+                    readHashes(context, index, signer, target.distribution, algorithms, target.artifact);
+                } else {
+                    readHashes(context, index, signer, algorithms, target.artifact);
                 }
+                long end = System.currentTimeMillis();
+                context.getLogger().trace(RB.$("checksum.timing",
+                    context.relativizeToBasedir(target.artifactPath), formatDuration((end - start) / 1000d)));
+                return target;
+            }));
+        } catch (ExecutionException e) {
+            context.getLogger().restorePrefix();
+            context.getLogger().decreaseIndent();
+            if (e.getCause() instanceof JReleaserException) {
+                throw (JReleaserException) e.getCause();
+            }
+            throw new JReleaserException(RB.$("ERROR_unexpected_error"), e.getCause());
+        } finally {
+            saveIndex(context, index);
+        }
+
+        // results are collected in declaration order to keep checksum files stable
+        Map<Algorithm, List<String>> checksums = new LinkedHashMap<>();
+        for (ChecksumTarget target : targets) {
+            for (Algorithm algorithm : context.getModel().getChecksum().getAlgorithms()) {
+                List<String> list = checksums.computeIfAbsent(algorithm, k -> new ArrayList<>());
+                list.add(target.artifact.getHash(algorithm) + "  " + target.artifactPath.getFileName());
             }
         }
 
@@ -121,47 +163,167 @@ public class Checksum {
         context.getLogger().decreaseIndent();
     }
 
+    public static void readHashes(JReleaserContext context, Distribution distribution, Artifact artifact) throws JReleaserException {
+        readIndexedHashes(context, distribution, null, artifact);
+    }
+
+    public static void readHashes(JReleaserContext context, Artifact artifact) throws JReleaserException {
+        readIndexedHashes(context, null, null, artifact);
+    }
+
     public static void readHash(JReleaserContext context, Distribution distribution, Algorithm algorithm, Artifact artifact) throws JReleaserException {
+        readIndexedHashes(context, distribution, algorithm, artifact);
+    }
+
+    public static void readHash(JReleaserContext context, Algorithm algorithm, Artifact artifact) throws JReleaserException {
+        readIndexedHashes(context, null, algorithm, artifact);
+    }
+
+    private static void readIndexedHashes(JReleaserContext context, Distribution distribution, Algorithm algorithm, Artifact artifact) throws JReleaserException {
+        ChecksumIndex index = ChecksumIndex.load(context);
+        try {
+            if (null != distribution) {
+                readHashes(context, index, null, distribution, resolveAlgorithms(context, algorithm), artifact);
+            } else {
+                readHashes(context, index, null, resolveAlgorithms(context, algorithm), artifact);
+            }
+        } finally {
+            saveIndex(context, index);
+        }
+    }
+
+    private static Set<Algorithm> resolveAlgorithms(JReleaserContext context, Algorithm algorithm) {
+        Set<Algorithm> algorithms = new LinkedHashSet<>(context.getModel().getChecksum().getAlgorithms());
+        // the requested algorithm may not be one of the configured ones
+        if (null != algorithm) algorithms.add(algorithm);
+        return algorithms;
+    }
+
+    private static void readHashes(JReleaserContext context, ChecksumIndex index, InlineSigner signer,
+                                   Distribution distribution, Set<Algorithm> algorithms, Artifact artifact) throws JReleaserException {
         Path artifactPath = artifact.getEffectivePath(context, distribution);
-        Path checksumPath = context.getChecksumsDirectory().resolve(distribution.getName())
-            .resolve(artifactPath.getFileName() + "." + algorithm.formatted());
+        Path checksumsDirectory = context.getChecksumsDirectory().resolve(distribution.getName());
+        boolean individual = isIndividual(context, distribution, artifact);
 
-        readHash(context, algorithm, artifact, artifactPath, checksumPath);
+        readHashes(context, index, signer, distribution, algorithms, artifact, artifactPath, individual ? checksumsDirectory : null);
     }
 
-    public static void readHash(JReleaserContext context, Algorithm algorithm, Artifact artifact) throws JReleaserException {
+    private static void readHashes(JReleaserContext context, ChecksumIndex index, InlineSigner signer,
+                                   Set<Algorithm> algorithms, Artifact artifact) throws JReleaserException {
         Path artifactPath = artifact.getEffectivePath(context);
-        Path checksumPath = context.getChecksumsDirectory()
-            .resolve(artifactPath.getFileName() + "." + algorithm.formatted());
+        boolean individual = isIndividual(context, null, artifact);
 
-        readHash(context, algorithm, artifact, artifactPath, checksumPath);
+        readHashes(context, index, signer, null, algorithms, artifact, artifactPath, individual ? context.getChecksumsDirectory() : null);
     }
 
-    private static void readHash(JReleaserContext context,
-                                 Algorithm algorithm,
-                                 Artifact artifact,
-                                 Path artifactPath,
-                                 Path checksumPath) throws JReleaserException {
+    private static void readHashes(JReleaserContext context,
+                                   ChecksumIndex index,
+                                   InlineSigner signer,
+                                   Distribution distribution,
+                                   Set<Algorithm> algorithms,
+                                   Artifact artifact,
+                                   Path artifactPath,
+                                   Path checksumsDirectory) throws JReleaserException {
         if (!Files.exists(artifactPath)) {
             throw new JReleaserException(RB.$("ERROR_artifact_does_not_exist", context.relativizeToBasedir(artifactPath)));
         }
 
-        if (!Files.exists(checksumPath)) {
-            context.getLogger().debug(RB.$("checksum.not.exist"), context.relativizeToBasedir(checksumPath));
-            calculateHash(context, artifactPath, checksumPath, algorithm);
-        } else if (artifactPath.toFile().lastModified() > checksumPath.toFile().lastModified()) {
-            context.getLogger().debug(RB.$("checksum.file.newer"),
-                context.relativizeToBasedir(artifactPath),
-                context.relativizeToBasedir(checksumPath));
-            calculateHash(context, artifactPath, checksumPath, algorithm);
+        Map<Algorithm, String> hashes = new LinkedHashMap<>();
+
+        try {
+            ChecksumIndex.Fingerprint fingerprint = ChecksumIndex.fingerprint(artifactPath);
+            Map<Algorithm, String> indexed = index.lookup(artifactPath, fingerprint);
+
+            if (null == indexed) {
+                if (index.contains(artifactPath)) {
+                    context.getLogger().debug(RB.$("checksum.file.changed"), context.relativizeToBasedir(artifactPath));
+                } else {
+                    context.getLogger().debug(RB.$("checksum.not.exist"), context.relativizeToBasedir(artifactPath));
+                }
+            } else {
+                hashes.putAll(indexed);
+            }
+
+            Set<Algorithm> missing = new LinkedHashSet<>(algorithms);
+            missing.removeAll(hashes.keySet());
+            if (!missing.isEmpty()) {
+                Map<Algorithm, String> calculated = null != signer && signer.requiresSignature(distribution, artifact, artifactPath) ?
+                    calculateHashes(context, artifactPath, missing, signer) :
+                    calculateHashes(context, artifactPath, missing);
+                index.update(artifactPath, fingerprint, calculated);
+                hashes.putAll(calculated);
+            }
+        } catch (IOException e) {
+            throw new JReleaserException(RB.$("ERROR_unexpected_error_calculate_checksum", artifactPath), e);
+        }
+
+        for (Algorithm algorithm : algorithms) {
+            String hash = hashes.get(algorithm);
+            artifact.setHash(algorithm, hash);
+
+            if (null != checksumsDirectory) {
+                writeIndividualChecksum(context, checksumsDirectory
+                    .resolve(artifactPath.getFileName() + "." + algorithm.formatted()), hash);
+            }
+        }
+    }
+
+    private static void writeIndividualChecksum(JReleaserContext context, Path checksumPath, String hash) throws JReleaserException {
+        try {
+            if (Files.exists(checksumPath) && hash.equals(new String(Files.readAllBytes(checksumPath)))) {
+                return;
+            }
+
+            Files.createDirectories(checksumPath.getParent());
+            Files.write(checksumPath, hash.getBytes());
+        } catch (IOException e) {
+            throw new JReleaserException(RB.$("ERROR_unexpected_error_checksum", context.relativizeToBasedir(checksumPath)), e);
+        }
+    }
+
+    private static boolean isIndividual(JReleaserContext context, Distribution distribution, Artifact artifact) {
+        if (artifact.getExtraProperties().containsKey(INDIVIDUAL_CHECKSUM)) {
+            return isTrue(artifact.getExtraProperties().get(INDIVIDUAL_CHECKSUM));
+        }
+        if (null != distribution && distribution.getExtraProperties().containsKey(INDIVIDUAL_CHECKSUM)) {
+            return isTrue(distribution.getExtraProperties().get(INDIVIDUAL_CHECKSUM));
+        }
+        return context.getModel().getChecksum().isIndividual();
+    }
+
+    private static InlineSigner createInlineSigner(JReleaserContext context) {
+        try {
+            return InlineSigner.of(context);
+        } catch (SigningException e) {
+            // the sign step will report this error in full
+            context.getLogger().warn(RB.$("signing.inline.disabled", e.getMessage()));
+            context.getLogger().trace(e);
+            return null;
+        }
+    }
+
+    private static Map<Algorithm, String> calculateHashes(JReleaserContext context, Path input,
+                                                          Collection<Algorithm> algorithms, InlineSigner signer) throws JReleaserException {
+        try (InputStream raw = Files.newInputStream(input)) {
+            for (Algorithm algorithm : algorithms) {
+                context.getLogger().info("{}.{}", context.relativizeToBasedir(input), algorithm.formatted());
+            }
+
+            InlineSigner.SigningInputStream in = signer.open(input, raw);
+            Map<Algorithm, String> hashcodes = ChecksumUtils.checksum(algorithms, in);
+            in.writeSignature();
+            return hashcodes;
+        } catch (IOException | SigningException e) {
+            throw new JReleaserException(RB.$("ERROR_unexpected_error_calculate_checksum", input), e);
         }
+    }
 
+    private static void saveIndex(JReleaserContext context, ChecksumIndex index) throws JReleaserException {
         try {
-            context.getLogger().debug(RB.$("checksum.reading"),
-                context.relativizeToBasedir(checksumPath));
-            artifact.setHash(algorithm, new String(Files.readAllBytes(checksumPath)));
+            index.save();
         } catch (IOException e) {
-            throw new JReleaserException(RB.$("ERROR_unexpected_error_hash_read", context.relativizeToBasedir(checksumPath)), e);
+            throw new JReleaserException(RB.$("ERROR_unexpected_error_checksum",
+                context.relativizeToBasedir(context.getChecksumsDirectory().resolve(ChecksumIndex.INDEX_FILE_NAME))), e);
         }
     }
 
@@ -170,14 +332,44 @@ public class Checksum {
     }
 
     public static String calculateHash(JReleaserContext context, Path input, Path output, Algorithm algorithm) throws JReleaserException {
+        return calculateHashes(context, input, singletonMap(algorithm, output)).get(algorithm);
+    }
+
+    public static Map<Algorithm, String> calculateHashes(JReleaserContext context, Path input, Collection<Algorithm> algorithms) throws JReleaserException {
+        try {
+            for (Algorithm algorithm : algorithms) {
+                context.getLogger().info("{}.{}", context.relativizeToBasedir(input), algorithm.formatted());
+            }
+
+            return ChecksumUtils.checksum(algorithms, input);
+        } catch (IOException e) {
+            throw new JReleaserException(RB.$("ERROR_unexpected_error_calculate_checksum", input), e);
+        }
+    }
+
+    public static Map<Algorithm, String> calculateHashes(JReleaserContext context, Path input, Map<Algorithm, Path> outputs) throws JReleaserException {
         try {
-            context.getLogger().info("{}.{}", context.relativizeToBasedir(input), algorithm.formatted());
-            String hashcode = ChecksumUtils.checksum(algorithm, Files.readAllBytes(input));
-            output.toFile().getParentFile().mkdirs();
-            Files.write(output, hashcode.getBytes());
-            return hashcode;
+            Map<Algorithm, String> hashcodes = calculateHashes(context, input, outputs.keySet());
+            for (Map.Entry<Algorithm, Path> entry : outputs.entrySet()) {
+                Path output = entry.getValue();
+                output.toFile().getParentFile().mkdirs();
+                Files.write(output, hashcodes.get(entry.getKey()).getBytes());
+            }
+            return hashcodes;
         } catch (IOException e) {
             throw new JReleaserException(RB.$("ERROR_unexpected_error_calculate_checksum", input), e);
         }
     }
+
+    private static final class ChecksumTarget {
+        private final Distribution distribution;
+        private final Artifact artifact;
+        private final Path artifactPath;
+
+        private ChecksumTarget(Distribution distribution, Artifact artifact, Path artifactPath) {
+            this.distribution = distribution;
+            this.artifact = artifact;
+            this.artifactPath = artifactPath;
+        }
+    }
 }
@@ -0,0 +1,238 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.checksum;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.util.Algorithm;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Persistent index of artifact checksums stored as a single file inside the checksums directory.
+ * Entries are keyed by the artifact's absolute path and remain valid for as long as the file's
+ * size, modification time and file key do not change.
+ * <p>
+ * Several indexes may be loaded from the same file at the same time. Saving merges the entries
+ * found on disk with those held in memory, thus concurrent writers do not drop each other's entries.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public final class ChecksumIndex {
+    public static final String INDEX_FILE_NAME = ".checksums.idx";
+    private static final String HEADER = "# jreleaser checksums index v1";
+    private static final String SEPARATOR = "\t";
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Path file;
+    private volatile boolean dirty;
+
+    private ChecksumIndex(Path file) {
+        this.file = file;
+    }
+
+    public static ChecksumIndex load(JReleaserContext context) {
+        Path file = context.getChecksumsDirectory().resolve(INDEX_FILE_NAME);
+        if (Files.exists(file)) {
+            context.getLogger().debug(RB.$("checksum.reading"), context.relativizeToBasedir(file));
+        }
+        return load(file);
+    }
+
+    static ChecksumIndex load(Path file) {
+        ChecksumIndex index = new ChecksumIndex(file);
+        synchronized (lock(file)) {
+            index.entries.putAll(read(file));
+        }
+        return index;
+    }
+
+    public static Fingerprint fingerprint(Path artifactPath) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(artifactPath, BasicFileAttributes.class);
+        Object fileKey = attributes.fileKey();
+        return new Fingerprint(attributes.size(),
+            attributes.lastModifiedTime().toMillis(),
+            null != fileKey ? String.valueOf(fileKey) : "-");
+    }
+
+    /**
+     * Returns the indexed checksums for the given artifact, or {@code null} if the artifact
+     * is unknown or has changed since it was indexed.
+     */
+    public Map<Algorithm, String> lookup(Path artifactPath, Fingerprint fingerprint) {
+        Entry entry = entries.get(key(artifactPath));
+        if (null == entry || !entry.fingerprint.equals(fingerprint)) return null;
+        return entry.checksums;
+    }
+
+    public boolean contains(Path artifactPath) {
+        return entries.containsKey(key(artifactPath));
+    }
+
+    public void update(Path artifactPath, Fingerprint fingerprint, Map<Algorithm, String> checksums) {
+        String key = key(artifactPath);
+        Map<Algorithm, String> merged = new TreeMap<>(checksums);
+        Entry existing = entries.get(key);
+        if (null != existing && existing.fingerprint.equals(fingerprint)) {
+            existing.checksums.forEach(merged::putIfAbsent);
+        }
+        entries.put(key, new Entry(key, fingerprint, merged));
+        dirty = true;
+    }
+
+    public void save() throws IOException {
+        if (!dirty) return;
+
+        synchronized (lock(file)) {
+            // keep entries written by other indexes since this one was loaded
+            Map<String, Entry> merged = new TreeMap<>(read(file));
+            merged.putAll(entries);
+
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), INDEX_FILE_NAME, ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp, UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                for (Entry entry : merged.values()) {
+                    writer.write(entry.format());
+                    writer.newLine();
+                }
+            }
+
+            try {
+                Files.move(tmp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(tmp, file, REPLACE_EXISTING);
+            }
+            dirty = false;
+        }
+    }
+
+    private static Map<String, Entry> read(Path file) {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        if (!Files.exists(file)) return entries;
+
+        try {
+            List<String> lines = Files.readAllLines(file, UTF_8);
+            if (lines.isEmpty() || !HEADER.equals(lines.get(0))) return entries;
+
+            for (int i = 1; i < lines.size(); i++) {
+                Entry entry = Entry.parse(lines.get(i));
+                if (null != entry) entries.put(entry.path, entry);
+            }
+        } catch (IOException e) {
+            // a corrupt index is equivalent to an empty one
+            entries.clear();
+        }
+
+        return entries;
+    }
+
+    private static Object lock(Path file) {
+        return LOCKS.computeIfAbsent(key(file), k -> new Object());
+    }
+
+    private static String key(Path artifactPath) {
+        return artifactPath.toAbsolutePath().normalize().toString();
+    }
+
+    public static final class Fingerprint {
+        private final long size;
+        private final long lastModified;
+        private final String fileKey;
+
+        private Fingerprint(long size, long lastModified, String fileKey) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.fileKey = fileKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (null == o || getClass() != o.getClass()) return false;
+            Fingerprint that = (Fingerprint) o;
+            return size == that.size &&
+                lastModified == that.lastModified &&
+                fileKey.equals(that.fileKey);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Long.hashCode(size);
+            result = 31 * result + Long.hashCode(lastModified);
+            return 31 * result + fileKey.hashCode();
+        }
+    }
+
+    private static final class Entry {
+        private final String path;
+        private final Fingerprint fingerprint;
+        private final Map<Algorithm, String> checksums;
+
+        private Entry(String path, Fingerprint fingerprint, Map<Algorithm, String> checksums) {
+            this.path = path;
+            this.fingerprint = fingerprint;
+            this.checksums = checksums;
+        }
+
+        private String format() {
+            StringBuilder b = new StringBuilder(path)
+                .append(SEPARATOR).append(fingerprint.size)
+                .append(SEPARATOR).append(fingerprint.lastModified)
+                .append(SEPARATOR).append(fingerprint.fileKey);
+            for (Map.Entry<Algorithm, String> e : checksums.entrySet()) {
+                b.append(SEPARATOR).append(e.getKey().name()).append('=').append(e.getValue());
+            }
+            return b.toString();
+        }
+
+        private static Entry parse(String line) {
+            String[] parts = line.split(SEPARATOR);
+            if (parts.length < 5) return null;
+
+            try {
+                Fingerprint fingerprint = new Fingerprint(Long.parseLong(parts[1]), Long.parseLong(parts[2]), parts[3]);
+                Map<Algorithm, String> checksums = new LinkedHashMap<>();
+                for (int i = 4; i < parts.length; i++) {
+                    int pos = parts[i].indexOf('=');
+                    if (pos < 1) return null;
+                    checksums.put(Algorithm.valueOf(parts[i].substring(0, pos)), parts[i].substring(pos + 1));
+                }
+                return new Entry(parts[0], fingerprint, checksums);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+}
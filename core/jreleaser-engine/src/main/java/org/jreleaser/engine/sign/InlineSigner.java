@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.sign;
+
+import org.bouncycastle.openpgp.PGPException;
+import org.bouncycastle.openpgp.PGPPrivateKey;
+import org.bouncycastle.openpgp.PGPSecretKey;
+import org.bouncycastle.openpgp.PGPSignatureGenerator;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.Artifact;
+import org.jreleaser.model.Distribution;
+import org.jreleaser.model.JReleaserCommand;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.Signing;
+import org.jreleaser.util.signing.Keyring;
+import org.jreleaser.util.signing.SigningException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.jreleaser.model.Signing.KEY_SKIP_SIGNING;
+
+/**
+ * Signs artifacts with BouncyCastle while their contents are being read by another stage,
+ * letting checksum calculation and signing share a single pass over each file.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public final class InlineSigner {
+    private final JReleaserContext context;
+    private final PGPSecretKey pgpSecretKey;
+    private final PGPPrivateKey pgpPrivKey;
+
+    private InlineSigner(JReleaserContext context, PGPSecretKey pgpSecretKey, PGPPrivateKey pgpPrivKey) {
+        this.context = context;
+        this.pgpSecretKey = pgpSecretKey;
+        this.pgpPrivKey = pgpPrivKey;
+    }
+
+    /**
+     * Returns an inline signer if the current command signs artifacts in {@code MEMORY} or {@code FILE} mode,
+     * {@code null} otherwise. Command and cosign modes rely on external processes that read files on their own.
+     */
+    public static InlineSigner of(JReleaserContext context) throws SigningException {
+        Signing signing = context.getModel().getSigning();
+        if (!JReleaserCommand.supportsSign(context.getCommand()) || !signing.isEnabled() ||
+            signing.getMode() == Signing.Mode.COMMAND || signing.getMode() == Signing.Mode.COSIGN) {
+            return null;
+        }
+
+        Keyring keyring = context.createKeyring();
+        try {
+            PGPSecretKey pgpSecretKey = keyring.getSecretKey();
+            return new InlineSigner(context, pgpSecretKey, Signer.extractPrivateKey(pgpSecretKey, signing.getResolvedPassphrase()));
+        } catch (PGPException e) {
+            throw new SigningException(RB.$("ERROR_unexpected_error_signature_gen"), e);
+        }
+    }
+
+    /**
+     * Whether the given artifact will be signed by the sign step and its signature is missing or outdated.
+     */
+    public boolean requiresSignature(Distribution distribution, Artifact artifact, Path input) {
+        Signing signing = context.getModel().getSigning();
+        if (artifact.extraPropertyIsTrue(KEY_SKIP_SIGNING)) return false;
+        if (null == distribution && !signing.isFiles()) return false;
+        if (null != distribution && (!signing.isArtifacts() || distribution.extraPropertyIsTrue(KEY_SKIP_SIGNING))) {
+            return false;
+        }
+
+        Path signatureFile = resolveSignatureFile(input);
+        return Files.notExists(signatureFile) ||
+            input.toFile().lastModified() > signatureFile.toFile().lastModified();
+    }
+
+    public SigningInputStream open(Path input, InputStream in) throws SigningException {
+        try {
+            return new SigningInputStream(in, input, Signer.initSignatureGenerator(pgpSecretKey, pgpPrivKey));
+        } catch (PGPException e) {
+            throw new SigningException(RB.$("ERROR_unexpected_error_signature_gen"), e);
+        }
+    }
+
+    private Path resolveSignatureFile(Path input) {
+        return context.getSignaturesDirectory()
+            .resolve(input.getFileName().toString().concat(context.getModel().getSigning().getSignatureExtension()));
+    }
+
+    /**
+     * Feeds every byte read through it into a signature generator.
+     */
+    public final class SigningInputStream extends FilterInputStream {
+        private final Path input;
+        private final PGPSignatureGenerator signatureGenerator;
+
+        private SigningInputStream(InputStream in, Path input, PGPSignatureGenerator signatureGenerator) {
+            super(in);
+            this.input = input;
+            this.signatureGenerator = signatureGenerator;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) signatureGenerator.update((byte) b);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) signatureGenerator.update(b, off, read);
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // skipped bytes must be signed too
+            byte[] buffer = new byte[(int) Math.min(n, 8192)];
+            long skipped = 0;
+            while (skipped < n) {
+                int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (read < 0) break;
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        /**
+         * Writes the signature of all bytes read so far. Must be called once the input has been fully consumed.
+         */
+        public void writeSignature() throws SigningException {
+            Path signatureFile = resolveSignatureFile(input);
+            context.getLogger().debug(RB.$("signing.inline"), context.relativizeToBasedir(signatureFile));
+
+            try {
+                Files.createDirectories(signatureFile.getParent());
+                try (OutputStream out = Files.newOutputStream(signatureFile)) {
+                    Signer.writeSignature(signatureGenerator, context.getModel().getSigning().isArmored(), out);
+                }
+            } catch (IOException | PGPException e) {
+                throw new SigningException(RB.$("ERROR_unexpected_error_signing", input.toAbsolutePath()), e);
+            }
+        }
+    }
+}
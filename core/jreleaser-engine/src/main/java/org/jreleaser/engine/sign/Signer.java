@@ -42,6 +42,7 @@ import org.jreleaser.model.util.Artifacts;
 import org.jreleaser.sdk.tool.Cosign;
 import org.jreleaser.sdk.tool.ToolException;
 import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ConcurrentUtils;
 import org.jreleaser.util.command.CommandException;
 import org.jreleaser.util.signing.GpgCommandSigner;
 import org.jreleaser.util.signing.Keyring;
@@ -49,8 +50,6 @@ import org.jreleaser.util.signing.SigningException;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -60,11 +59,13 @@ import java.security.Provider;
 import java.security.Security;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.bouncycastle.bcpg.CompressionAlgorithmTags.UNCOMPRESSED;
 import static org.jreleaser.model.Signing.KEY_SKIP_SIGNING;
+import static org.jreleaser.util.ConcurrentUtils.resolveParallelism;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
@@ -72,6 +73,8 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  * @since 0.1.0
  */
 public class Signer {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     static {
         // replace BC provider with our version
         Provider bcProvider = Security.getProvider("BC");
@@ -107,7 +110,8 @@ public class Signer {
     }
 
     private static void cmdSign(JReleaserContext context) throws SigningException {
-        List<FilePair> files = collectArtifacts(context, pair -> isValid(context, null, pair));
+        int parallelism = resolveParallelism(context.getModel().getSigning().getParallelism());
+        List<FilePair> files = collectArtifacts(context, false, parallelism, pair -> isValid(context, null, pair));
         if (files.isEmpty()) {
             context.getLogger().info(RB.$("signing.no.match"));
             return;
@@ -122,8 +126,8 @@ public class Signer {
             return;
         }
 
-        sign(context, files);
-        verify(context, files);
+        sign(context, files, parallelism);
+        verify(context, files, parallelism);
     }
 
     private static void cosignSign(JReleaserContext context) throws SigningException {
@@ -157,7 +161,8 @@ public class Signer {
         }
         Path thePublicKeyFile = publicKeyFile;
 
-        List<FilePair> files = collectArtifacts(context, forceSign, pair -> isValid(context, cosign, thePublicKeyFile, pair));
+        int parallelism = resolveParallelism(signing.getParallelism());
+        List<FilePair> files = collectArtifacts(context, forceSign, parallelism, pair -> isValid(context, cosign, thePublicKeyFile, pair));
         if (files.isEmpty()) {
             context.getLogger().info(RB.$("signing.no.match"));
             return;
@@ -177,14 +182,15 @@ public class Signer {
             return;
         }
 
-        sign(context, files, cosign, privateKeyFile, password);
-        verify(context, files, cosign, publicKeyFile);
+        sign(context, files, cosign, privateKeyFile, password, parallelism);
+        verify(context, files, cosign, publicKeyFile, parallelism);
     }
 
     private static void bcSign(JReleaserContext context) throws SigningException {
         Keyring keyring = context.createKeyring();
 
-        List<FilePair> files = collectArtifacts(context, pair -> isValid(context, keyring, pair));
+        int parallelism = resolveParallelism(context.getModel().getSigning().getParallelism());
+        List<FilePair> files = collectArtifacts(context, false, parallelism, pair -> isValid(context, keyring, pair));
         if (files.isEmpty()) {
             context.getLogger().info(RB.$("signing.no.match"));
             return;
@@ -199,108 +205,115 @@ public class Signer {
             return;
         }
 
-        sign(context, keyring, files);
-        verify(context, keyring, files);
+        sign(context, keyring, files, parallelism);
+        verify(context, keyring, files, parallelism);
     }
 
-    private static void verify(JReleaserContext context, Keyring keyring, List<FilePair> files) throws SigningException {
+    private static void verify(JReleaserContext context, Keyring keyring, List<FilePair> files, int parallelism) throws SigningException {
         if (null == keyring) {
-            verify(context, files);
+            verify(context, files, parallelism);
             return;
         }
 
         context.getLogger().debug(RB.$("signing.verify.signatures"), files.size());
 
-        for (FilePair pair : files) {
-            pair.setValid(verify(context, keyring, pair));
+        context.getLogger().setPrefix("verify");
+        try {
+            execute(context, parallelism, files, pair -> {
+                pair.setValid(verify(context, keyring, pair));
 
-            if (!pair.isValid()) {
-                throw new SigningException(RB.$("ERROR_signing_verify_file",
-                    context.relativizeToBasedir(pair.inputFile),
-                    context.relativizeToBasedir(pair.signatureFile)));
-            }
+                if (!pair.isValid()) {
+                    throw new SigningException(RB.$("ERROR_signing_verify_file",
+                        context.relativizeToBasedir(pair.inputFile),
+                        context.relativizeToBasedir(pair.signatureFile)));
+                }
+                return pair;
+            });
+        } finally {
+            context.getLogger().restorePrefix();
         }
     }
 
-    private static void verify(JReleaserContext context, List<FilePair> files) throws SigningException {
+    private static void verify(JReleaserContext context, List<FilePair> files, int parallelism) throws SigningException {
         context.getLogger().debug(RB.$("signing.verify.signatures"), files.size());
 
-        for (FilePair pair : files) {
-            pair.setValid(verify(context, pair));
+        GpgCommandSigner commandSigner = initCommandSigner(context);
 
-            if (!pair.isValid()) {
-                throw new SigningException(RB.$("ERROR_signing_verify_file",
-                    context.relativizeToBasedir(pair.inputFile),
-                    context.relativizeToBasedir(pair.signatureFile)));
-            }
+        context.getLogger().setPrefix("verify");
+        try {
+            execute(context, parallelism, files, pair -> {
+                pair.setValid(verify(context, commandSigner, pair));
+
+                if (!pair.isValid()) {
+                    throw new SigningException(RB.$("ERROR_signing_verify_file",
+                        context.relativizeToBasedir(pair.inputFile),
+                        context.relativizeToBasedir(pair.signatureFile)));
+                }
+                return pair;
+            });
+        } finally {
+            context.getLogger().restorePrefix();
         }
     }
 
     private static boolean verify(JReleaserContext context, Keyring keyring, FilePair filePair) throws SigningException {
-        context.getLogger().setPrefix("verify");
-
         try {
             context.getLogger().debug("{}",
                 context.relativizeToBasedir(filePair.signatureFile));
 
-            InputStream sigInputStream = PGPUtil.getDecoderStream(
-                new BufferedInputStream(
-                    new FileInputStream(filePair.signatureFile.toFile())));
-
-            PGPObjectFactory pgpObjFactory = new PGPObjectFactory(sigInputStream, keyring.getKeyFingerPrintCalculator());
-            Iterable<?> pgpSigList = null;
-
-            Object obj = pgpObjFactory.nextObject();
-            if (obj instanceof PGPCompressedData) {
-                PGPCompressedData c1 = (PGPCompressedData) obj;
-                pgpObjFactory = new PGPObjectFactory(c1.getDataStream(), keyring.getKeyFingerPrintCalculator());
-                pgpSigList = (Iterable<?>) pgpObjFactory.nextObject();
-            } else {
-                pgpSigList = (Iterable<?>) obj;
+            try (InputStream signature = Files.newInputStream(filePair.signatureFile);
+                 InputStream data = Files.newInputStream(filePair.inputFile)) {
+                return verify(keyring, signature, data);
             }
-
-            InputStream fileInputStream = new BufferedInputStream(new FileInputStream(filePair.inputFile.toFile()));
-            PGPSignature sig = (PGPSignature) pgpSigList.iterator().next();
-            PGPPublicKey pubKey = keyring.readPublicKey();
-            sig.init(new JcaPGPContentVerifierBuilderProvider()
-                .setProvider(BouncyCastleProvider.PROVIDER_NAME), pubKey);
-
-            int ch;
-            while ((ch = fileInputStream.read()) >= 0) {
-                sig.update((byte) ch);
-            }
-
-            fileInputStream.close();
-            sigInputStream.close();
-
-            return sig.verify();
         } catch (IOException | PGPException e) {
             throw new SigningException(RB.$("ERROR_signing_verify_signature",
                 context.relativizeToBasedir(filePair.inputFile)), e);
-        } finally {
-            context.getLogger().restorePrefix();
         }
     }
 
-    private static boolean verify(JReleaserContext context, FilePair filePair) throws SigningException {
-        context.getLogger().setPrefix("verify");
+    static boolean verify(Keyring keyring, InputStream signature, InputStream data) throws IOException, PGPException, SigningException {
+        InputStream sigInputStream = PGPUtil.getDecoderStream(new BufferedInputStream(signature));
+
+        PGPObjectFactory pgpObjFactory = new PGPObjectFactory(sigInputStream, keyring.getKeyFingerPrintCalculator());
+        Iterable<?> pgpSigList = null;
+
+        Object obj = pgpObjFactory.nextObject();
+        if (obj instanceof PGPCompressedData) {
+            PGPCompressedData c1 = (PGPCompressedData) obj;
+            pgpObjFactory = new PGPObjectFactory(c1.getDataStream(), keyring.getKeyFingerPrintCalculator());
+            pgpSigList = (Iterable<?>) pgpObjFactory.nextObject();
+        } else {
+            pgpSigList = (Iterable<?>) obj;
+        }
+
+        PGPSignature sig = (PGPSignature) pgpSigList.iterator().next();
+        PGPPublicKey pubKey = keyring.readPublicKey();
+        sig.init(new JcaPGPContentVerifierBuilderProvider()
+            .setProvider(BouncyCastleProvider.PROVIDER_NAME), pubKey);
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int length;
+        while ((length = data.read(buffer)) >= 0) {
+            sig.update(buffer, 0, length);
+        }
+
+        return sig.verify();
+    }
 
+    private static boolean verify(JReleaserContext context, GpgCommandSigner commandSigner, FilePair filePair) throws SigningException {
         try {
             context.getLogger().debug("{}",
                 context.relativizeToBasedir(filePair.signatureFile));
 
-            GpgCommandSigner commandSigner = initCommandSigner(context);
             return commandSigner.verify(filePair.signatureFile, filePair.inputFile);
         } catch (CommandException e) {
             throw new SigningException(RB.$("ERROR_signing_verify_signature",
                 context.relativizeToBasedir(filePair.inputFile)), e);
-        } finally {
-            context.getLogger().restorePrefix();
         }
     }
 
     private static void sign(JReleaserContext context, List<FilePair> files,
-                             Cosign cosign, Path privateKeyFile, byte[] password) throws SigningException {
+                             Cosign cosign, Path privateKeyFile, byte[] password, int parallelism) throws SigningException {
         Path signaturesDirectory = context.getSignaturesDirectory();
 
         try {
@@ -312,33 +325,29 @@ public class Signer {
         context.getLogger().debug(RB.$("signing.signing.files"),
             files.size(), context.relativizeToBasedir(signaturesDirectory));
 
-        for (FilePair pair : files) {
+        execute(context, parallelism, files, pair -> {
             cosign.signBlob(privateKeyFile, password, pair.inputFile, signaturesDirectory);
-        }
+            return pair;
+        });
     }
 
     private static void verify(JReleaserContext context, List<FilePair> files,
-                               Cosign cosign, Path publicKeyFile) throws SigningException {
+                               Cosign cosign, Path publicKeyFile, int parallelism) throws SigningException {
         context.getLogger().debug(RB.$("signing.verify.signatures"), files.size());
 
         context.getLogger().setPrefix("verify");
         try {
-            for (FilePair pair : files) {
+            execute(context, parallelism, files, pair -> {
                 cosign.verifyBlob(publicKeyFile, pair.signatureFile, pair.inputFile);
                 pair.setValid(true);
-
-                if (!pair.isValid()) {
-                    throw new SigningException(RB.$("ERROR_signing_verify_file",
-                        context.relativizeToBasedir(pair.inputFile),
-                        context.relativizeToBasedir(pair.signatureFile)));
-                }
-            }
+                return pair;
+            });
         } finally {
             context.getLogger().restorePrefix();
         }
     }
 
-    private static void sign(JReleaserContext context, List<FilePair> files) throws SigningException {
+    private static void sign(JReleaserContext context, List<FilePair> files, int parallelism) throws SigningException {
         Path signaturesDirectory = context.getSignaturesDirectory();
 
         try {
@@ -352,9 +361,10 @@ public class Signer {
 
         GpgCommandSigner commandSigner = initCommandSigner(context);
 
-        for (FilePair pair : files) {
+        execute(context, parallelism, files, pair -> {
             sign(context, commandSigner, pair.inputFile, pair.signatureFile);
-        }
+            return pair;
+        });
     }
 
     private static GpgCommandSigner initCommandSigner(JReleaserContext context) {
@@ -380,7 +390,7 @@ public class Signer {
         }
     }
 
-    private static void sign(JReleaserContext context, Keyring keyring, List<FilePair> files) throws SigningException {
+    private static void sign(JReleaserContext context, Keyring keyring, List<FilePair> files, int parallelism) throws SigningException {
         Path signaturesDirectory = context.getSignaturesDirectory();
 
         try {
@@ -392,71 +402,87 @@ public class Signer {
         context.getLogger().debug(RB.$("signing.signing.files"),
             files.size(), context.relativizeToBasedir(signaturesDirectory));
 
-        PGPSignatureGenerator signatureGenerator = initSignatureGenerator(context.getModel().getSigning(), keyring);
+        PGPSecretKey pgpSecretKey;
+        PGPPrivateKey pgpPrivKey;
+        try {
+            // decrypt the secret key once, each file gets its own generator
+            pgpSecretKey = keyring.getSecretKey();
+            pgpPrivKey = extractPrivateKey(pgpSecretKey, context.getModel().getSigning().getResolvedPassphrase());
+        } catch (PGPException e) {
+            throw new SigningException(RB.$("ERROR_unexpected_error_signature_gen"), e);
+        }
 
-        for (FilePair pair : files) {
+        execute(context, parallelism, files, pair -> {
+            PGPSignatureGenerator signatureGenerator;
+            try {
+                signatureGenerator = initSignatureGenerator(pgpSecretKey, pgpPrivKey);
+            } catch (PGPException e) {
+                throw new SigningException(RB.$("ERROR_unexpected_error_signature_gen"), e);
+            }
             sign(context, signatureGenerator, pair.inputFile, pair.signatureFile);
-        }
+            return pair;
+        });
     }
 
-    private static PGPSignatureGenerator initSignatureGenerator(Signing signing, Keyring keyring) throws SigningException {
-        try {
-            PGPSecretKey pgpSecretKey = keyring.getSecretKey();
-
-            PGPPrivateKey pgpPrivKey = pgpSecretKey.extractPrivateKey(
-                new JcePBESecretKeyDecryptorBuilder()
-                    .setProvider(BouncyCastleProvider.PROVIDER_NAME)
-                    .build(signing.getResolvedPassphrase().toCharArray()));
+    static PGPPrivateKey extractPrivateKey(PGPSecretKey pgpSecretKey, String passphrase) throws PGPException {
+        return pgpSecretKey.extractPrivateKey(
+            new JcePBESecretKeyDecryptorBuilder()
+                .setProvider(BouncyCastleProvider.PROVIDER_NAME)
+                .build(passphrase.toCharArray()));
+    }
 
-            PGPSignatureGenerator signatureGenerator = new PGPSignatureGenerator(
-                new JcaPGPContentSignerBuilder(pgpSecretKey.getPublicKey().getAlgorithm(), PGPUtil.SHA1)
-                    .setProvider(BouncyCastleProvider.PROVIDER_NAME));
+    static PGPSignatureGenerator initSignatureGenerator(PGPSecretKey pgpSecretKey, PGPPrivateKey pgpPrivKey) throws PGPException {
+        PGPSignatureGenerator signatureGenerator = new PGPSignatureGenerator(
+            new JcaPGPContentSignerBuilder(pgpSecretKey.getPublicKey().getAlgorithm(), PGPUtil.SHA1)
+                .setProvider(BouncyCastleProvider.PROVIDER_NAME));
 
-            signatureGenerator.init(PGPSignature.BINARY_DOCUMENT, pgpPrivKey);
+        signatureGenerator.init(PGPSignature.BINARY_DOCUMENT, pgpPrivKey);
 
-            return signatureGenerator;
-        } catch (PGPException e) {
-            throw new SigningException(RB.$("ERROR_unexpected_error_signature_gen"), e);
-        }
+        return signatureGenerator;
     }
 
     private static void sign(JReleaserContext context, PGPSignatureGenerator signatureGenerator, Path input, Path output) throws SigningException {
         try {
             context.getLogger().info("{}", context.relativizeToBasedir(input));
 
-            OutputStream out = new BufferedOutputStream(new FileOutputStream(output.toFile()));
-            if (context.getModel().getSigning().isArmored()) {
-                out = new ArmoredOutputStream(out);
+            try (InputStream in = Files.newInputStream(input);
+                 OutputStream out = Files.newOutputStream(output)) {
+                sign(signatureGenerator, context.getModel().getSigning().isArmored(), in, out);
             }
+        } catch (IOException | PGPException e) {
+            throw new SigningException(RB.$("ERROR_unexpected_error_signing", input.toAbsolutePath()), e);
+        }
+    }
 
-            PGPCompressedDataGenerator compressionStreamGenerator = new PGPCompressedDataGenerator(UNCOMPRESSED);
-            BCPGOutputStream bOut = new BCPGOutputStream(compressionStreamGenerator.open(out));
+    static void sign(PGPSignatureGenerator signatureGenerator, boolean armored, InputStream in, OutputStream output) throws IOException, PGPException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int length = 0;
+        while ((length = in.read(buffer)) >= 0) {
+            signatureGenerator.update(buffer, 0, length);
+        }
 
-            FileInputStream in = new FileInputStream(input.toFile());
+        writeSignature(signatureGenerator, armored, output);
+    }
 
-            byte[] buffer = new byte[8192];
-            int length = 0;
-            while ((length = in.read(buffer)) >= 0) {
-                signatureGenerator.update(buffer, 0, length);
-            }
+    static void writeSignature(PGPSignatureGenerator signatureGenerator, boolean armored, OutputStream output) throws IOException, PGPException {
+        OutputStream out = new BufferedOutputStream(output);
+        if (armored) {
+            out = new ArmoredOutputStream(out);
+        }
 
-            signatureGenerator.generate().encode(bOut);
+        PGPCompressedDataGenerator compressionStreamGenerator = new PGPCompressedDataGenerator(UNCOMPRESSED);
+        BCPGOutputStream bOut = new BCPGOutputStream(compressionStreamGenerator.open(out));
 
-            compressionStreamGenerator.close();
+        signatureGenerator.generate().encode(bOut);
 
-            in.close();
-            out.flush();
-            out.close();
-        } catch (IOException | PGPException e) {
-            throw new SigningException(RB.$("ERROR_unexpected_error_signing", input.toAbsolutePath()), e);
-        }
-    }
+        compressionStreamGenerator.close();
 
-    private static List<FilePair> collectArtifacts(JReleaserContext context, Function<FilePair, Boolean> validator) {
-        return collectArtifacts(context, false, validator);
+        out.flush();
+        out.close();
     }
 
-    private static List<FilePair> collectArtifacts(JReleaserContext context, boolean forceSign, Function<FilePair, Boolean> validator) {
+    private static List<FilePair> collectArtifacts(JReleaserContext context, boolean forceSign, int parallelism,
+                                                   Function<FilePair, Boolean> validator) throws SigningException {
         List<FilePair> files = new ArrayList<>();
 
         Signing signing = context.getModel().getSigning();
@@ -472,9 +498,7 @@ public class Signer {
                 if (!artifact.isActive() || artifact.extraPropertyIsTrue(KEY_SKIP_SIGNING)) continue;
                 Path input = artifact.getEffectivePath(context);
                 Path output = signaturesDirectory.resolve(input.getFileName().toString().concat(extension));
-                FilePair pair = new FilePair(input, output);
-                if (!forceSign) pair.setValid(validator.apply(pair));
-                files.add(pair);
+                files.add(new FilePair(input, output));
             }
         }
 
@@ -485,9 +509,7 @@ public class Signer {
                     if (!artifact.isActive() || artifact.extraPropertyIsTrue(KEY_SKIP_SIGNING)) continue;
                     Path input = artifact.getEffectivePath(context, distribution);
                     Path output = signaturesDirectory.resolve(input.getFileName().toString().concat(extension));
-                    FilePair pair = new FilePair(input, output);
-                    if (!forceSign) pair.setValid(validator.apply(pair));
-                    files.add(pair);
+                    files.add(new FilePair(input, output));
                 }
             }
         }
@@ -498,16 +520,43 @@ public class Signer {
                     .resolve(context.getModel().getChecksum().getResolvedName(context, algorithm));
                 if (Files.exists(checksums)) {
                     Path output = signaturesDirectory.resolve(checksums.getFileName().toString().concat(extension));
-                    FilePair pair = new FilePair(checksums, output);
-                    if (!forceSign) pair.setValid(validator.apply(pair));
-                    files.add(pair);
+                    files.add(new FilePair(checksums, output));
                 }
             }
         }
 
+        if (!forceSign) {
+            execute(context, parallelism, files, pair -> {
+                pair.setValid(validator.apply(pair));
+                return pair;
+            });
+        }
+
         return files;
     }
 
+    private static void execute(JReleaserContext context, int parallelism, List<FilePair> files,
+                                ConcurrentUtils.Task<FilePair, FilePair> task) throws SigningException {
+        try {
+            ConcurrentUtils.invokeAll("sign", parallelism, files, context.getLogger().scoped(task));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (e.getSuppressed().length > 0) {
+                // report every failure, not just the first one
+                context.getLogger().error(RB.$("ERROR_signing_multiple_failures", e.getSuppressed().length + 1));
+                context.getLogger().error(cause.getMessage());
+                for (Throwable suppressed : e.getSuppressed()) {
+                    context.getLogger().error(suppressed.getMessage());
+                    cause.addSuppressed(suppressed);
+                }
+            }
+            if (cause instanceof SigningException) {
+                throw (SigningException) cause;
+            }
+            throw new SigningException(RB.$("ERROR_unexpected_error"), cause);
+        }
+    }
+
     private static boolean isValid(JReleaserContext context, Cosign cosign, Path publicKeyFile, FilePair pair) {
         if (Files.notExists(pair.getSignatureFile())) {
             context.getLogger().debug(RB.$("signing.signature.not.exist"),
@@ -570,7 +619,7 @@ public class Signer {
         }
 
         try {
-            return verify(context, pair);
+            return verify(context, initCommandSigner(context), pair);
         } catch (SigningException e) {
             return false;
         }
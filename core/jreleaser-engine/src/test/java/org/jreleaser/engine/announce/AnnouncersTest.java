@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.announce;
+
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.JReleaserModel;
+import org.jreleaser.model.announcer.spi.Announcer;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class AnnouncersTest {
+    @Test
+    public void hangingAnnouncerIsBoundedByItsTimeout() throws Exception {
+        // given:
+        JReleaserContext context = createContext();
+        context.getModel().getAnnounce().setTimeout(1);
+        HangingAnnouncer hanging = new HangingAnnouncer();
+        CompletingAnnouncer completing = new CompletingAnnouncer();
+
+        try {
+            // when:
+            long start = System.nanoTime();
+            Announcers.announce(context, Arrays.asList(hanging, completing));
+            long elapsed = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start);
+
+            // then:
+            assertThat(elapsed, lessThan(10L));
+            assertThat(completing.announced, equalTo(true));
+        } finally {
+            hanging.release();
+        }
+    }
+
+    @Test
+    public void hangingAnnouncerIsBoundedByTheDeadline() throws Exception {
+        // given:
+        JReleaserContext context = createContext();
+        context.getModel().getAnnounce().setTimeout(600);
+        context.getModel().getAnnounce().setDeadline(1);
+        HangingAnnouncer hanging = new HangingAnnouncer();
+
+        try {
+            // when:
+            long start = System.nanoTime();
+            Announcers.announce(context, Collections.singletonList(hanging));
+            long elapsed = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start);
+
+            // then:
+            assertThat(elapsed, lessThan(10L));
+        } finally {
+            hanging.release();
+        }
+    }
+
+    private static JReleaserContext createContext() throws Exception {
+        Path basedir = Files.createTempDirectory("announce");
+        return new JReleaserContext(new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR),
+            JReleaserContext.Configurer.CLI,
+            JReleaserContext.Mode.ANNOUNCE,
+            new JReleaserModel(),
+            basedir,
+            basedir.resolve("out"),
+            true,
+            false,
+            Collections.emptyList());
+    }
+
+    private static final class HangingAnnouncer implements Announcer {
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        @Override
+        public String getName() {
+            return "hanging";
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public void announce() {
+            // ignore interrupts, like a blocking socket read would
+            while (latch.getCount() > 0) {
+                try {
+                    latch.await();
+                } catch (InterruptedException ignored) {
+                    // keep waiting
+                }
+            }
+        }
+
+        private void release() {
+            latch.countDown();
+        }
+    }
+
+    private static final class CompletingAnnouncer implements Announcer {
+        private volatile boolean announced;
+
+        @Override
+        public String getName() {
+            return "completing";
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public void announce() {
+            announced = true;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.checksum;
+
+import org.jreleaser.util.Algorithm;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class ChecksumIndexTest {
+    private static final Map<Algorithm, String> CHECKSUMS = Collections.singletonMap(Algorithm.SHA_256, "abc123");
+
+    @Test
+    public void savedEntriesAreFoundAfterLoading() throws IOException {
+        // given:
+        Path directory = Files.createTempDirectory("checksums");
+        Path artifact = write(directory.resolve("app.zip"), "app");
+        Path file = directory.resolve(ChecksumIndex.INDEX_FILE_NAME);
+        ChecksumIndex index = ChecksumIndex.load(file);
+        index.update(artifact, ChecksumIndex.fingerprint(artifact), CHECKSUMS);
+
+        // when:
+        index.save();
+        ChecksumIndex loaded = ChecksumIndex.load(file);
+
+        // then:
+        assertThat(loaded.lookup(artifact, ChecksumIndex.fingerprint(artifact)), equalTo(CHECKSUMS));
+    }
+
+    @Test
+    public void entriesAreInvalidatedBySizeModificationTimeAndFileKey() throws IOException {
+        // given:
+        Path directory = Files.createTempDirectory("checksums");
+        Path artifact = write(directory.resolve("app.zip"), "app");
+        FileTime lastModified = Files.getLastModifiedTime(artifact);
+        ChecksumIndex index = ChecksumIndex.load(directory.resolve(ChecksumIndex.INDEX_FILE_NAME));
+        index.update(artifact, ChecksumIndex.fingerprint(artifact), CHECKSUMS);
+
+        // expect: a different size
+        write(artifact, "app-1");
+        Files.setLastModifiedTime(artifact, lastModified);
+        assertThat(index.lookup(artifact, ChecksumIndex.fingerprint(artifact)), nullValue());
+
+        // expect: a different modification time
+        write(artifact, "app");
+        Files.setLastModifiedTime(artifact, FileTime.fromMillis(lastModified.toMillis() - 60_000L));
+        assertThat(index.lookup(artifact, ChecksumIndex.fingerprint(artifact)), nullValue());
+
+        // expect: a different file with the same size and modification time
+        Files.setLastModifiedTime(artifact, lastModified);
+        assertThat(index.lookup(artifact, ChecksumIndex.fingerprint(artifact)), equalTo(CHECKSUMS));
+        Path replacement = write(directory.resolve("replacement.zip"), "app");
+        Files.setLastModifiedTime(replacement, lastModified);
+        Files.delete(artifact);
+        Files.move(replacement, artifact);
+        if (null != Files.readAttributes(artifact, BasicFileAttributes.class).fileKey()) {
+            assertThat(index.lookup(artifact, ChecksumIndex.fingerprint(artifact)), nullValue());
+        }
+    }
+
+    @Test
+    public void corruptIndexIsIgnored() throws IOException {
+        // given:
+        Path directory = Files.createTempDirectory("checksums");
+        Path artifact = write(directory.resolve("app.zip"), "app");
+        Path file = write(directory.resolve(ChecksumIndex.INDEX_FILE_NAME), "not an index\n" + artifact + "\tgarbage");
+
+        // when:
+        ChecksumIndex index = ChecksumIndex.load(file);
+
+        // then:
+        assertThat(index.contains(artifact), equalTo(false));
+    }
+
+    @Test
+    public void concurrentIndexesMergeOnSave() throws IOException {
+        // given:
+        Path directory = Files.createTempDirectory("checksums");
+        Path first = write(directory.resolve("first.zip"), "first");
+        Path second = write(directory.resolve("second.zip"), "second");
+        Path file = directory.resolve(ChecksumIndex.INDEX_FILE_NAME);
+        ChecksumIndex a = ChecksumIndex.load(file);
+        ChecksumIndex b = ChecksumIndex.load(file);
+
+        // when:
+        a.update(first, ChecksumIndex.fingerprint(first), CHECKSUMS);
+        b.update(second, ChecksumIndex.fingerprint(second), CHECKSUMS);
+        a.save();
+        b.save();
+
+        // then:
+        ChecksumIndex loaded = ChecksumIndex.load(file);
+        assertThat(loaded.lookup(first, ChecksumIndex.fingerprint(first)), equalTo(CHECKSUMS));
+        assertThat(loaded.lookup(second, ChecksumIndex.fingerprint(second)), equalTo(CHECKSUMS));
+    }
+
+    private static Path write(Path path, String content) throws IOException {
+        return Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -49,6 +49,7 @@ abstract class AbstractAssembler<S extends AbstractAssembler<S>> extends Abstrac
     protected boolean enabled;
     protected Active active;
     protected Boolean exported;
+    protected Boolean reproducible;
     private Stereotype stereotype;
 
     protected AbstractAssembler(String type) {
@@ -69,6 +70,7 @@ abstract class AbstractAssembler<S extends AbstractAssembler<S>> extends Abstrac
         this.active = merge(this.active, assembler.active);
         this.enabled = merge(this.enabled, assembler.enabled);
         this.exported = merge(this.exported, assembler.exported);
+        this.reproducible = merge(this.reproducible, assembler.reproducible);
         this.name = merge(this.name, assembler.name);
         this.platform.merge(assembler.platform);
         this.stereotype = merge(this.stereotype, assembler.getStereotype());
@@ -147,6 +149,17 @@ abstract class AbstractAssembler<S extends AbstractAssembler<S>> extends Abstrac
         this.exported = exported;
     }
 
+    @Override
+    public boolean isReproducible() {
+        return reproducible != null && reproducible;
+    }
+
+    @Override
+    public void setReproducible(Boolean reproducible) {
+        freezeCheck();
+        this.reproducible = reproducible;
+    }
+
     @Override
     public String getName() {
         return name;
@@ -255,6 +268,7 @@ abstract class AbstractAssembler<S extends AbstractAssembler<S>> extends Abstrac
         Map<String, Object> props = new LinkedHashMap<>();
         props.put("enabled", isEnabled());
         props.put("exported", isExported());
+        props.put("reproducible", isReproducible());
         props.put("active", active);
         props.put("stereotype", stereotype);
         if (full || platform.isSet()) props.put("platform", platform.asMap(full));
@@ -45,6 +45,7 @@ public abstract class AbstractSshUploader<S extends AbstractSshUploader<S>> exte
     protected String fingerprint;
     protected String path;
     protected String downloadUrl;
+    protected Integer parallelism;
 
     public AbstractSshUploader(String type) {
         super(type);
@@ -65,6 +66,7 @@ public abstract class AbstractSshUploader<S extends AbstractSshUploader<S>> exte
         this.fingerprint = merge(this.fingerprint, uploader.fingerprint);
         this.path = merge(this.path, uploader.path);
         this.downloadUrl = merge(this.downloadUrl, uploader.downloadUrl);
+        this.parallelism = merge(this.parallelism, uploader.parallelism);
     }
 
     protected abstract String getEnvPrefix();
@@ -191,6 +193,17 @@ public abstract class AbstractSshUploader<S extends AbstractSshUploader<S>> exte
         this.downloadUrl = downloadUrl;
     }
 
+    @Override
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void setParallelism(Integer parallelism) {
+        freezeCheck();
+        this.parallelism = parallelism;
+    }
+
     @Override
     public String getUsername() {
         return username;
@@ -303,5 +316,6 @@ public abstract class AbstractSshUploader<S extends AbstractSshUploader<S>> exte
         props.put("fingerprint", isNotBlank(getResolvedFingerprint()) ? HIDE : UNSET);
         props.put("path", path);
         props.put("downloadUrl", downloadUrl);
+        props.put("parallelism", parallelism);
     }
 }
@@ -37,6 +37,8 @@ import static org.jreleaser.util.StringUtils.isBlank;
  * @since 0.1.0
  */
 public class Announce extends AbstractModelObject<Announce> implements Domain, Activatable {
+    public static final int DEFAULT_TIMEOUT = 300;
+
     private final Article article = new Article();
     private final Discord discord = new Discord();
     private final Discussions discussions = new Discussions();
@@ -54,6 +56,9 @@ public class Announce extends AbstractModelObject<Announce> implements Domain, A
     private final Zulip zulip = new Zulip();
 
     private Active active;
+    private Integer parallelism;
+    private Integer timeout;
+    private Integer deadline;
     @JsonIgnore
     private boolean enabled = true;
 
@@ -82,6 +87,9 @@ public class Announce extends AbstractModelObject<Announce> implements Domain, A
         freezeCheck();
         this.active = merge(this.active, announce.active);
         this.enabled = merge(this.enabled, announce.enabled);
+        this.parallelism = merge(this.parallelism, announce.parallelism);
+        this.timeout = merge(this.timeout, announce.timeout);
+        this.deadline = merge(this.deadline, announce.deadline);
         setArticle(announce.article);
         setDiscord(announce.discord);
         setDiscussions(announce.discussions);
@@ -147,6 +155,33 @@ public class Announce extends AbstractModelObject<Announce> implements Domain, A
         return active != null;
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        freezeCheck();
+        this.parallelism = parallelism;
+    }
+
+    public Integer getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Integer timeout) {
+        freezeCheck();
+        this.timeout = timeout;
+    }
+
+    public Integer getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(Integer deadline) {
+        freezeCheck();
+        this.deadline = deadline;
+    }
+
     public Article getArticle() {
         return article;
     }
@@ -284,6 +319,9 @@ public class Announce extends AbstractModelObject<Announce> implements Domain, A
         Map<String, Object> map = new LinkedHashMap<>();
         map.put("enabled", isEnabled());
         map.put("active", active);
+        map.put("parallelism", parallelism);
+        map.put("timeout", timeout);
+        map.put("deadline", deadline);
         map.putAll(article.asMap(full));
         map.putAll(discord.asMap(full));
         map.putAll(discussions.asMap(full));
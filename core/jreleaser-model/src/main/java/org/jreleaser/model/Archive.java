@@ -38,6 +38,7 @@ public class Archive extends AbstractAssembler<Archive> {
 
     private String archiveName;
     private Boolean attachPlatform;
+    private Integer parallelism;
     private Distribution.DistributionType distributionType;
 
     public Archive() {
@@ -66,6 +67,7 @@ public class Archive extends AbstractAssembler<Archive> {
         this.archiveName = merge(archive.archiveName, archive.archiveName);
         this.distributionType = merge(archive.distributionType, archive.distributionType);
         this.attachPlatform = merge(archive.attachPlatform, archive.attachPlatform);
+        this.parallelism = merge(this.parallelism, archive.parallelism);
         setFormats(merge(this.formats, archive.formats));
     }
 
@@ -101,6 +103,15 @@ public class Archive extends AbstractAssembler<Archive> {
         this.attachPlatform = attachPlatform;
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        freezeCheck();
+        this.parallelism = parallelism;
+    }
+
     public Set<Format> getFormats() {
         return freezeWrap(formats);
     }
@@ -126,6 +137,7 @@ public class Archive extends AbstractAssembler<Archive> {
         props.put("archiveName", archiveName);
         props.put("distributionType", distributionType);
         props.put("attachPlatform", isAttachPlatform());
+        props.put("parallelism", parallelism);
         props.put("formats", formats);
     }
 
@@ -39,12 +39,15 @@ import static org.jreleaser.util.StringUtils.isBlank;
  * @since 0.2.0
  */
 public class Assemble extends AbstractModelObject<Assemble> implements Domain, Activatable {
+    public static final String ASSEMBLE_INCREMENTAL = "ASSEMBLE_INCREMENTAL";
+
     private final Map<String, Archive> archive = new LinkedHashMap<>();
     private final Map<String, Jlink> jlink = new LinkedHashMap<>();
     private final Map<String, Jpackage> jpackage = new LinkedHashMap<>();
     private final Map<String, NativeImage> nativeImage = new LinkedHashMap<>();
 
     private Active active;
+    private Boolean incremental;
     @JsonIgnore
     private boolean enabled = true;
 
@@ -62,6 +65,7 @@ public class Assemble extends AbstractModelObject<Assemble> implements Domain, A
         freezeCheck();
         this.active = merge(this.active, assemble.active);
         this.enabled = merge(this.enabled, assemble.enabled);
+        this.incremental = merge(this.incremental, assemble.incremental);
         setArchive(mergeModel(this.archive, assemble.archive));
         setJlink(mergeModel(this.jlink, assemble.jlink));
         setJpackage(mergeModel(this.jpackage, assemble.jpackage));
@@ -116,6 +120,23 @@ public class Assemble extends AbstractModelObject<Assemble> implements Domain, A
         return active != null;
     }
 
+    public Boolean getIncremental() {
+        return incremental;
+    }
+
+    public boolean isIncremental() {
+        return incremental != null && incremental;
+    }
+
+    public void setIncremental(Boolean incremental) {
+        freezeCheck();
+        this.incremental = incremental;
+    }
+
+    public boolean isIncrementalSet() {
+        return incremental != null;
+    }
+
     public List<Archive> getActiveArchives() {
         return archive.values().stream()
             .filter(Archive::isEnabled)
@@ -217,6 +238,7 @@ public class Assemble extends AbstractModelObject<Assemble> implements Domain, A
         Map<String, Object> map = new LinkedHashMap<>();
         map.put("enabled", isEnabled());
         map.put("active", active);
+        map.put("incremental", isIncremental());
 
         List<Map<String, Object>> archive = this.archive.values()
             .stream()
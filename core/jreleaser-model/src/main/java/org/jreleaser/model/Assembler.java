@@ -44,6 +44,10 @@ public interface Assembler extends Domain, Activatable, ExtraProperties {
 
     void setExported(Boolean exported);
 
+    boolean isReproducible();
+
+    void setReproducible(Boolean reproducible);
+
     String getName();
 
     void setName(String name);
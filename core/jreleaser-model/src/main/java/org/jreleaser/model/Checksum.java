@@ -38,6 +38,7 @@ public class Checksum extends AbstractModelObject<Checksum> implements Domain {
     private Boolean individual;
     private String name;
     private Boolean files;
+    private Integer parallelism;
 
     @Override
     public void merge(Checksum checksum) {
@@ -45,6 +46,7 @@ public class Checksum extends AbstractModelObject<Checksum> implements Domain {
         this.name = merge(this.name, checksum.name);
         this.individual = merge(this.individual, checksum.individual);
         this.files = merge(this.files, checksum.files);
+        this.parallelism = merge(this.parallelism, checksum.parallelism);
         setAlgorithms(merge(this.algorithms, checksum.algorithms));
     }
 
@@ -111,6 +113,15 @@ public class Checksum extends AbstractModelObject<Checksum> implements Domain {
         this.files = files;
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        freezeCheck();
+        this.parallelism = parallelism;
+    }
+
     @Override
     public Map<String, Object> asMap(boolean full) {
         Map<String, Object> props = new LinkedHashMap<>();
@@ -118,6 +129,7 @@ public class Checksum extends AbstractModelObject<Checksum> implements Domain {
         props.put("individual", isIndividual());
         props.put("algorithms", algorithms);
         props.put("files", isFiles());
+        props.put("parallelism", parallelism);
         return props;
     }
 }
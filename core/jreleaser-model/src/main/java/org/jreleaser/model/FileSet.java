@@ -45,6 +45,7 @@ import static org.jreleaser.util.CollectionUtils.setOf;
  */
 public class FileSet extends AbstractModelObject<FileSet> implements Domain, ExtraProperties {
     private static final String GLOB_PREFIX = "glob:";
+    private static final String EXCLUDED_SUBTREE_SUFFIX = "/**";
 
     private final Map<String, Object> extraProperties = new LinkedHashMap<>();
     private final Set<String> includes = new LinkedHashSet<>();
@@ -212,6 +213,7 @@ public class FileSet extends AbstractModelObject<FileSet> implements Domain, Ext
         private final JReleaserLogger logger;
         private final Set<ExtPathMatcher> includes = new LinkedHashSet<>();
         private final Set<ExtPathMatcher> excludes = new LinkedHashSet<>();
+        private final Set<PathMatcher> excludedDirectories = new LinkedHashSet<>();
         private final Path basedir;
         private final Set<Path> paths = new LinkedHashSet<>();
         private boolean failed;
@@ -226,6 +228,10 @@ public class FileSet extends AbstractModelObject<FileSet> implements Domain, Ext
             }
             for (String s : excludes) {
                 this.excludes.add(new ExtPathMatcher(fileSystem.getPathMatcher(s), s.contains("**")));
+                // an exclude such as '**/build/**' rules out the whole 'build' subtree
+                if (s.endsWith(EXCLUDED_SUBTREE_SUFFIX) && s.length() > GLOB_PREFIX.length() + EXCLUDED_SUBTREE_SUFFIX.length()) {
+                    this.excludedDirectories.add(fileSystem.getPathMatcher(s.substring(0, s.length() - EXCLUDED_SUBTREE_SUFFIX.length())));
+                }
             }
         }
 
@@ -249,11 +255,15 @@ public class FileSet extends AbstractModelObject<FileSet> implements Domain, Ext
         public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
             if (basedir.normalize().equals(dir.normalize())) return CONTINUE;
 
-            if (includes.stream().anyMatch(matcher -> matcher.recursive)) {
-                return CONTINUE;
-            } else {
+            if (includes.stream().noneMatch(matcher -> matcher.recursive)) {
+                return SKIP_SUBTREE;
+            }
+
+            if (excludedDirectories.stream().anyMatch(matcher -> matcher.matches(dir))) {
                 return SKIP_SUBTREE;
             }
+
+            return CONTINUE;
         }
 
         @Override
@@ -92,6 +92,7 @@ public abstract class GitService<S extends GitService<S>> extends AbstractModelO
     protected String apiEndpoint;
     protected int connectTimeout;
     protected int readTimeout;
+    protected Integer uploadParallelism;
     protected Boolean artifacts;
     protected Boolean files;
     protected Boolean checksums;
@@ -158,6 +159,7 @@ public abstract class GitService<S extends GitService<S>> extends AbstractModelO
         this.apiEndpoint = merge(this.apiEndpoint, service.apiEndpoint);
         this.connectTimeout = merge(this.connectTimeout, service.connectTimeout);
         this.readTimeout = merge(this.readTimeout, service.readTimeout);
+        this.uploadParallelism = merge(this.uploadParallelism, service.uploadParallelism);
         this.artifacts = merge(this.artifacts, service.artifacts);
         this.files = merge(this.files, service.files);
         this.checksums = merge(this.checksums, service.checksums);
@@ -604,6 +606,15 @@ public abstract class GitService<S extends GitService<S>> extends AbstractModelO
         this.readTimeout = readTimeout;
     }
 
+    public Integer getUploadParallelism() {
+        return uploadParallelism;
+    }
+
+    public void setUploadParallelism(Integer uploadParallelism) {
+        freezeCheck();
+        this.uploadParallelism = uploadParallelism;
+    }
+
     public boolean isArtifactsSet() {
         return artifacts != null;
     }
@@ -712,6 +723,7 @@ public abstract class GitService<S extends GitService<S>> extends AbstractModelO
             props.put("apiEndpoint", apiEndpoint);
             props.put("connectTimeout", connectTimeout);
             props.put("readTimeout", readTimeout);
+            props.put("uploadParallelism", uploadParallelism);
         }
         props.put("changelog", changelog.asMap(full));
         if (releaseSupported) {
@@ -89,19 +89,40 @@ public class Glob extends AbstractModelObject<Glob> implements Domain, ExtraProp
 
     public Set<Artifact> getResolvedArtifactsPattern(JReleaserContext context) {
         if (null == artifacts) {
-            mutate(() -> setPattern(Artifacts.resolveForGlob(getPattern(), context, this)));
-            normalizePattern(resolveDirectory(context));
-            artifacts = Artifacts.resolveFiles(context, resolveDirectory(context), Collections.singletonList(pattern));
-            artifacts.forEach(artifact -> {
-                artifact.setPlatform(platform);
-                if (context.isPlatformSelected(artifact)) artifact.activate();
-                artifact.setExtraProperties(getExtraProperties());
-            });
+            Artifacts.resolveGlobs(context, Collections.singletonList(this));
         }
 
         return artifacts;
     }
 
+    public boolean areArtifactsResolved() {
+        return null != artifacts;
+    }
+
+    /**
+     * Resolves templates and normalizes the pattern. Must be invoked once, before
+     * {@link #setResolvedArtifacts(JReleaserContext, Set)}.
+     *
+     * @param context the current context
+     * @return the directory from which the pattern should be matched
+     * @since 1.3.0
+     */
+    public Path resolvePattern(JReleaserContext context) {
+        mutate(() -> setPattern(Artifacts.resolveForGlob(getPattern(), context, this)));
+        Path path = resolveDirectory(context);
+        normalizePattern(path);
+        return path;
+    }
+
+    public void setResolvedArtifacts(JReleaserContext context, Set<Artifact> artifacts) {
+        this.artifacts = artifacts;
+        this.artifacts.forEach(artifact -> {
+            artifact.setPlatform(platform);
+            if (context.isPlatformSelected(artifact)) artifact.activate();
+            artifact.setExtraProperties(getExtraProperties());
+        });
+    }
+
     private Path resolveDirectory(JReleaserContext context) {
         // resolve directory
         Path path = context.getBasedir();
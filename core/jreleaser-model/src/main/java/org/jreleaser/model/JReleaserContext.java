@@ -77,6 +77,7 @@ import static org.jreleaser.util.Constants.KEY_VERSION_WEEK;
 import static org.jreleaser.util.Constants.KEY_VERSION_YEAR;
 import static org.jreleaser.util.StringUtils.capitalize;
 import static org.jreleaser.util.StringUtils.isBlank;
+import static org.jreleaser.util.TimeUtils.formatDuration;
 
 /**
  * @author Andres Almiray
@@ -109,7 +110,9 @@ public class JReleaserContext {
     private final List<String> excludedDownloaderNames = new ArrayList<>();
     private final List<String> excludedUploaderTypes = new ArrayList<>();
     private final List<String> excludedUploaderNames = new ArrayList<>();
+    private final Map<String, Double> criticalPath = new LinkedHashMap<>();
 
+    private int maxParallelism = 1;
     private String changelog;
     private Releaser releaser;
     private JReleaserCommand command;
@@ -552,6 +555,24 @@ public class JReleaserContext {
         this.command = command;
     }
 
+    public int getMaxParallelism() {
+        return maxParallelism;
+    }
+
+    public void setMaxParallelism(Integer maxParallelism) {
+        freezeCheck();
+        this.maxParallelism = null != maxParallelism && maxParallelism > 1 ? maxParallelism : 1;
+    }
+
+    public Map<String, Double> getCriticalPath() {
+        return Collections.unmodifiableMap(criticalPath);
+    }
+
+    public void setCriticalPath(Map<String, Double> criticalPath) {
+        this.criticalPath.clear();
+        this.criticalPath.putAll(criticalPath);
+    }
+
     public Map<String, Object> props() {
         Map<String, Object> props = new LinkedHashMap<>(model.props());
         props.put(Constants.KEY_BASEDIR, getBasedir());
@@ -634,6 +655,21 @@ public class JReleaserContext {
             logger.warn(RB.$("context.writing.properties.error"),
                 relativizeToBasedir(output));
         }
+
+        reportCriticalPath();
+    }
+
+    private void reportCriticalPath() {
+        if (criticalPath.isEmpty()) return;
+
+        double total = criticalPath.values().stream()
+            .mapToDouble(Double::doubleValue)
+            .sum();
+        logger.info(RB.$("context.critical.path"), formatDuration(total));
+        logger.increaseIndent();
+        criticalPath.forEach((step, duration) ->
+            logger.info(RB.$("context.critical.path.step"), step, formatDuration(duration)));
+        logger.decreaseIndent();
     }
 
     public void nag(String version, String message) {
@@ -44,6 +44,7 @@ public class Jlink extends AbstractJavaAssembler<Jlink> {
     private String imageName;
     private String imageNameTransform;
     private Boolean copyJars;
+    private Integer parallelism;
 
     public Jlink() {
         super(TYPE);
@@ -69,6 +70,7 @@ public class Jlink extends AbstractJavaAssembler<Jlink> {
         this.imageName = merge(this.imageName, jlink.imageName);
         this.imageNameTransform = merge(this.imageNameTransform, jlink.imageNameTransform);
         this.copyJars = merge(this.copyJars, jlink.copyJars);
+        this.parallelism = merge(this.parallelism, jlink.parallelism);
         setJdeps(jlink.jdeps);
         setJdk(jlink.jdk);
         setTargetJdks(merge(this.targetJdks, jlink.targetJdks));
@@ -185,6 +187,15 @@ public class Jlink extends AbstractJavaAssembler<Jlink> {
         return copyJars != null;
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        freezeCheck();
+        this.parallelism = parallelism;
+    }
+
     @Override
     protected void asMap(boolean full, Map<String, Object> props) {
         super.asMap(full, props);
@@ -202,6 +213,7 @@ public class Jlink extends AbstractJavaAssembler<Jlink> {
         props.put("jdk", jdk.asMap(full));
         props.put("targetJdks", mappedJdks);
         props.put("copyJars", isCopyJars());
+        props.put("parallelism", parallelism);
     }
 
     public static class Jdeps extends AbstractModelObject<Jdeps> implements Domain, EnabledAware {
@@ -19,6 +19,7 @@ package org.jreleaser.model;
 
 import com.github.mustachejava.TemplateFunction;
 import org.jreleaser.bundle.RB;
+import org.jreleaser.model.util.Artifacts;
 import org.jreleaser.util.CalVer;
 import org.jreleaser.util.ChronVer;
 import org.jreleaser.util.Constants;
@@ -56,6 +57,7 @@ public class Project extends AbstractModelObject<Project> implements Domain, Ext
     public static final String PROJECT_SNAPSHOT_PATTERN = "PROJECT_SNAPSHOT_PATTERN";
     public static final String PROJECT_SNAPSHOT_LABEL = "PROJECT_SNAPSHOT_LABEL";
     public static final String PROJECT_SNAPSHOT_FULL_CHANGELOG = "PROJECT_SNAPSHOT_FULL_CHANGELOG";
+    public static final String TRANSFORM_MODE = "TRANSFORM_MODE";
     public static final String DEFAULT_SNAPSHOT_PATTERN = ".*-SNAPSHOT";
     public static final String DEFAULT_SNAPSHOT_LABEL = "early-access";
 
@@ -78,6 +80,7 @@ public class Project extends AbstractModelObject<Project> implements Domain, Ext
     private String copyright;
     private String vendor;
     private Stereotype stereotype = Stereotype.NONE;
+    private String transformMode;
 
     @Override
     public void freeze() {
@@ -103,6 +106,7 @@ public class Project extends AbstractModelObject<Project> implements Domain, Ext
         this.copyright = merge(this.copyright, project.copyright);
         this.vendor = merge(this.vendor, project.vendor);
         this.stereotype = merge(this.stereotype, project.stereotype);
+        this.transformMode = merge(this.transformMode, project.transformMode);
         setJava(project.java);
         setSnapshot(project.snapshot);
         setAuthors(merge(this.authors, project.authors));
@@ -287,6 +291,20 @@ public class Project extends AbstractModelObject<Project> implements Domain, Ext
         setStereotype(Stereotype.of(str));
     }
 
+    public String getTransformMode() {
+        return transformMode;
+    }
+
+    public void setTransformMode(String transformMode) {
+        freezeCheck();
+        this.transformMode = transformMode;
+    }
+
+    public Artifacts.TransformMode resolveTransformMode() {
+        Artifacts.TransformMode mode = Artifacts.TransformMode.of(transformMode);
+        return null != mode ? mode : Artifacts.TransformMode.LINK;
+    }
+
     public List<Screenshot> getScreenshots() {
         return freezeWrap(screenshots);
     }
@@ -402,6 +420,7 @@ public class Project extends AbstractModelObject<Project> implements Domain, Ext
         map.put("tags", tags);
         map.put("maintainers", maintainers);
         map.put("stereotype", stereotype);
+        map.put("transformMode", transformMode);
         map.put("links", links.asMap(full));
         Map<String, Map<String, Object>> sm = new LinkedHashMap<>();
         int i = 0;
@@ -45,6 +45,7 @@ public class S3 extends AbstractUploader<S3> {
     private String accessKeyId;
     private String secretKey;
     private String sessionToken;
+    private Integer parallelism;
 
     public S3() {
         super(TYPE);
@@ -62,6 +63,7 @@ public class S3 extends AbstractUploader<S3> {
         this.accessKeyId = merge(this.accessKeyId, s3.accessKeyId);
         this.secretKey = merge(this.secretKey, s3.secretKey);
         this.sessionToken = merge(this.sessionToken, s3.sessionToken);
+        this.parallelism = merge(this.parallelism, s3.parallelism);
         setHeaders(merge(this.headers, s3.headers));
     }
 
@@ -209,6 +211,15 @@ public class S3 extends AbstractUploader<S3> {
         this.endpoint = endpoint;
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        freezeCheck();
+        this.parallelism = parallelism;
+    }
+
     public Map<String, String> getHeaders() {
         return freezeWrap(headers);
     }
@@ -228,6 +239,7 @@ public class S3 extends AbstractUploader<S3> {
         props.put("path", getResolvedPath());
         props.put("downloadUrl", getResolvedDownloadUrl());
         props.put("endpoint", getResolvedEndpoint());
+        props.put("parallelism", parallelism);
         props.put("headers", headers);
     }
 }
@@ -66,6 +66,7 @@ public class Signing extends AbstractModelObject<Signing> implements Domain, Act
     private Boolean artifacts;
     private Boolean files;
     private Boolean checksums;
+    private Integer parallelism;
 
     @Override
     public void freeze() {
@@ -87,6 +88,7 @@ public class Signing extends AbstractModelObject<Signing> implements Domain, Act
         this.artifacts = merge(this.artifacts, signing.artifacts);
         this.files = merge(this.files, signing.files);
         this.checksums = merge(this.checksums, signing.checksums);
+        this.parallelism = merge(this.parallelism, signing.parallelism);
         setCommand(signing.command);
         setCosign(signing.cosign);
     }
@@ -245,6 +247,15 @@ public class Signing extends AbstractModelObject<Signing> implements Domain, Act
         this.checksums = checksums;
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        freezeCheck();
+        this.parallelism = parallelism;
+    }
+
     public Command getCommand() {
         return command;
     }
@@ -274,6 +285,7 @@ public class Signing extends AbstractModelObject<Signing> implements Domain, Act
         props.put("artifacts", isArtifacts());
         props.put("files", isFiles());
         props.put("checksums", isChecksums());
+        props.put("parallelism", parallelism);
         props.put("passphrase", isNotBlank(passphrase) ? HIDE : UNSET);
 
         if (mode == Mode.COMMAND) {
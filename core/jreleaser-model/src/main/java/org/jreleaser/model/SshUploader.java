@@ -30,5 +30,9 @@ public interface SshUploader extends Uploader, Ssh {
 
     void setDownloadUrl(String downloadUrl);
 
+    Integer getParallelism();
+
+    void setParallelism(Integer parallelism);
+
     String getResolvedPath(JReleaserContext context, Artifact artifact);
 }
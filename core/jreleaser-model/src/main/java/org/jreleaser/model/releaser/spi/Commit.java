@@ -27,11 +27,17 @@ public class Commit {
     private final String shortHash;
     private final String fullHash;
     private final String refName;
+    private final long timestamp;
 
     public Commit(String shortHash, String fullHash, String refName) {
+        this(shortHash, fullHash, refName, 0L);
+    }
+
+    public Commit(String shortHash, String fullHash, String refName, long timestamp) {
         this.shortHash = shortHash;
         this.fullHash = fullHash;
         this.refName = refName;
+        this.timestamp = timestamp;
     }
 
     public String getShortHash() {
@@ -46,6 +52,15 @@ public class Commit {
         return refName;
     }
 
+    /**
+     * Commit time, in seconds since the epoch, or {@code 0} when unknown.
+     *
+     * @since 1.3.0
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
     @Override
     public String toString() {
         return "Commit[" +
@@ -32,11 +32,17 @@ import org.jreleaser.model.SdkmanAnnouncer;
 import org.jreleaser.model.Upload;
 import org.jreleaser.model.Uploader;
 import org.jreleaser.util.FileType;
+import org.jreleaser.util.FileUtils;
 import org.jreleaser.util.JReleaserException;
 import org.jreleaser.util.JReleaserLogger;
+import org.jreleaser.util.PlatformUtils;
+import org.jreleaser.util.command.Command;
+import org.jreleaser.util.command.CommandException;
+import org.jreleaser.util.command.CommandExecutor;
 
 import java.io.IOException;
 import java.nio.file.FileSystem;
+import java.nio.file.FileSystemException;
 import java.nio.file.FileSystems;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Path;
@@ -46,13 +52,17 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
 import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.jreleaser.util.Constants.KEY_ARTIFACT_ARCH;
@@ -436,9 +446,17 @@ public class Artifacts {
     }
 
     public static void copyFile(JReleaserContext context, Path src, Path dest) throws JReleaserException {
+        copyFile(context, src, dest, context.getModel().getProject().resolveTransformMode());
+    }
+
+    public static void copyFile(JReleaserContext context, Path src, Path dest, TransformMode mode) throws JReleaserException {
         try {
             java.nio.file.Files.createDirectories(dest.getParent());
-            java.nio.file.Files.copy(src, dest, REPLACE_EXISTING, COPY_ATTRIBUTES);
+            TransformMode effectiveMode = transferFile(context, src, dest, mode);
+            context.getLogger().debug(RB.$("artifacts.transform"),
+                context.relativizeToBasedir(src),
+                context.relativizeToBasedir(dest),
+                effectiveMode.formatted());
         } catch (IOException e) {
             throw new JReleaserException(RB.$("ERROR_artifacts_unexpected_error_copying",
                 context.relativizeToBasedir(src),
@@ -447,6 +465,105 @@ public class Artifacts {
         }
     }
 
+    private static TransformMode transferFile(JReleaserContext context, Path src, Path dest, TransformMode mode) throws IOException {
+        switch (mode) {
+            case SYMLINK:
+                if (symlinkFile(src, dest)) return TransformMode.SYMLINK;
+                break;
+            case LINK:
+                if (linkFile(src, dest)) return TransformMode.LINK;
+                if (cloneFile(context, src, dest)) return TransformMode.CLONE;
+                break;
+            case CLONE:
+                if (cloneFile(context, src, dest)) return TransformMode.CLONE;
+                break;
+            default:
+                break;
+        }
+
+        java.nio.file.Files.copy(src, dest, REPLACE_EXISTING, COPY_ATTRIBUTES);
+        return TransformMode.COPY;
+    }
+
+    private static boolean linkFile(Path src, Path dest) throws IOException {
+        try {
+            // links share data with src, a stale dest must go before the link is made
+            java.nio.file.Files.deleteIfExists(dest);
+            java.nio.file.Files.createLink(dest, src);
+            return true;
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            // cross-device link or filesystem without hard link support
+            return false;
+        }
+    }
+
+    private static boolean symlinkFile(Path src, Path dest) throws IOException {
+        try {
+            java.nio.file.Files.deleteIfExists(dest);
+            java.nio.file.Files.createSymbolicLink(dest, src.toAbsolutePath());
+            return true;
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            return false;
+        }
+    }
+
+    private static boolean cloneFile(JReleaserContext context, Path src, Path dest) {
+        Command command;
+        if (PlatformUtils.isLinux()) {
+            command = new Command("cp").arg("--reflink=always");
+        } else if (PlatformUtils.isMac()) {
+            command = new Command("cp").arg("-c");
+        } else {
+            return false;
+        }
+
+        command.arg("-p")
+            .arg(src.toAbsolutePath().toString())
+            .arg(dest.toAbsolutePath().toString());
+
+        try {
+            return new CommandExecutor(context.getLogger(), true)
+                .executeCommand(command) == 0;
+        } catch (CommandException e) {
+            context.getLogger().trace(e);
+            return false;
+        }
+    }
+
+    /**
+     * How artifact transforms are materialized. Configured with the {@code JRELEASER_TRANSFORM_MODE}
+     * environment variable or the {@code jreleaser.transform.mode} System property.
+     *
+     * @since 1.3.0
+     */
+    public enum TransformMode {
+        /**
+         * Full copy of the source file.
+         */
+        COPY,
+        /**
+         * Hard link on the same filesystem, copy-on-write clone or full copy otherwise.
+         */
+        LINK,
+        /**
+         * Copy-on-write clone where supported, full copy otherwise.
+         */
+        CLONE,
+        /**
+         * Symbolic link to the source file.
+         */
+        SYMLINK;
+
+        public String formatted() {
+            return name().toLowerCase(Locale.ENGLISH);
+        }
+
+        public static TransformMode of(String str) {
+            if (isBlank(str)) return null;
+            return TransformMode.valueOf(str.toUpperCase(Locale.ENGLISH).trim());
+        }
+    }
+
     public static Set<Artifact> resolveFiles(JReleaserContext context) throws JReleaserException {
         Files files = context.getModel().getFiles();
         Set<Artifact> paths = new LinkedHashSet<>();
@@ -465,6 +582,7 @@ public class Artifacts {
         }
 
         // resolve globs
+        resolveGlobs(context, files.getGlobs());
         for (Glob glob : files.getGlobs()) {
             for (Artifact artifact : glob.getResolvedArtifacts(context)) {
                 if (!artifact.isActive()) continue;
@@ -478,51 +596,86 @@ public class Artifacts {
     }
 
     public static Set<Artifact> resolveFiles(JReleaserLogger logger, Path basedir, Collection<String> globs) throws JReleaserException {
+        return resolveFiles(logger, Collections.emptyMap(), basedir, globs, false);
+    }
+
+    public static Set<Artifact> resolveFiles(JReleaserLogger logger,
+                                             Map<String, Object> props,
+                                             Path basedir,
+                                             Collection<String> globs) throws JReleaserException {
+        return resolveFiles(logger, props, basedir, globs, true);
+    }
+
+    private static Set<Artifact> resolveFiles(JReleaserLogger logger,
+                                              Map<String, Object> props,
+                                              Path basedir,
+                                              Collection<String> globs,
+                                              boolean resolveTemplates) throws JReleaserException {
         if (null == globs || globs.isEmpty()) {
             return Collections.emptySet();
         }
 
         FileSystem fileSystem = FileSystems.getDefault();
-        List<PathMatcher> matchers = new ArrayList<>();
+        List<GlobMatcher> matchers = new ArrayList<>();
         for (String glob : globs) {
-            matchers.add(fileSystem.getPathMatcher(glob));
+            String pattern = resolveTemplates ? resolveTemplate(glob, props) : glob;
+            matchers.add(new GlobMatcher(basedir, pattern, fileSystem.getPathMatcher(pattern)));
         }
 
-        GlobResolver resolver = new GlobResolver(logger, basedir, matchers);
-        try {
-            java.nio.file.Files.walkFileTree(basedir, resolver);
-            if (resolver.failed) {
-                throw new JReleaserException(RB.$("ERROR_artifacts_glob_resolution"));
-            }
+        walk(logger, basedir, matchers);
 
-            return Artifact.sortArtifacts(resolver.artifacts);
-        } catch (IOException e) {
-            throw new JReleaserException(RB.$("ERROR_artifacts_unexpected_error_globs"), e);
-        }
+        Set<Artifact> artifacts = new LinkedHashSet<>();
+        matchers.forEach(matcher -> artifacts.addAll(matcher.artifacts));
+        return Artifact.sortArtifacts(artifacts);
     }
 
-    public static Set<Artifact> resolveFiles(JReleaserLogger logger,
-                                             Map<String, Object> props,
-                                             Path basedir,
-                                             Collection<String> globs) throws JReleaserException {
-        if (null == globs || globs.isEmpty()) {
-            return Collections.emptySet();
-        }
+    /**
+     * Resolves a batch of globs with as few directory traversals as possible.
+     * Globs sharing a directory, or whose directory is nested inside another glob's
+     * directory, are matched during a single walk of the outermost directory.
+     * Globs that have been resolved already are left untouched.
+     *
+     * @param context the current context
+     * @param globs   the globs to be resolved
+     * @since 1.3.0
+     */
+    public static void resolveGlobs(JReleaserContext context, Collection<Glob> globs) throws JReleaserException {
+        if (null == globs || globs.isEmpty()) return;
 
         FileSystem fileSystem = FileSystems.getDefault();
-        List<PathMatcher> matchers = new ArrayList<>();
-        for (String glob : globs) {
-            matchers.add(fileSystem.getPathMatcher(resolveTemplate(glob, props)));
+        Map<Glob, GlobMatcher> matchers = new LinkedHashMap<>();
+        for (Glob glob : globs) {
+            if (glob.areArtifactsResolved() || matchers.containsKey(glob)) continue;
+            Path directory = glob.resolvePattern(context);
+            matchers.put(glob, new GlobMatcher(directory, glob.getPattern(), fileSystem.getPathMatcher(glob.getPattern())));
         }
 
+        // group matchers by their outermost directory, shortest paths come first
+        List<GlobMatcher> sorted = new ArrayList<>(matchers.values());
+        sorted.sort(Comparator.comparingInt(matcher -> matcher.directory.getNameCount()));
+        Map<Path, List<GlobMatcher>> roots = new LinkedHashMap<>();
+        for (GlobMatcher matcher : sorted) {
+            Path root = roots.keySet().stream()
+                .filter(matcher.directory::startsWith)
+                .findFirst()
+                .orElse(matcher.directory);
+            roots.computeIfAbsent(root, k -> new ArrayList<>()).add(matcher);
+        }
+
+        for (Map.Entry<Path, List<GlobMatcher>> e : roots.entrySet()) {
+            walk(context.getLogger(), e.getKey(), e.getValue());
+        }
+
+        matchers.forEach((glob, matcher) -> glob.setResolvedArtifacts(context, Artifact.sortArtifacts(matcher.artifacts)));
+    }
+
+    private static void walk(JReleaserLogger logger, Path basedir, List<GlobMatcher> matchers) throws JReleaserException {
         GlobResolver resolver = new GlobResolver(logger, basedir, matchers);
         try {
             java.nio.file.Files.walkFileTree(basedir, resolver);
             if (resolver.failed) {
                 throw new JReleaserException(RB.$("ERROR_artifacts_glob_resolution"));
             }
-
-            return Artifact.sortArtifacts(resolver.artifacts);
         } catch (IOException e) {
             throw new JReleaserException(RB.$("ERROR_artifacts_unexpected_error_globs"), e);
         }
@@ -536,29 +689,56 @@ public class Artifacts {
         return resolveFiles(context.getLogger(), context.fullProps(), directory, globs);
     }
 
+    private static class GlobMatcher {
+        private final Path directory;
+        private final String pattern;
+        private final PathMatcher matcher;
+        private final Set<Artifact> artifacts = new LinkedHashSet<>();
+
+        private GlobMatcher(Path directory, String pattern, PathMatcher matcher) {
+            this.directory = directory;
+            this.pattern = pattern;
+            this.matcher = matcher;
+        }
+
+        private boolean isInterestedIn(Path dir) {
+            // dir is an ancestor of this matcher's directory, or is explicitly named by the pattern
+            return directory.startsWith(dir) || pattern.contains(dir.getFileName().toString());
+        }
+
+        private void match(Path path) {
+            if (path.startsWith(directory) && matcher.matches(path)) {
+                artifacts.add(Artifact.of(path));
+            }
+        }
+    }
+
     private static class GlobResolver extends SimpleFileVisitor<Path> {
         private final JReleaserLogger logger;
-        private final List<PathMatcher> matchers;
+        private final List<GlobMatcher> matchers;
         private final Path basedir;
-        private final Set<Artifact> artifacts = new LinkedHashSet<>();
         private boolean failed;
 
-        private GlobResolver(JReleaserLogger logger, Path basedir, List<PathMatcher> matchers) {
+        private GlobResolver(JReleaserLogger logger, Path basedir, List<GlobMatcher> matchers) {
             this.logger = logger;
             this.matchers = matchers;
             this.basedir = basedir;
         }
 
-        private void match(Path path) {
-            if (matchers.stream()
-                .anyMatch(matcher -> matcher.matches(path))) {
-                artifacts.add(Artifact.of(path));
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+            if (!dir.equals(basedir) && FileUtils.isDefaultExcludedDirectory(dir) &&
+                matchers.stream().noneMatch(matcher -> matcher.isInterestedIn(dir))) {
+                return SKIP_SUBTREE;
             }
+            return CONTINUE;
         }
 
         @Override
         public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-            match(file);
+            for (GlobMatcher matcher : matchers) {
+                matcher.match(file);
+            }
             return CONTINUE;
         }
 
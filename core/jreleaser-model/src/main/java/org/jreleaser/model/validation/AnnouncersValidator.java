@@ -70,6 +70,14 @@ public abstract class AnnouncersValidator extends Validator {
             return;
         }
 
+        if (null == announce.getTimeout() || announce.getTimeout() <= 0) {
+            announce.setTimeout(Announce.DEFAULT_TIMEOUT);
+        }
+        if (null != announce.getDeadline() && announce.getDeadline() > 0 &&
+            announce.getDeadline() < announce.getTimeout()) {
+            announce.setDeadline(announce.getTimeout());
+        }
+
         boolean activeSet = announce.isActiveSet();
         announce.resolveEnabled(context.getModel().getProject());
 
@@ -31,6 +31,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.jreleaser.model.Assemble.ASSEMBLE_INCREMENTAL;
 import static org.jreleaser.model.validation.ArchiveValidator.validateArchive;
 import static org.jreleaser.model.validation.JlinkValidator.validateJlink;
 import static org.jreleaser.model.validation.JpackageValidator.postValidateJpackage;
@@ -46,6 +47,13 @@ public abstract class AssemblersValidator extends Validator {
         Assemble assemble = context.getModel().getAssemble();
         context.getLogger().debug("assemble");
 
+        assemble.setIncremental(
+            checkProperty(context,
+                ASSEMBLE_INCREMENTAL,
+                "assemble.incremental",
+                assemble.getIncremental(),
+                false));
+
         boolean skipValidation = !mode.validateAssembly() && !mode.validateConfig();
         Errors errorCollector = skipValidation ? new Errors() : errors;
         validateArchive(context, mode, errorCollector);
@@ -24,8 +24,13 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.LicenseId;
 import org.jreleaser.model.Project;
 import org.jreleaser.model.VersionPattern;
+import org.jreleaser.model.util.Artifacts;
+import org.jreleaser.util.Env;
 import org.jreleaser.util.Errors;
 
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
 import static org.jreleaser.model.Project.DEFAULT_SNAPSHOT_LABEL;
 import static org.jreleaser.model.Project.DEFAULT_SNAPSHOT_PATTERN;
 import static org.jreleaser.model.Project.PROJECT_NAME;
@@ -34,6 +39,7 @@ import static org.jreleaser.model.Project.PROJECT_SNAPSHOT_LABEL;
 import static org.jreleaser.model.Project.PROJECT_SNAPSHOT_PATTERN;
 import static org.jreleaser.model.Project.PROJECT_VERSION;
 import static org.jreleaser.model.Project.PROJECT_VERSION_PATTERN;
+import static org.jreleaser.model.Project.TRANSFORM_MODE;
 import static org.jreleaser.util.FileUtils.findLicenseFile;
 import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
@@ -91,6 +97,21 @@ public abstract class ProjectValidator extends Validator {
                 project.getSnapshot().getFullChangelog(),
                 false));
 
+        project.setTransformMode(
+            checkProperty(context,
+                TRANSFORM_MODE,
+                "project.transformMode",
+                project.getTransformMode(),
+                Env.resolveOrDefault("transform.mode", "", Artifacts.TransformMode.LINK.formatted())));
+        try {
+            Artifacts.TransformMode.of(project.getTransformMode());
+        } catch (IllegalArgumentException e) {
+            errors.configuration(RB.$("validation_transform_mode_invalid", "project.transformMode",
+                project.getTransformMode(), Arrays.stream(Artifacts.TransformMode.values())
+                    .map(Artifacts.TransformMode::formatted)
+                    .collect(Collectors.joining(", "))));
+        }
+
         if (project.versionPattern().getType() == VersionPattern.Type.CALVER) {
             if (isBlank(project.versionPattern().getFormat())) {
                 errors.configuration(RB.$("validation_version_format_missing",
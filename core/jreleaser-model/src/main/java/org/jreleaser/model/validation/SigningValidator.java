@@ -59,6 +59,10 @@ public abstract class SigningValidator extends Validator {
 
         boolean cosign = signing.resolveMode() == Signing.Mode.COSIGN;
 
+        if (null == signing.getParallelism() && !cosign && signing.resolveMode() != Signing.Mode.COMMAND) {
+            signing.setParallelism(1);
+        }
+
         signing.setPassphrase(
             checkProperty(context,
                 cosign ? COSIGN_PASSWORD : GPG_PASSPHRASE,
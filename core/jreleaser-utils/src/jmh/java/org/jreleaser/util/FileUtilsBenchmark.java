@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures archive creation throughput for a work directory made of many small files
+ * and for one made of a few huge files. Run with
+ * {@code ./gradlew :jreleaser-utils:jmh -Pjmh.includes=FileUtilsBenchmark}; append
+ * {@code -prof gc} to the includes to also report allocation rates, which track the
+ * peak memory needed per entry.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xmx512m"})
+public class FileUtilsBenchmark {
+    private static final int KB = 1024;
+    private static final int MB = 1024 * KB;
+
+    @Param({"SMALL", "HUGE"})
+    public Layout layout;
+
+    private Path workDirectory;
+    private Path outputDirectory;
+
+    public enum Layout {
+        // 5000 files, 4 KB each
+        SMALL(5000, 4 * KB),
+        // 2 files, 768 MB each; does not fit in the forked JVM heap as a single array
+        HUGE(2, 768 * MB);
+
+        private final int files;
+        private final long size;
+
+        Layout(int files, long size) {
+            this.files = files;
+            this.size = size;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        workDirectory = Files.createTempDirectory("jreleaser-archive-benchmark");
+        outputDirectory = Files.createTempDirectory("jreleaser-archive-benchmark-out");
+
+        byte[] chunk = new byte[(int) Math.min(layout.size, MB)];
+        new Random(42).nextBytes(chunk);
+        for (int i = 0; i < layout.files; i++) {
+            Path file = workDirectory.resolve("dir-" + (i % 16)).resolve("file-" + i + ".bin");
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(file)) {
+                for (long written = 0; written < layout.size; written += chunk.length) {
+                    out.write(chunk);
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        FileUtils.deleteFiles(workDirectory);
+        FileUtils.deleteFiles(outputDirectory);
+    }
+
+    @Benchmark
+    public long zip() throws Exception {
+        Path archive = outputDirectory.resolve("archive.zip");
+        FileUtils.zip(workDirectory, archive);
+        return Files.size(archive);
+    }
+
+    @Benchmark
+    public long tar() throws Exception {
+        Path archive = outputDirectory.resolve("archive.tar");
+        FileUtils.tar(workDirectory, archive);
+        return Files.size(archive);
+    }
+
+    @Benchmark
+    public long tgz() throws Exception {
+        Path archive = outputDirectory.resolve("archive.tgz");
+        FileUtils.tgz(workDirectory, archive);
+        return Files.size(archive);
+    }
+}
@@ -18,23 +18,29 @@
 package org.jreleaser.util;
 
 import java.io.PrintWriter;
-import java.util.Stack;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 public abstract class AbstractJReleaserLogger implements JReleaserLogger {
-    private final Stack<String> prefix = new Stack<>();
+    private final ThreadLocal<Scope> scope = ThreadLocal.withInitial(Scope::new);
+    private final Object lock = new Object();
     private final PrintWriter tracer;
-    private String indent = "";
 
     protected AbstractJReleaserLogger(PrintWriter tracer) {
         this.tracer = tracer;
     }
 
     protected boolean isIndented() {
-        return !indent.equals("");
+        return !scope.get().indent.equals("");
     }
 
     @Override
@@ -44,54 +50,176 @@ public abstract class AbstractJReleaserLogger implements JReleaserLogger {
 
     @Override
     public void reset() {
-        this.prefix.clear();
-        this.indent = "";
+        Scope current = scope.get();
+        current.prefix.clear();
+        current.indent = "";
     }
 
     @Override
     public void setPrefix(String prefix) {
-        this.prefix.push(prefix);
+        scope.get().prefix.push(prefix);
     }
 
     @Override
     public void restorePrefix() {
-        if (!this.prefix.isEmpty()) {
-            this.prefix.pop();
+        Scope current = scope.get();
+        if (!current.prefix.isEmpty()) {
+            current.prefix.pop();
         }
     }
 
     @Override
     public void increaseIndent() {
-        indent += "  ";
+        scope.get().indent += "  ";
     }
 
     @Override
     public void decreaseIndent() {
-        if (indent.length() > 0) {
-            indent = indent.substring(0, indent.length() - 2);
+        Scope current = scope.get();
+        if (current.indent.length() > 0) {
+            current.indent = current.indent.substring(0, current.indent.length() - 2);
         }
     }
 
+    @Override
+    public <T, R> ScopedTask<T, R> scoped(ConcurrentUtils.Task<T, R> task) {
+        Scope parent = scope.get().copy();
+        Set<Scope> running = ConcurrentHashMap.newKeySet();
+        return new ScopedTask<T, R>() {
+            @Override
+            public R call(T input) throws Exception {
+                Scope previous = scope.get();
+                Scope current = parent.copy();
+                current.buffer = Collections.synchronizedList(new ArrayList<>());
+                scope.set(current);
+                running.add(current);
+                try {
+                    return task.call(input);
+                } finally {
+                    running.remove(current);
+                    scope.set(previous);
+                    flushBuffer(current);
+                }
+            }
+
+            @Override
+            public void flush() {
+                for (Scope current : running) {
+                    flushBuffer(current);
+                }
+            }
+        };
+    }
+
     protected String formatMessage(String message) {
-        return indent + (!prefix.isEmpty() ? "[" + prefix.peek() + "] " : "") + message;
+        Scope current = scope.get();
+        return current.indent + (!current.prefix.isEmpty() ? "[" + current.prefix.peek() + "] " : "") + message;
+    }
+
+    @Override
+    public void debug(String message) {
+        log(() -> doDebug(message));
+    }
+
+    @Override
+    public void info(String message) {
+        log(() -> doInfo(message));
+    }
+
+    @Override
+    public void warn(String message) {
+        log(() -> doWarn(message));
+    }
+
+    @Override
+    public void error(String message) {
+        log(() -> doError(message));
+    }
+
+    @Override
+    public void debug(String message, Object... args) {
+        log(() -> doDebug(message, args));
+    }
+
+    @Override
+    public void info(String message, Object... args) {
+        log(() -> doInfo(message, args));
+    }
+
+    @Override
+    public void warn(String message, Object... args) {
+        log(() -> doWarn(message, args));
+    }
+
+    @Override
+    public void error(String message, Object... args) {
+        log(() -> doError(message, args));
+    }
+
+    @Override
+    public void debug(String message, Throwable throwable) {
+        log(() -> doDebug(message, throwable));
+    }
+
+    @Override
+    public void info(String message, Throwable throwable) {
+        log(() -> doInfo(message, throwable));
+    }
+
+    @Override
+    public void warn(String message, Throwable throwable) {
+        log(() -> doWarn(message, throwable));
     }
 
+    @Override
+    public void error(String message, Throwable throwable) {
+        log(() -> doError(message, throwable));
+    }
+
+    protected abstract void doDebug(String message);
+
+    protected abstract void doInfo(String message);
+
+    protected abstract void doWarn(String message);
+
+    protected abstract void doError(String message);
+
+    protected abstract void doDebug(String message, Object... args);
+
+    protected abstract void doInfo(String message, Object... args);
+
+    protected abstract void doWarn(String message, Object... args);
+
+    protected abstract void doError(String message, Object... args);
+
+    protected abstract void doDebug(String message, Throwable throwable);
+
+    protected abstract void doInfo(String message, Throwable throwable);
+
+    protected abstract void doWarn(String message, Throwable throwable);
+
+    protected abstract void doError(String message, Throwable throwable);
+
     @Override
     public void trace(String message) {
-        tracer.println(message);
-        tracer.flush();
+        log(() -> {
+            tracer.println(message);
+            tracer.flush();
+        });
     }
 
     @Override
     public void trace(String message, Throwable throwable) {
-        tracer.println(message);
-        printThrowable(throwable);
-        tracer.flush();
+        log(() -> {
+            tracer.println(message);
+            printThrowable(throwable);
+            tracer.flush();
+        });
     }
 
     @Override
     public void trace(Throwable throwable) {
-        printThrowable(throwable);
+        log(() -> printThrowable(throwable));
     }
 
     private void printThrowable(Throwable throwable) {
@@ -100,4 +228,70 @@ public abstract class AbstractJReleaserLogger implements JReleaserLogger {
             tracer.flush();
         }
     }
+
+    private void log(Runnable action) {
+        Scope current = scope.get();
+        if (null != current.buffer) {
+            current.buffer.add(new Entry(current.copy(), action));
+        } else {
+            synchronized (lock) {
+                action.run();
+            }
+        }
+    }
+
+    private void flushBuffer(Scope finished) {
+        // the task may still be running, or have started tasks that are still running
+        List<Entry> entries;
+        synchronized (finished.buffer) {
+            entries = new ArrayList<>(finished.buffer);
+            finished.buffer.clear();
+        }
+        if (entries.isEmpty()) return;
+
+        Scope current = scope.get();
+        List<Entry> enclosing = null != current.buffer ? current.buffer : finished.enclosing;
+        if (null != enclosing) {
+            // nested scope, hand over to the enclosing buffer even when it belongs to another thread
+            enclosing.addAll(entries);
+            return;
+        }
+
+        synchronized (lock) {
+            try {
+                for (Entry entry : entries) {
+                    // replay with the prefix & indent that were active when the entry was logged
+                    scope.set(entry.scope);
+                    entry.action.run();
+                }
+            } finally {
+                scope.set(current);
+            }
+        }
+    }
+
+    private static final class Scope {
+        private final Deque<String> prefix = new ArrayDeque<>();
+        private String indent = "";
+        private List<Entry> buffer;
+        private List<Entry> enclosing;
+
+        private Scope copy() {
+            Scope copy = new Scope();
+            copy.prefix.addAll(prefix);
+            copy.indent = indent;
+            copy.enclosing = null != buffer ? buffer : enclosing;
+            return copy;
+        }
+    }
+
+    private static final class Entry {
+        private final Scope scope;
+        private final Runnable action;
+
+        private Entry(Scope scope, Runnable action) {
+            this.scope = scope;
+            this.action = action;
+        }
+    }
 }
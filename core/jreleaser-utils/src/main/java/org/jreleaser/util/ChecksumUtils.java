@@ -20,15 +20,27 @@ package org.jreleaser.util;
 import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.bouncycastle.crypto.digests.RIPEMD160Digest;
+import org.bouncycastle.jcajce.provider.digest.RIPEMD160;
 import org.jreleaser.bundle.RB;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
 
 /**
  * @author Andres Almiray
  * @since 0.3.0
  */
 public class ChecksumUtils {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private ChecksumUtils() {
         // prevent instantiation
     }
@@ -65,4 +77,72 @@ public class ChecksumUtils {
                 throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()));
         }
     }
+
+    public static String checksum(Algorithm algorithm, Path input) throws IOException {
+        return checksum(singletonList(algorithm), input).get(algorithm);
+    }
+
+    /**
+     * Calculates all requested checksums in a single pass over the input file.
+     * Memory usage is bounded by the size of the read buffer regardless of file size.
+     */
+    public static Map<Algorithm, String> checksum(Collection<Algorithm> algorithms, Path input) throws IOException {
+        try (InputStream in = Files.newInputStream(input)) {
+            return checksum(algorithms, in);
+        }
+    }
+
+    public static Map<Algorithm, String> checksum(Collection<Algorithm> algorithms, InputStream in) throws IOException {
+        Map<Algorithm, MessageDigest> digests = new LinkedHashMap<>();
+        for (Algorithm algorithm : algorithms) {
+            digests.put(algorithm, createDigest(algorithm));
+        }
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            for (MessageDigest digest : digests.values()) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        Map<Algorithm, String> checksums = new LinkedHashMap<>();
+        for (Map.Entry<Algorithm, MessageDigest> e : digests.entrySet()) {
+            checksums.put(e.getKey(), Hex.encodeHexString(e.getValue().digest()));
+        }
+        return checksums;
+    }
+
+    public static MessageDigest createDigest(Algorithm algorithm) throws IOException {
+        try {
+            switch (algorithm) {
+                case MD2:
+                    return DigestUtils.getMd2Digest();
+                case MD5:
+                    return DigestUtils.getMd5Digest();
+                case RMD160:
+                    return new RIPEMD160.Digest();
+                case SHA_1:
+                    return DigestUtils.getSha1Digest();
+                case SHA_256:
+                    return DigestUtils.getSha256Digest();
+                case SHA_384:
+                    return DigestUtils.getSha384Digest();
+                case SHA_512:
+                    return DigestUtils.getSha512Digest();
+                case SHA3_224:
+                    return DigestUtils.getSha3_224Digest();
+                case SHA3_256:
+                    return DigestUtils.getSha3_256Digest();
+                case SHA3_384:
+                    return DigestUtils.getSha3_384Digest();
+                case SHA3_512:
+                    return DigestUtils.getSha3_512Digest();
+                default:
+                    throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()), e);
+        }
+    }
 }
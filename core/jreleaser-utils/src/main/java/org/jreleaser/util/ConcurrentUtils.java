@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public final class ConcurrentUtils {
+    private ConcurrentUtils() {
+        // noop
+    }
+
+    /**
+     * Resolves the effective parallelism. Values lower than {@code 1} mean
+     * "use as many workers as available processors".
+     */
+    public static int resolveParallelism(Integer parallelism) {
+        if (null == parallelism || parallelism < 1) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        return parallelism;
+    }
+
+    public static ExecutorService newExecutor(String name, int parallelism) {
+        return Executors.newFixedThreadPool(Math.max(1, parallelism), new NamedThreadFactory(name));
+    }
+
+    public static ScheduledExecutorService newScheduler(String name) {
+        return Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory(name));
+    }
+
+    /**
+     * Applies {@code task} to every input using at most {@code parallelism} workers.
+     * Results are returned in the same order as the given inputs. Tasks run on the
+     * calling thread when {@code parallelism} is {@code 1} or there is a single input.
+     * <p>
+     * All tasks are executed even if some of them fail; the first failure (in input order)
+     * is reported as the cause of the thrown {@code ExecutionException} while the remaining
+     * failures are attached as suppressed exceptions.
+     */
+    public static <T, R> List<R> invokeAll(String name, int parallelism, List<T> inputs, Task<T, R> task) throws ExecutionException {
+        List<R> results = new ArrayList<>(inputs.size());
+        List<Throwable> failures = new ArrayList<>();
+
+        if (parallelism <= 1 || inputs.size() <= 1) {
+            for (T input : inputs) {
+                try {
+                    results.add(task.call(input));
+                } catch (Exception e) {
+                    results.add(null);
+                    failures.add(e);
+                }
+            }
+        } else {
+            ExecutorService executor = newExecutor(name, Math.min(parallelism, inputs.size()));
+            try {
+                List<Future<R>> futures = new ArrayList<>(inputs.size());
+                for (T input : inputs) {
+                    futures.add(executor.submit(() -> task.call(input)));
+                }
+
+                for (Future<R> future : futures) {
+                    try {
+                        results.add(future.get());
+                    } catch (ExecutionException e) {
+                        results.add(null);
+                        failures.add(e.getCause());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        futures.forEach(f -> f.cancel(true));
+                        throw new ExecutionException(e);
+                    }
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw aggregate(failures);
+        }
+
+        return results;
+    }
+
+    public static ExecutionException aggregate(List<? extends Throwable> failures) {
+        Throwable cause = failures.get(0);
+        ExecutionException exception = new ExecutionException(cause.getMessage(), cause);
+        for (int i = 1; i < failures.size(); i++) {
+            exception.addSuppressed(failures.get(i));
+        }
+        return exception;
+    }
+
+    @FunctionalInterface
+    public interface Task<T, R> {
+        R call(T input) throws Exception;
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+        private final String name;
+
+        private NamedThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "jreleaser-" + name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
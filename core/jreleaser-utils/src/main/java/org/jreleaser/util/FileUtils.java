@@ -65,6 +65,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -107,6 +110,17 @@ public final class FileUtils {
         TXZ.extension()
     };
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] DEFAULT_EXCLUDED_DIRECTORIES = {
+        ".git",
+        ".hg",
+        ".svn",
+        ".bzr",
+        ".gradle",
+        "node_modules"
+    };
+
     private FileUtils() {
         //noop
     }
@@ -123,6 +137,24 @@ public final class FileUtils {
         }
     }
 
+    /**
+     * Whether the given directory is a VCS or build-cache directory that file
+     * walks skip unless it is explicitly requested.
+     *
+     * @param dir the directory to test
+     * @return {@code true} if the directory is excluded by default
+     * @since 1.3.0
+     */
+    public static boolean isDefaultExcludedDirectory(Path dir) {
+        Path filename = dir.getFileName();
+        if (null == filename) return false;
+        String name = filename.toString();
+        for (String excluded : DEFAULT_EXCLUDED_DIRECTORIES) {
+            if (excluded.equals(name)) return true;
+        }
+        return false;
+    }
+
     public static Optional<Path> findLicenseFile(Path basedir) {
         for (String licenseFilename : Arrays.asList(LICENSE_FILE_NAMES)) {
             Path path = basedir.resolve(licenseFilename);
@@ -150,86 +182,182 @@ public final class FileUtils {
     }
 
     public static void zip(Path src, Path dest) throws IOException {
+        zip(src, dest, new ArchiveOptions());
+    }
+
+    /**
+     * @since 1.3.0
+     */
+    public static void zip(Path src, Path dest, ArchiveOptions options) throws IOException {
         try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(dest.toFile())) {
             out.setMethod(ZipOutputStream.DEFLATED);
+            byte[] buffer = new byte[BUFFER_SIZE];
 
-            Files.walkFileTree(src, new SimpleFileVisitor<Path>() {
-                @Override
-                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                    String entryName = src.relativize(file).toString();
-                    File inputFile = file.toFile();
-                    ZipArchiveEntry archiveEntry = new ZipArchiveEntry(inputFile, entryName);
+            for (Path file : listFiles(src, options)) {
+                String entryName = src.relativize(file).toString();
+                File inputFile = file.toFile();
+                boolean executable = inputFile.isFile() && Files.isExecutable(file);
+                ZipArchiveEntry archiveEntry;
 
-                    archiveEntry.setMethod(ZipOutputStream.DEFLATED);
-                    if (inputFile.isFile() && Files.isExecutable(file)) {
+                if (options.isReproducible()) {
+                    archiveEntry = new ZipArchiveEntry(entryName);
+                    archiveEntry.setTime(options.getDosTime());
+                    archiveEntry.setUnixMode(executable ? 0100755 : 0100644);
+                } else {
+                    archiveEntry = new ZipArchiveEntry(inputFile, entryName);
+                    if (executable) {
                         archiveEntry.setUnixMode(0100755);
                     }
+                }
+                archiveEntry.setMethod(ZipOutputStream.DEFLATED);
 
-                    out.putArchiveEntry(archiveEntry);
-
-                    if (inputFile.isFile()) {
-                        out.write(Files.readAllBytes(file));
-                    }
-                    out.closeArchiveEntry();
+                out.putArchiveEntry(archiveEntry);
 
-                    return FileVisitResult.CONTINUE;
+                if (inputFile.isFile()) {
+                    copy(file, out, buffer);
                 }
-            });
+                out.closeArchiveEntry();
+            }
         }
     }
 
     public static void tar(Path src, Path dest) throws IOException {
         try (TarArchiveOutputStream out = new TarArchiveOutputStream(
             Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING))) {
-            tar(src, out);
+            tar(src, out, new ArchiveOptions());
         }
     }
 
     public static void tgz(Path src, Path dest) throws IOException {
         try (TarArchiveOutputStream out = new TarArchiveOutputStream(
             new GzipCompressorOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING)))) {
-            tar(src, out);
+            tar(src, out, new ArchiveOptions());
         }
     }
 
     public static void bz2(Path src, Path dest) throws IOException {
         try (TarArchiveOutputStream out = new TarArchiveOutputStream(
             new BZip2CompressorOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING)))) {
-            tar(src, out);
+            tar(src, out, new ArchiveOptions());
         }
     }
 
     public static void xz(Path src, Path dest) throws IOException {
         try (TarArchiveOutputStream out = new TarArchiveOutputStream(
             new XZCompressorOutputStream(Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING)))) {
-            tar(src, out);
+            tar(src, out, new ArchiveOptions());
         }
     }
 
-    private static void tar(Path src, TarArchiveOutputStream out) throws IOException {
-        out.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+    /**
+     * Creates a tar archive, compressed according to {@code fileType}, in a single pass over
+     * {@code src}. Compression is split in blocks when the options define an executor.
+     *
+     * @since 1.3.0
+     */
+    public static void tar(Path src, Path dest, FileType fileType, ArchiveOptions options) throws IOException {
+        try (TarArchiveOutputStream out = new TarArchiveOutputStream(resolveCompressorOutputStream(fileType,
+            Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING), options))) {
+            tar(src, out, options);
+        }
+    }
+
+    /**
+     * Compresses a plain file, such as a tar archive, according to {@code fileType}.
+     * Compression is split in blocks when the options define an executor.
+     *
+     * @since 1.3.0
+     */
+    public static void compress(Path src, Path dest, FileType fileType, ArchiveOptions options) throws IOException {
+        try (OutputStream out = resolveCompressorOutputStream(fileType,
+            Files.newOutputStream(dest, CREATE, TRUNCATE_EXISTING), options)) {
+            copy(src, out, new byte[BUFFER_SIZE]);
+        }
+    }
+
+    private static OutputStream resolveCompressorOutputStream(FileType fileType, OutputStream out, ArchiveOptions options) throws IOException {
+        ExecutorService executor = options.getExecutor();
+        int maxPending = options.getParallelism() * 2;
+
+        switch (fileType) {
+            case TAR:
+                return out;
+            case TGZ:
+            case TAR_GZ:
+                return null == executor ? new GzipCompressorOutputStream(out) :
+                    new ParallelCompressorOutputStream(out, ParallelCompressorOutputStream.Codec.GZIP, executor, maxPending);
+            case TBZ2:
+            case TAR_BZ2:
+                return null == executor ? new BZip2CompressorOutputStream(out) :
+                    new ParallelCompressorOutputStream(out, ParallelCompressorOutputStream.Codec.BZIP2, executor, maxPending);
+            case TXZ:
+            case TAR_XZ:
+                return null == executor ? new XZCompressorOutputStream(out) :
+                    new ParallelCompressorOutputStream(out, ParallelCompressorOutputStream.Codec.XZ, executor, maxPending);
+            default:
+                throw new IllegalArgumentException(fileType.type());
+        }
+    }
+
+    private static List<Path> listFiles(Path src, ArchiveOptions options) throws IOException {
+        List<Path> files = new ArrayList<>();
         Files.walkFileTree(src, new SimpleFileVisitor<Path>() {
             @Override
             public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                String entryName = src.relativize(file).toString();
-                File inputFile = file.toFile();
-                TarArchiveEntry archiveEntry = (TarArchiveEntry) out.createArchiveEntry(inputFile, entryName);
+                files.add(file);
+                return FileVisitResult.CONTINUE;
+            }
+        });
 
-                if (inputFile.isFile() && Files.isExecutable(file)) {
-                    archiveEntry.setMode(0100755);
-                }
+        if (options.isReproducible()) {
+            // walk order depends on the file system, entry names do not
+            files.sort(Comparator.comparing(file -> src.relativize(file).toString().replace('\\', '/')));
+        }
 
-                out.putArchiveEntry(archiveEntry);
+        return files;
+    }
 
-                if (inputFile.isFile()) {
-                    out.write(Files.readAllBytes(file));
-                }
+    private static void copy(Path file, OutputStream out, byte[] buffer) throws IOException {
+        // stream the entry so that memory use is bounded by the buffer, not the file size
+        try (InputStream in = Files.newInputStream(file)) {
+            copy(in, out, buffer);
+        }
+    }
 
-                out.closeArchiveEntry();
+    private static void copy(InputStream in, OutputStream out, byte[] buffer) throws IOException {
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+    }
 
-                return FileVisitResult.CONTINUE;
+    private static void tar(Path src, TarArchiveOutputStream out, ArchiveOptions options) throws IOException {
+        out.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        for (Path file : listFiles(src, options)) {
+            String entryName = src.relativize(file).toString();
+            File inputFile = file.toFile();
+            boolean executable = inputFile.isFile() && Files.isExecutable(file);
+            TarArchiveEntry archiveEntry = (TarArchiveEntry) out.createArchiveEntry(inputFile, entryName);
+
+            if (options.isReproducible()) {
+                archiveEntry.setModTime(options.getTimestamp().toMillis());
+                archiveEntry.setIds(0, 0);
+                archiveEntry.setNames("", "");
+                archiveEntry.setMode(executable ? 0100755 : 0100644);
+            } else if (executable) {
+                archiveEntry.setMode(0100755);
             }
-        });
+
+            out.putArchiveEntry(archiveEntry);
+
+            if (inputFile.isFile()) {
+                copy(file, out, buffer);
+            }
+
+            out.closeArchiveEntry();
+        }
     }
 
     public static void unpackArchive(Path src, Path dest) throws IOException {
@@ -241,6 +369,17 @@ public final class FileUtils {
     }
 
     public static void unpackArchive(Path src, Path dest, boolean removeRootEntry, boolean cleanDirectory) throws IOException {
+        unpackArchive(src, dest, removeRootEntry, cleanDirectory, 1);
+    }
+
+    /**
+     * Unpacks an archive. Zip entries are extracted by up to {@code parallelism} workers,
+     * given that a zip file can read any entry at random; tar based archives are read
+     * sequentially as entries can only be reached by decompressing all previous ones.
+     *
+     * @since 1.3.0
+     */
+    public static void unpackArchive(Path src, Path dest, boolean removeRootEntry, boolean cleanDirectory, int parallelism) throws IOException {
         String filename = src.getFileName().toString();
         for (String extension : TAR_COMPRESSED_EXTENSIONS) {
             if (filename.endsWith(extension)) {
@@ -254,7 +393,7 @@ public final class FileUtils {
 
         if (filename.endsWith(ZIP.extension())) {
             try (ZipFile zipFile = new ZipFile(src.toFile())) {
-                unpackArchive(removeRootEntry ? filename + "/" : "", destinationDir, zipFile);
+                unpackArchive(removeRootEntry ? filename + "/" : "", destinationDir, zipFile, parallelism);
             }
             return;
         }
@@ -301,19 +440,22 @@ public final class FileUtils {
         switch (fileType) {
             case TGZ:
             case TAR_GZ:
-                return new GzipCompressorInputStream(in);
+                return new GzipCompressorInputStream(in, true);
             case TBZ2:
             case TAR_BZ2:
-                return new BZip2CompressorInputStream(in);
+                return new BZip2CompressorInputStream(in, true);
             case TXZ:
             case TAR_XZ:
-                return new XZCompressorInputStream(in);
+                return new XZCompressorInputStream(in, true);
         }
 
         return null;
     }
 
     private static void unpackArchive(String basename, File destinationDir, ArchiveInputStream in) throws IOException {
+        String destDirPath = destinationDir.getCanonicalPath();
+        byte[] buffer = new byte[BUFFER_SIZE];
+
         ArchiveEntry entry = null;
         while ((entry = in.getNextEntry()) != null) {
             if (!in.canReadEntryData(entry)) {
@@ -321,42 +463,31 @@ public final class FileUtils {
                 continue;
             }
 
-            String entryName = entry.getName();
-            if (isNotBlank(basename) && entryName.startsWith(basename) && entryName.length() > basename.length() + 1) {
-                entryName = entryName.substring(basename.length());
-            }
-
-            File file = new File(destinationDir, entryName);
-            String destDirPath = destinationDir.getCanonicalPath();
-            String destFilePath = file.getCanonicalPath();
-            if (!destFilePath.startsWith(destDirPath + File.separator)) {
-                throw new IOException(RB.$("ERROR_files_unpack_outside_target", entry.getName()));
-            }
-
+            File file = resolveEntryFile(basename, destinationDir, destDirPath, entry);
             if (entry.isDirectory()) {
-                if (!file.isDirectory() && !file.mkdirs()) {
-                    throw new IOException(RB.$("ERROR_files_unpack_fail_dir", file));
-                }
+                mkdirs(file);
             } else {
-                File parent = file.getParentFile();
-                if (!parent.isDirectory() && !parent.mkdirs()) {
-                    throw new IOException(RB.$("ERROR_files_unpack_fail_dir", parent));
-                }
+                mkdirs(file.getParentFile());
 
                 if (isSymbolicLink(entry)) {
                     Files.createSymbolicLink(file.toPath(), Paths.get(getLinkName(in, entry)));
                 } else {
                     try (OutputStream o = Files.newOutputStream(file.toPath())) {
-                        IOUtils.copy(in, o);
-                        Files.setLastModifiedTime(file.toPath(), FileTime.from(entry.getLastModifiedDate().toInstant()));
-                        chmod(file, getEntryMode(entry, file));
+                        copy(in, o, buffer);
                     }
+                    Files.setLastModifiedTime(file.toPath(), FileTime.from(entry.getLastModifiedDate().toInstant()));
+                    chmod(file, getEntryMode(entry, file));
                 }
             }
         }
     }
 
-    private static void unpackArchive(String basename, File destinationDir, ZipFile zipFile) throws IOException {
+    private static void unpackArchive(String basename, File destinationDir, ZipFile zipFile, int parallelism) throws IOException {
+        String destDirPath = destinationDir.getCanonicalPath();
+        List<ZipArchiveEntry> files = new ArrayList<>();
+        List<ZipArchiveEntry> links = new ArrayList<>();
+
+        // directories first, workers then only write file contents
         Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
         while (entries.hasMoreElements()) {
             ZipArchiveEntry entry = entries.nextElement();
@@ -365,39 +496,65 @@ public final class FileUtils {
                 continue;
             }
 
-            String entryName = entry.getName();
-            if (isNotBlank(basename) && entryName.startsWith(basename) && entryName.length() > basename.length() + 1) {
-                entryName = entryName.substring(basename.length());
-            }
-
-            File file = new File(destinationDir, entryName);
-            String destDirPath = destinationDir.getCanonicalPath();
-            String destFilePath = file.getCanonicalPath();
-            if (!destFilePath.startsWith(destDirPath + File.separator)) {
-                throw new IOException(RB.$("ERROR_files_unpack_outside_target", entry.getName()));
-            }
-
+            File file = resolveEntryFile(basename, destinationDir, destDirPath, entry);
             if (entry.isDirectory()) {
-                if (!file.isDirectory() && !file.mkdirs()) {
-                    throw new IOException(RB.$("ERROR_files_unpack_fail_dir", file));
-                }
+                mkdirs(file);
             } else {
-                File parent = file.getParentFile();
-                if (!parent.isDirectory() && !parent.mkdirs()) {
-                    throw new IOException(RB.$("ERROR_files_unpack_fail_dir", parent));
-                }
-
+                mkdirs(file.getParentFile());
                 if (entry.isUnixSymlink()) {
-                    Files.createSymbolicLink(file.toPath(), Paths.get(zipFile.getUnixSymlink(entry)));
+                    links.add(entry);
                 } else {
-                    try (OutputStream o = Files.newOutputStream(file.toPath())) {
-                        IOUtils.copy(zipFile.getInputStream(entry), o);
-                        Files.setLastModifiedTime(file.toPath(), FileTime.from(entry.getLastModifiedDate().toInstant()));
-                        chmod(file, getEntryMode(entry, file));
-                    }
+                    files.add(entry);
                 }
             }
         }
+
+        try {
+            ConcurrentUtils.invokeAll("unpack", parallelism, files, entry -> {
+                File file = resolveEntryFile(basename, destinationDir, destDirPath, entry);
+                try (InputStream i = zipFile.getInputStream(entry);
+                     OutputStream o = Files.newOutputStream(file.toPath())) {
+                    copy(i, o, new byte[BUFFER_SIZE]);
+                }
+                Files.setLastModifiedTime(file.toPath(), FileTime.from(entry.getLastModifiedDate().toInstant()));
+                chmod(file, getEntryMode(entry, file));
+                return file;
+            });
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            throw new IOException(cause.getMessage(), cause);
+        }
+
+        for (ZipArchiveEntry entry : links) {
+            File file = resolveEntryFile(basename, destinationDir, destDirPath, entry);
+            Files.createSymbolicLink(file.toPath(), Paths.get(zipFile.getUnixSymlink(entry)));
+        }
+    }
+
+    private static File resolveEntryFile(String basename, File destinationDir, String destDirPath, ArchiveEntry entry) throws IOException {
+        String entryName = entry.getName();
+        if (isNotBlank(basename) && entryName.startsWith(basename) && entryName.length() > basename.length() + 1) {
+            entryName = entryName.substring(basename.length());
+        }
+
+        File file = new File(destinationDir, entryName);
+        String destFilePath = file.getCanonicalPath();
+        if (!destFilePath.startsWith(destDirPath + File.separator)) {
+            throw new IOException(RB.$("ERROR_files_unpack_outside_target", entry.getName()));
+        }
+
+        return file;
+    }
+
+    private static void mkdirs(File directory) throws IOException {
+        if (directory.isDirectory()) return;
+        try {
+            // unlike File.mkdirs(), tolerates directories created concurrently
+            Files.createDirectories(directory.toPath());
+        } catch (IOException e) {
+            throw new IOException(RB.$("ERROR_files_unpack_fail_dir", directory), e);
+        }
     }
 
     private static boolean isSymbolicLink(ArchiveEntry entry) {
@@ -745,4 +902,54 @@ public final class FileUtils {
             return CONTINUE;
         }
     }
+
+    /**
+     * Settings for archives created by {@code zip}, {@code tar} and {@code compress}.
+     *
+     * @since 1.3.0
+     */
+    public static final class ArchiveOptions {
+        private ExecutorService executor;
+        private int parallelism = 1;
+        private FileTime timestamp;
+
+        /**
+         * Compress in blocks using the given executor.
+         */
+        public ArchiveOptions withExecutor(ExecutorService executor, int parallelism) {
+            this.executor = executor;
+            this.parallelism = Math.max(1, parallelism);
+            return this;
+        }
+
+        /**
+         * Sort entries and normalize their timestamp, owner and permissions.
+         */
+        public ArchiveOptions withTimestamp(FileTime timestamp) {
+            this.timestamp = timestamp;
+            return this;
+        }
+
+        public ExecutorService getExecutor() {
+            return executor;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public FileTime getTimestamp() {
+            return timestamp;
+        }
+
+        public boolean isReproducible() {
+            return null != timestamp;
+        }
+
+        private long getDosTime() {
+            // zip entries store local time; shift by the zone offset so every zone records the same fields
+            long millis = timestamp.toMillis();
+            return millis - TimeZone.getDefault().getOffset(millis);
+        }
+    }
 }
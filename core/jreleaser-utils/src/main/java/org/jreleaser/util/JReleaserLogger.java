@@ -36,6 +36,15 @@ public interface JReleaserLogger {
 
     void restorePrefix();
 
+    /**
+     * Wraps a task so that it logs with the prefix and indentation active at the time
+     * this method is invoked, even when executed by another thread. Output produced by
+     * the task is buffered and flushed as a single block once the task completes.
+     *
+     * @since 1.3.0
+     */
+    <T, R> ScopedTask<T, R> scoped(ConcurrentUtils.Task<T, R> task);
+
     void debug(String message);
 
     void info(String message);
@@ -65,4 +74,17 @@ public interface JReleaserLogger {
     void trace(String message, Throwable throwable);
 
     void trace(Throwable throwable);
+
+    /**
+     * A task whose output is buffered while it runs.
+     *
+     * @since 1.3.0
+     */
+    interface ScopedTask<T, R> extends ConcurrentUtils.Task<T, R> {
+        /**
+         * Flushes the output buffered so far by running invocations of this task, for
+         * example when they are abandoned after a timeout and may never complete.
+         */
+        void flush();
+    }
 }
@@ -0,0 +1,348 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * Unpacked JDK archives shared by every build on the same host. Entries are keyed by the
+ * SHA-256 checksum of the archive, populated atomically and evicted, least recently used
+ * first, once the cache grows beyond its maximum size.
+ * <p>
+ * Archives are unpacked into a temporary directory first; moving it into place and evicting
+ * entries happens while holding a file lock on the cache directory, thus builds running in
+ * other processes do not step on each other. Entries used by the
+ * current JVM, or by any build within the last hour, are never evicted. Consumers that need
+ * a copy of their own receive hard links to the cached files, so that evicting an entry
+ * does not affect them.
+ * <p>
+ * The default cache lives at {@code $JRELEASER_USER_HOME/caches/jdks} and holds up to
+ * 10 GB; both can be changed with {@code JRELEASER_JDK_CACHE_DIR} and
+ * {@code JRELEASER_JDK_CACHE_SIZE} (in megabytes).
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public final class JdkCache {
+    private static final String SIZE_EXTENSION = ".size";
+    private static final String TMP_PREFIX = "tmp-";
+    private static final String LOCK_FILE = ".lock";
+    private static final long MIN_IDLE = 60L * 60L * 1000L;
+    private static final long MB = 1024L * 1024L;
+    private static final long DEFAULT_MAX_SIZE = 10 * 1024L;
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+    private static final Map<String, String> CHECKSUMS = new ConcurrentHashMap<>();
+    private static final Set<Path> IN_USE = ConcurrentHashMap.newKeySet();
+
+    private final Path directory;
+    private final long maxSize;
+
+    public JdkCache(Path directory, long maxSize) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.maxSize = maxSize;
+    }
+
+    public static JdkCache getDefault() {
+        String home = System.getenv("JRELEASER_USER_HOME");
+        if (isBlank(home)) {
+            home = System.getProperty("user.home") + File.separator + ".jreleaser";
+        }
+
+        String directory = Env.resolveOrDefault("jdk.cache.dir", "",
+            Paths.get(home).resolve("caches").resolve("jdks").toString());
+        long maxSize = DEFAULT_MAX_SIZE;
+        try {
+            maxSize = Long.parseLong(Env.resolveOrDefault("jdk.cache.size", "", String.valueOf(DEFAULT_MAX_SIZE)).trim());
+        } catch (NumberFormatException ignored) {
+            // keep default
+        }
+
+        return new JdkCache(Paths.get(directory), maxSize * MB);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the directory holding the unpacked contents of the given archive, root entry
+     * included, unpacking it first if no other build has done so already.
+     *
+     * @param archive the JDK archive
+     * @return the cached directory, which must be treated as read-only
+     */
+    public Path unpack(Path archive) throws IOException {
+        String key = checksum(archive);
+        Path entry = directory.resolve(key);
+
+        IN_USE.add(entry);
+        // threads of this JVM asking for the same archive wait for a single unpack
+        synchronized (LOCKS.computeIfAbsent(entry.toString(), k -> new Object())) {
+            boolean cached = withLock(() -> {
+                touch(entry);
+                return Files.isDirectory(entry);
+            });
+
+            if (!cached) {
+                populate(archive, entry);
+            }
+        }
+
+        return entry;
+    }
+
+    /**
+     * Makes the unpacked contents of the given archive available at {@code destination} by
+     * hard linking every file of the cached entry, copying files where hard links are not
+     * supported, such as across file systems. The destination does not depend on the cached
+     * entry afterwards.
+     *
+     * @param archive         the JDK archive
+     * @param destination     the directory that receives the archive contents
+     * @param removeRootEntry whether the single root directory of the archive should be skipped
+     */
+    public void unpack(Path archive, Path destination, boolean removeRootEntry) throws IOException {
+        Path source = unpack(archive);
+        if (removeRootEntry) {
+            List<Path> children = list(source);
+            if (children.size() == 1 && Files.isDirectory(children.get(0))) {
+                source = children.get(0);
+            }
+        }
+
+        Path root = source;
+        withLock(() -> {
+            // entries are only evicted while holding the lock
+            if (!Files.isDirectory(root)) {
+                throw new NoSuchFileException(root.toString());
+            }
+
+            Files.createDirectories(destination);
+            for (Path child : list(root)) {
+                Path target = destination.resolve(child.getFileName().toString());
+                if (Files.isDirectory(target, LinkOption.NOFOLLOW_LINKS)) {
+                    FileUtils.deleteFiles(target);
+                } else {
+                    // also removes links, dangling or not, instead of their targets
+                    Files.deleteIfExists(target);
+                }
+                copy(child, target);
+            }
+            return destination;
+        });
+    }
+
+    /**
+     * Returns the home of the JDK found inside a cached entry, skipping the archive's root
+     * directory and the {@code Contents/Home} layout used by macOS bundles.
+     */
+    public static Path resolveJdkHome(Path entry) throws IOException {
+        Path home = entry;
+        List<Path> children = list(home);
+        if (children.size() == 1 && Files.isDirectory(children.get(0))) {
+            home = children.get(0);
+        }
+
+        Path bundleHome = home.resolve("Contents").resolve("Home");
+        if (!Files.exists(home.resolve("release")) && Files.exists(bundleHome.resolve("release"))) {
+            home = bundleHome;
+        }
+
+        return home;
+    }
+
+    private void populate(Path archive, Path entry) throws IOException {
+        Files.createDirectories(directory);
+        Path tmp = Files.createTempDirectory(directory, TMP_PREFIX);
+        try {
+            // unpack without holding the lock, builds unpacking other JDKs must not wait for this one
+            FileUtils.unpackArchive(archive, tmp, false, false, ConcurrentUtils.resolveParallelism(null));
+            long size = sizeOf(tmp);
+
+            withLock(() -> {
+                try {
+                    Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE);
+                    Files.write(sizeFile(entry), String.valueOf(size).getBytes(StandardCharsets.UTF_8));
+                } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+                    // another build populated this entry first
+                }
+                touch(entry);
+                evict();
+                return entry;
+            });
+        } finally {
+            FileUtils.deleteFiles(tmp);
+        }
+    }
+
+    private void evict() throws IOException {
+        List<Path> entries = list(directory).stream()
+            .filter(Files::isDirectory)
+            .filter(path -> !path.getFileName().toString().startsWith(TMP_PREFIX))
+            .sorted(Comparator.comparing(JdkCache::lastUsed).reversed())
+            .collect(Collectors.toList());
+
+        // entries used recently may still be read by this or another build
+        long idleSince = System.currentTimeMillis() - MIN_IDLE;
+        long total = 0;
+        List<Path> evictable = new ArrayList<>();
+        for (Path entry : entries) {
+            total += storedSize(entry);
+            if (total > maxSize && !IN_USE.contains(entry) && lastUsed(entry).toMillis() < idleSince) {
+                evictable.add(entry);
+            }
+        }
+
+        for (Path entry : evictable) {
+            // rename first so that no build picks up a partially deleted entry
+            Path tmp = directory.resolve(TMP_PREFIX + entry.getFileName());
+            try {
+                Files.move(entry, tmp, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                continue;
+            }
+            Files.deleteIfExists(sizeFile(entry));
+            FileUtils.deleteFiles(tmp);
+        }
+    }
+
+    private long storedSize(Path entry) throws IOException {
+        Path sizeFile = sizeFile(entry);
+        if (Files.isRegularFile(sizeFile)) {
+            try {
+                return Long.parseLong(new String(Files.readAllBytes(sizeFile), StandardCharsets.UTF_8).trim());
+            } catch (NumberFormatException ignored) {
+                // recompute
+            }
+        }
+
+        long size = sizeOf(entry);
+        Files.write(sizeFile, String.valueOf(size).getBytes(StandardCharsets.UTF_8));
+        return size;
+    }
+
+    private static Path sizeFile(Path entry) {
+        return entry.resolveSibling(entry.getFileName() + SIZE_EXTENSION);
+    }
+
+    private <T> T withLock(LockedAction<T> action) throws IOException {
+        Files.createDirectories(directory);
+        // file locks are held per JVM, threads of the same JVM must not overlap
+        synchronized (LOCKS.computeIfAbsent(directory.toString(), k -> new Object())) {
+            try (FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                return action.run();
+            }
+        }
+    }
+
+    private static void copy(Path source, Path target) throws IOException {
+        try (Stream<Path> files = Files.walk(source)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Path copy = target.resolve(source.relativize(file).toString());
+                if (Files.isSymbolicLink(file)) {
+                    Files.createSymbolicLink(copy, Files.readSymbolicLink(file));
+                } else if (Files.isDirectory(file)) {
+                    Files.createDirectories(copy);
+                } else {
+                    link(file, copy);
+                }
+            }
+        }
+    }
+
+    private static void link(Path file, Path copy) throws IOException {
+        try {
+            Files.createLink(copy, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.deleteIfExists(copy);
+            Files.copy(file, copy, StandardCopyOption.COPY_ATTRIBUTES);
+        }
+    }
+
+    private static long sizeOf(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile)
+                .mapToLong(file -> file.toFile().length())
+                .sum();
+        }
+    }
+
+    private static FileTime lastUsed(Path entry) {
+        try {
+            return Files.getLastModifiedTime(entry);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static void touch(Path entry) {
+        try {
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+            // only affects eviction order
+        }
+    }
+
+    private static String checksum(Path archive) throws IOException {
+        // archives are hashed once per JVM, keyed by location, size and modification time
+        String key = archive.toAbsolutePath().normalize() + ":" + Files.size(archive) + ":" +
+            Files.getLastModifiedTime(archive).toMillis();
+        String checksum = CHECKSUMS.get(key);
+        if (null == checksum) {
+            checksum = ChecksumUtils.checksum(Algorithm.SHA_256, archive);
+            CHECKSUMS.put(key, checksum);
+        }
+        return checksum;
+    }
+
+    private static List<Path> list(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().collect(Collectors.toList());
+        }
+    }
+
+    private interface LockedAction<T> {
+        T run() throws IOException;
+    }
+}
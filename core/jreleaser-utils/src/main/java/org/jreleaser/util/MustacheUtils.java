@@ -46,7 +46,6 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 
-import static java.nio.file.Files.readAllBytes;
 import static org.jreleaser.util.ChecksumUtils.checksum;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -301,11 +300,11 @@ public final class MustacheUtils {
         public String apply(Object input) {
             try {
                 if (input instanceof Path) {
-                    return checksum(algorithm, readAllBytes((Path) input));
+                    return checksum(algorithm, (Path) input);
                 } else if (input instanceof File) {
-                    return checksum(algorithm, readAllBytes(((File) input).toPath()));
+                    return checksum(algorithm, ((File) input).toPath());
                 } else if (input instanceof CharSequence) {
-                    return checksum(algorithm, readAllBytes(Paths.get(String.valueOf(input).trim())));
+                    return checksum(algorithm, Paths.get(String.valueOf(input).trim()));
                 }
             } catch (IOException e) {
                 throw new IllegalStateException(RB.$("ERROR_unexpected_file_read", input), e);
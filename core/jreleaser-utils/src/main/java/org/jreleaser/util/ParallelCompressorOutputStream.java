@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.apache.commons.compress.compressors.xz.XZCompressorOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Compresses its input in fixed size blocks, each one written as a standalone gzip member,
+ * bzip2 stream or xz stream. Concatenated members are part of all three formats, thus the
+ * output can be read by standard tools. Blocks are compressed on the given executor and
+ * written in order; block boundaries do not depend on the number of workers, so the output
+ * is identical no matter how many threads were used.
+ * <p>
+ * The trade-off: readers must support concatenated members (some libraries stop after the
+ * first one unless told otherwise), the compression ratio is lower as no history is shared
+ * across blocks, and every in-flight block keeps its own encoder in memory.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public final class ParallelCompressorOutputStream extends OutputStream {
+    public static final int BLOCK_SIZE = 4 * 1024 * 1024;
+
+    private final Deque<Future<byte[]>> pending = new ArrayDeque<>();
+    private final OutputStream out;
+    private final Codec codec;
+    private final ExecutorService executor;
+    private final int maxPending;
+    private byte[] block = new byte[BLOCK_SIZE];
+    private int count;
+    private int blocks;
+    private boolean closed;
+
+    /**
+     * @param out        the stream that receives compressed blocks
+     * @param codec      the compression format
+     * @param executor   compresses blocks; blocks are compressed on the calling thread if {@code null}
+     * @param maxPending the maximum number of blocks held in memory while waiting to be written
+     */
+    public ParallelCompressorOutputStream(OutputStream out, Codec codec, ExecutorService executor, int maxPending) {
+        this.out = out;
+        this.codec = codec;
+        this.executor = executor;
+        this.maxPending = Math.max(1, maxPending);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (count == block.length) submit();
+        block[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (count == block.length) submit();
+            int n = Math.min(len, block.length - count);
+            System.arraycopy(b, off, block, count, n);
+            count += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // blocks are not cut on flush, otherwise output would depend on the caller's flush pattern
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+
+        try {
+            if (count > 0 || blocks == 0) submit();
+            while (!pending.isEmpty()) {
+                drain();
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+            out.close();
+        }
+    }
+
+    private void submit() throws IOException {
+        byte[] data = block;
+        int length = count;
+        block = new byte[BLOCK_SIZE];
+        count = 0;
+        blocks++;
+
+        if (null == executor) {
+            out.write(codec.compress(data, length));
+            return;
+        }
+
+        pending.add(executor.submit(() -> codec.compress(data, length)));
+        while (pending.size() >= maxPending) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        try {
+            out.write(pending.peek().get());
+            pending.poll();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    public enum Codec {
+        GZIP {
+            @Override
+            protected OutputStream wrap(OutputStream out) throws IOException {
+                return new GzipCompressorOutputStream(out);
+            }
+        },
+        BZIP2 {
+            @Override
+            protected OutputStream wrap(OutputStream out) throws IOException {
+                return new BZip2CompressorOutputStream(out);
+            }
+        },
+        XZ {
+            @Override
+            protected OutputStream wrap(OutputStream out) throws IOException {
+                return new XZCompressorOutputStream(out);
+            }
+        };
+
+        protected abstract OutputStream wrap(OutputStream out) throws IOException;
+
+        private byte[] compress(byte[] data, int length) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(length / 2 + 64);
+            try (OutputStream compressor = wrap(bytes)) {
+                compressor.write(data, 0, length);
+            }
+            return bytes.toByteArray();
+        }
+    }
+}
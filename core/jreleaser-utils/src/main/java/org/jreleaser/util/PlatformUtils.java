@@ -300,6 +300,10 @@ public final class PlatformUtils {
         return "osx".equalsIgnoreCase(getDetectedOs());
     }
 
+    public static boolean isLinux() {
+        return "linux".equalsIgnoreCase(getDetectedOs());
+    }
+
     public static boolean isCompatible(String expected, String actual) {
         if (expected.contains("-")) {
             // expected is strict
@@ -57,7 +57,7 @@ public class SimpleJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void debug(String message) {
+    protected void doDebug(String message) {
         if (isLevelEnabled(Level.DEBUG)) {
             String msg = Level.DEBUG + formatMessage(message);
             out.println(msg);
@@ -66,7 +66,7 @@ public class SimpleJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void info(String message) {
+    protected void doInfo(String message) {
         if (isLevelEnabled(Level.INFO)) {
             String msg = Level.INFO + formatMessage(message);
             out.println(msg);
@@ -75,7 +75,7 @@ public class SimpleJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void warn(String message) {
+    protected void doWarn(String message) {
         if (isLevelEnabled(Level.WARN)) {
             String msg = Level.WARN + formatMessage(message);
             out.println(msg);
@@ -84,7 +84,7 @@ public class SimpleJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void error(String message) {
+    protected void doError(String message) {
         if (isLevelEnabled(Level.ERROR)) {
             String msg = Level.ERROR + formatMessage(message);
             out.println(msg);
@@ -93,7 +93,7 @@ public class SimpleJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void debug(String message, Object... args) {
+    protected void doDebug(String message, Object... args) {
         if (isLevelEnabled(Level.DEBUG)) {
             String msg = Level.DEBUG + formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
             out.println(msg);
@@ -102,7 +102,7 @@ public class SimpleJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void info(String message, Object... args) {
+    protected void doInfo(String message, Object... args) {
         if (isLevelEnabled(Level.INFO)) {
             String msg = Level.INFO + formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
             out.println(msg);
@@ -111,7 +111,7 @@ public class SimpleJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void warn(String message, Object... args) {
+    protected void doWarn(String message, Object... args) {
         if (isLevelEnabled(Level.WARN)) {
             String msg = Level.WARN + formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
             out.println(msg);
@@ -120,7 +120,7 @@ public class SimpleJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void error(String message, Object... args) {
+    protected void doError(String message, Object... args) {
         if (isLevelEnabled(Level.ERROR)) {
             String msg = Level.ERROR + formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
             out.println(msg);
@@ -129,7 +129,7 @@ public class SimpleJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void debug(String message, Throwable throwable) {
+    protected void doDebug(String message, Throwable throwable) {
         if (isLevelEnabled(Level.DEBUG)) {
             String msg = Level.DEBUG + formatMessage(message);
             out.println(msg);
@@ -139,7 +139,7 @@ public class SimpleJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void info(String message, Throwable throwable) {
+    protected void doInfo(String message, Throwable throwable) {
         if (isLevelEnabled(Level.INFO)) {
             String msg = Level.INFO + formatMessage(message);
             out.println(msg);
@@ -149,7 +149,7 @@ public class SimpleJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void warn(String message, Throwable throwable) {
+    protected void doWarn(String message, Throwable throwable) {
         if (isLevelEnabled(Level.WARN)) {
             String msg = Level.WARN + formatMessage(message);
             out.println(msg);
@@ -159,7 +159,7 @@ public class SimpleJReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void error(String message, Throwable throwable) {
+    protected void doError(String message, Throwable throwable) {
         if (isLevelEnabled(Level.ERROR)) {
             String msg = Level.ERROR + formatMessage(message);
             out.println(msg);
@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class ChecksumUtilsTest {
+    @Test
+    public void streamingChecksumsMatchInMemoryChecksums() throws IOException {
+        // given:
+        byte[] data = new byte[(256 * 1024) + 17];
+        new Random(42).nextBytes(data);
+        Path file = Files.createTempFile("checksum", ".bin");
+        Files.write(file, data);
+        Set<Algorithm> algorithms = EnumSet.of(Algorithm.MD5, Algorithm.RMD160,
+            Algorithm.SHA_1, Algorithm.SHA_256, Algorithm.SHA_512);
+
+        // when:
+        Map<Algorithm, String> checksums = ChecksumUtils.checksum(algorithms, file);
+
+        // then:
+        assertThat(checksums.keySet(), equalTo(algorithms));
+        for (Algorithm algorithm : algorithms) {
+            assertThat(checksums.get(algorithm), equalTo(ChecksumUtils.checksum(algorithm, data)));
+            assertThat(ChecksumUtils.checksum(algorithm, file), equalTo(ChecksumUtils.checksum(algorithm, data)));
+        }
+    }
+}
@@ -17,15 +17,32 @@
  */
 package org.jreleaser.util;
 
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
 import org.jreleaser.test.Platform;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -55,4 +72,95 @@ public class FileUtilsTests {
         assertTrue(() -> Files.exists(executable), "executable exists");
         assertTrue(() -> Files.isExecutable(executable), "executable has executable bit set");
     }
+
+    @ParameterizedTest
+    @EnumSource(value = FileType.class,
+        names = {"TAR_GZ", "ZIP"})
+    @Platform(platform = "windows", match = false)
+    public void unpackArchiveInParallel(FileType fileType) throws IOException {
+        // given:
+        Path resourcesDir = Paths.get(".")
+            .resolve("src/test/resources")
+            .normalize();
+        Path archive = resourcesDir.resolve("app-1.0.0" + fileType.extension());
+        Path tmp = Files.createTempDirectory(fileType.name());
+
+        // when:
+        FileUtils.unpackArchive(archive, tmp, false, true, 4);
+
+        // then:
+        Path license = tmp.resolve("app-1.0.0").resolve("LICENSE");
+        assertTrue(() -> Files.exists(license), "LICENSE exists");
+        Path executable = tmp.resolve("app-1.0.0").resolve("bin/executable");
+        assertTrue(() -> Files.exists(executable), "executable exists");
+        assertTrue(() -> Files.isExecutable(executable), "executable has executable bit set");
+    }
+
+    @Test
+    @Platform(platform = "windows", match = false)
+    public void reproducibleArchivesAreByteIdentical() throws IOException {
+        // given:
+        FileTime timestamp = FileTime.from(Instant.parse("2022-01-01T00:00:00Z"));
+        Path first = createTree(Files.createTempDirectory("first"), FileTime.from(Instant.parse("2021-03-04T05:06:07Z")), false);
+        Path second = createTree(Files.createTempDirectory("second"), FileTime.from(Instant.parse("2022-08-09T10:11:12Z")), true);
+        Path output = Files.createTempDirectory("archives");
+        TimeZone timeZone = TimeZone.getDefault();
+
+        // when:
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            FileUtils.zip(first, output.resolve("first.zip"), new FileUtils.ArchiveOptions().withTimestamp(timestamp));
+            FileUtils.tar(first, output.resolve("first.tar.gz"), FileType.TAR_GZ, new FileUtils.ArchiveOptions().withTimestamp(timestamp));
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Kathmandu"));
+            FileUtils.zip(second, output.resolve("second.zip"), new FileUtils.ArchiveOptions().withTimestamp(timestamp));
+            FileUtils.tar(second, output.resolve("second.tar.gz"), FileType.TAR_GZ, new FileUtils.ArchiveOptions().withTimestamp(timestamp));
+        } finally {
+            TimeZone.setDefault(timeZone);
+        }
+
+        // then:
+        assertArrayEquals(Files.readAllBytes(output.resolve("first.zip")), Files.readAllBytes(output.resolve("second.zip")));
+        assertArrayEquals(Files.readAllBytes(output.resolve("first.tar.gz")), Files.readAllBytes(output.resolve("second.tar.gz")));
+
+        List<String> names = Arrays.asList("a/c.txt", "a/z.txt", "b.txt", "bin/run");
+        List<String> zipNames = new ArrayList<>();
+        try (ZipFile zip = new ZipFile(output.resolve("first.zip").toFile())) {
+            for (ZipArchiveEntry entry : Collections.list(zip.getEntriesInPhysicalOrder())) {
+                zipNames.add(entry.getName());
+                assertEquals(entry.getName().startsWith("bin/") ? 0100755 : 0100644, entry.getUnixMode(), entry.getName());
+            }
+        }
+        assertEquals(names, zipNames);
+
+        List<String> tarNames = new ArrayList<>();
+        try (InputStream in = Files.newInputStream(output.resolve("first.tar.gz"));
+             TarArchiveInputStream tar = new TarArchiveInputStream(new GzipCompressorInputStream(in))) {
+            TarArchiveEntry entry;
+            while (null != (entry = tar.getNextTarEntry())) {
+                tarNames.add(entry.getName());
+                assertEquals(0L, entry.getLongUserId(), entry.getName());
+                assertEquals(0L, entry.getLongGroupId(), entry.getName());
+                assertEquals("", entry.getUserName(), entry.getName());
+                assertEquals("", entry.getGroupName(), entry.getName());
+                assertEquals(entry.getName().startsWith("bin/") ? 0100755 : 0100644, entry.getMode(), entry.getName());
+                assertEquals(timestamp.toMillis(), entry.getModTime().getTime(), entry.getName());
+            }
+        }
+        assertEquals(names, tarNames);
+    }
+
+    private static Path createTree(Path dir, FileTime lastModified, boolean reverse) throws IOException {
+        List<String> names = new ArrayList<>(Arrays.asList("a/c.txt", "a/z.txt", "b.txt", "bin/run"));
+        if (reverse) Collections.reverse(names);
+
+        for (String name : names) {
+            Path file = dir.resolve(name);
+            Files.createDirectories(file.getParent());
+            Files.write(file, name.getBytes(StandardCharsets.UTF_8));
+            file.toFile().setExecutable(name.startsWith("bin/"));
+            Files.setLastModifiedTime(file, lastModified);
+        }
+
+        return dir;
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class JReleaserLoggerTest {
+    @Test
+    public void scopedTasksFlushTheirOutputAsOneBlock() throws Exception {
+        // given:
+        StringWriter out = new StringWriter();
+        JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(new PrintWriter(out, true),
+            SimpleJReleaserLoggerAdapter.Level.INFO);
+        logger.setPrefix("test");
+        logger.increaseIndent();
+
+        // when:
+        ConcurrentUtils.invokeAll("test", 4, Arrays.asList("a", "b", "c", "d"), logger.scoped(input -> {
+            logger.setPrefix(input);
+            for (int i = 0; i < 3; i++) {
+                logger.info("{}", i);
+                Thread.sleep(5);
+            }
+            return input;
+        }));
+        logger.info("done");
+
+        // then:
+        List<String> lines = new ArrayList<>(Arrays.asList(out.toString().split("\\R")));
+        assertThat(lines.size(), equalTo(13));
+        for (int block = 0; block < 4; block++) {
+            String prefix = lines.get(block * 3).substring(0, lines.get(block * 3).indexOf(']', 8) + 1);
+            for (int i = 0; i < 3; i++) {
+                assertThat(lines.get(block * 3 + i), equalTo(prefix + " " + i));
+            }
+        }
+        assertThat(lines.get(12), equalTo("[INFO]    [test] done"));
+    }
+
+    @Test
+    public void nestedScopedTasksOnOtherThreadsFlushIntoTheEnclosingBlock() throws Exception {
+        // given:
+        StringWriter out = new StringWriter();
+        JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(new PrintWriter(out, true),
+            SimpleJReleaserLoggerAdapter.Level.INFO);
+
+        // when:
+        ConcurrentUtils.invokeAll("outer", 2, Arrays.asList("a", "b"), logger.scoped(outer -> {
+            logger.info("start {}", outer);
+            ConcurrentUtils.invokeAll("inner", 2, Arrays.asList("1", "2"), logger.scoped(inner -> {
+                for (int i = 0; i < 2; i++) {
+                    logger.info("{}{}", outer, inner);
+                    Thread.sleep(5);
+                }
+                return inner;
+            }));
+            logger.info("end {}", outer);
+            return outer;
+        }));
+
+        // then:
+        List<String> lines = new ArrayList<>(Arrays.asList(out.toString().split("\\R")));
+        assertThat(lines.size(), equalTo(12));
+        for (int block = 0; block < 2; block++) {
+            String outer = lines.get(block * 6).substring(lines.get(block * 6).length() - 1);
+            assertThat(lines.get(block * 6), equalTo("[INFO]  start " + outer));
+            for (int i = 1; i < 5; i++) {
+                assertThat(lines.get(block * 6 + i).startsWith("[INFO]  " + outer), equalTo(true));
+            }
+            assertThat(lines.get(block * 6 + 5), equalTo("[INFO]  end " + outer));
+        }
+    }
+
+    @Test
+    public void runningScopedTasksCanBeFlushed() throws Exception {
+        // given:
+        StringWriter out = new StringWriter();
+        JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(new PrintWriter(out, true),
+            SimpleJReleaserLoggerAdapter.Level.INFO);
+        CountDownLatch logged = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        JReleaserLogger.ScopedTask<String, String> task = logger.scoped(input -> {
+            logger.info("before {}", input);
+            logged.countDown();
+            release.await();
+            logger.info("after {}", input);
+            return input;
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            // when:
+            Future<String> future = executor.submit(() -> task.call("a"));
+            logged.await();
+            task.flush();
+
+            // then:
+            assertThat(out.toString().trim(), equalTo("[INFO]  before a"));
+
+            // when:
+            release.countDown();
+            future.get();
+
+            // then:
+            assertThat(Arrays.asList(out.toString().split("\\R")),
+                equalTo(Arrays.asList("[INFO]  before a", "[INFO]  after a")));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.jreleaser.test.Platform;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class JdkCacheTest {
+    @Test
+    public void populatesOnceAndReusesEntries() throws IOException {
+        // given:
+        Path tmp = Files.createTempDirectory("jdk-cache");
+        Path archive = createJdkArchive(tmp.resolve("jdk.zip"), "17");
+        Path cacheDirectory = tmp.resolve("cache");
+
+        // when:
+        Path entry = new JdkCache(cacheDirectory, Long.MAX_VALUE).unpack(archive);
+        Files.write(entry.resolve("jdk").resolve("marker"), new byte[0]);
+        Path reused = new JdkCache(cacheDirectory, Long.MAX_VALUE).unpack(archive);
+
+        // then:
+        assertThat(reused, equalTo(entry));
+        assertThat(entry.getParent(), equalTo(cacheDirectory.toAbsolutePath().normalize()));
+        assertThat(Files.exists(reused.resolve("jdk").resolve("marker")), equalTo(true));
+        assertThat(JdkCache.resolveJdkHome(entry), equalTo(entry.resolve("jdk")));
+    }
+
+    @Test
+    @Platform(platform = "windows", match = false)
+    public void destinationDoesNotDependOnTheCache() throws IOException {
+        // given:
+        Path tmp = Files.createTempDirectory("jdk-cache");
+        Path archive = createJdkArchive(tmp.resolve("jdk.zip"), "17");
+        Path destination = Files.createDirectories(tmp.resolve("destination"));
+        // left behind by a previous run whose cache entry is gone
+        Files.createSymbolicLink(destination.resolve("release"), tmp.resolve("missing"));
+        JdkCache cache = new JdkCache(tmp.resolve("cache"), Long.MAX_VALUE);
+
+        // when:
+        cache.unpack(archive, destination, true);
+        FileUtils.deleteFiles(cache.unpack(archive));
+
+        // then:
+        Path release = destination.resolve("release");
+        assertThat(Files.isSymbolicLink(release), equalTo(false));
+        assertThat(new String(Files.readAllBytes(release), StandardCharsets.UTF_8), equalTo("JAVA_VERSION=\"17\""));
+        assertThat(Files.isRegularFile(destination.resolve("bin").resolve("java")), equalTo(true));
+    }
+
+    @Test
+    public void evictsIdleEntriesOnly() throws IOException {
+        // given:
+        Path tmp = Files.createTempDirectory("jdk-cache");
+        Path cacheDirectory = tmp.resolve("cache");
+        Path idle = createEntry(cacheDirectory.resolve("idle"));
+        Files.setLastModifiedTime(idle, FileTime.fromMillis(System.currentTimeMillis() - 2 * 60 * 60 * 1000L));
+        Path recent = createEntry(cacheDirectory.resolve("recent"));
+        Path archive = createJdkArchive(tmp.resolve("jdk.zip"), "17");
+
+        // when:
+        Path entry = new JdkCache(cacheDirectory, 0).unpack(archive);
+
+        // then:
+        assertThat(Files.exists(idle), equalTo(false));
+        assertThat(Files.exists(recent), equalTo(true));
+        assertThat(Files.exists(entry.resolve("jdk").resolve("release")), equalTo(true));
+    }
+
+    private static Path createEntry(Path entry) throws IOException {
+        Files.createDirectories(entry);
+        Files.write(entry.resolve("release"), "JAVA_VERSION=\"11\"".getBytes(StandardCharsets.UTF_8));
+        return entry;
+    }
+
+    private static Path createJdkArchive(Path archive, String version) throws IOException {
+        try (OutputStream out = Files.newOutputStream(archive);
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("jdk/release"));
+            zip.write(("JAVA_VERSION=\"" + version + "\"").getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("jdk/bin/java"));
+            zip.write(new byte[]{1, 2, 3});
+            zip.closeEntry();
+        }
+        return archive;
+    }
+}
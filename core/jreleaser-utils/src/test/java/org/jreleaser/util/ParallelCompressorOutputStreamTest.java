@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.apache.commons.compress.compressors.xz.XZCompressorInputStream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class ParallelCompressorOutputStreamTest {
+    @ParameterizedTest
+    @EnumSource(ParallelCompressorOutputStream.Codec.class)
+    public void concatenatedMembersDecompressToTheOriginalBytes(ParallelCompressorOutputStream.Codec codec) throws IOException {
+        // given:
+        byte[] data = new byte[(2 * ParallelCompressorOutputStream.BLOCK_SIZE) + 123];
+        Random random = new Random(42);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) ('a' + random.nextInt(8));
+        }
+
+        // when:
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (ParallelCompressorOutputStream out = new ParallelCompressorOutputStream(compressed, codec, executor, 2)) {
+            out.write(data, 0, 1000);
+            out.write(data, 1000, data.length - 1000);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then:
+        assertThat(decompress(codec, compressed.toByteArray()), equalTo(data));
+    }
+
+    private static byte[] decompress(ParallelCompressorOutputStream.Codec codec, byte[] bytes) throws IOException {
+        InputStream in = new ByteArrayInputStream(bytes);
+        switch (codec) {
+            case GZIP:
+                in = new GzipCompressorInputStream(in, true);
+                break;
+            case BZIP2:
+                in = new BZip2CompressorInputStream(in, true);
+                break;
+            default:
+                in = new XZCompressorInputStream(in, true);
+                break;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream input = in) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return out.toByteArray();
+    }
+}
@@ -21,15 +21,31 @@ import org.jreleaser.engine.hooks.CommandHookExecutor;
 import org.jreleaser.model.JReleaserCommand;
 import org.jreleaser.model.JReleaserContext;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Andres Almiray
  * @since 1.2.0
  */
 abstract class AbstractWorkflowItem implements WorkflowItem {
     private final JReleaserCommand command;
+    private final Set<JReleaserCommand> dependencies = EnumSet.noneOf(JReleaserCommand.class);
 
-    protected AbstractWorkflowItem(JReleaserCommand command) {
+    protected AbstractWorkflowItem(JReleaserCommand command, JReleaserCommand... dependencies) {
         this.command = command;
+        Collections.addAll(this.dependencies, dependencies);
+    }
+
+    @Override
+    public JReleaserCommand getCommand() {
+        return command;
+    }
+
+    @Override
+    public Set<JReleaserCommand> getDependencies() {
+        return Collections.unmodifiableSet(dependencies);
     }
 
     @Override
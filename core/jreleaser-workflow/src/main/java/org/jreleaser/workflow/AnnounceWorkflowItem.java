@@ -30,7 +30,10 @@ import org.jreleaser.util.JReleaserException;
  */
 class AnnounceWorkflowItem extends AbstractWorkflowItem {
     protected AnnounceWorkflowItem() {
-        super(JReleaserCommand.ANNOUNCE);
+        super(JReleaserCommand.ANNOUNCE,
+            JReleaserCommand.CHANGELOG,
+            JReleaserCommand.RELEASE,
+            JReleaserCommand.PUBLISH);
     }
 
     @Override
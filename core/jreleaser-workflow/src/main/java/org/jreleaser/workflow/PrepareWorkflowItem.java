@@ -29,7 +29,9 @@ import org.jreleaser.model.JReleaserContext;
  */
 class PrepareWorkflowItem extends AbstractWorkflowItem {
     protected PrepareWorkflowItem() {
-        super(JReleaserCommand.PREPARE);
+        super(JReleaserCommand.PREPARE,
+            JReleaserCommand.CHANGELOG,
+            JReleaserCommand.CHECKSUM);
     }
 
     @Override
@@ -29,7 +29,9 @@ import org.jreleaser.model.JReleaserContext;
  */
 class PublishWorkflowItem extends AbstractWorkflowItem {
     protected PublishWorkflowItem() {
-        super(JReleaserCommand.PUBLISH);
+        super(JReleaserCommand.PUBLISH,
+            JReleaserCommand.PACKAGE,
+            JReleaserCommand.RELEASE);
     }
 
     @Override
@@ -30,7 +30,11 @@ import org.jreleaser.util.JReleaserException;
  */
 class ReleaseWorkflowItem extends AbstractWorkflowItem {
     protected ReleaseWorkflowItem() {
-        super(JReleaserCommand.RELEASE);
+        super(JReleaserCommand.RELEASE,
+            JReleaserCommand.CHANGELOG,
+            JReleaserCommand.CHECKSUM,
+            JReleaserCommand.SIGN,
+            JReleaserCommand.UPLOAD);
     }
 
     @Override
@@ -30,7 +30,8 @@ import org.jreleaser.util.signing.SigningException;
  */
 class SignWorkflowItem extends AbstractWorkflowItem {
     protected SignWorkflowItem() {
-        super(JReleaserCommand.SIGN);
+        super(JReleaserCommand.SIGN,
+            JReleaserCommand.CHECKSUM);
     }
 
     @Override
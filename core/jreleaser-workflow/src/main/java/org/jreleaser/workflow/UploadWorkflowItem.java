@@ -27,7 +27,9 @@ import org.jreleaser.model.JReleaserContext;
  */
 class UploadWorkflowItem extends AbstractWorkflowItem {
     protected UploadWorkflowItem() {
-        super(JReleaserCommand.UPLOAD);
+        super(JReleaserCommand.UPLOAD,
+            JReleaserCommand.CHECKSUM,
+            JReleaserCommand.SIGN);
     }
 
     @Override
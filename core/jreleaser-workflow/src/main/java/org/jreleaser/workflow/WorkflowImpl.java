@@ -19,14 +19,34 @@ package org.jreleaser.workflow;
 
 import org.jreleaser.bundle.RB;
 import org.jreleaser.engine.context.ModelValidator;
+import org.jreleaser.model.Artifact;
+import org.jreleaser.model.Distribution;
+import org.jreleaser.model.JReleaserCommand;
 import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.util.ConcurrentUtils;
+import org.jreleaser.util.JReleaserException;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import static org.jreleaser.util.ConcurrentUtils.newExecutor;
+import static org.jreleaser.util.Constants.KEY_PLATFORM_REPLACED;
+import static org.jreleaser.util.StringUtils.isNotBlank;
 import static org.jreleaser.util.TimeUtils.formatDuration;
 
 /**
@@ -38,13 +58,17 @@ class WorkflowImpl implements Workflow {
     private final List<WorkflowItem> items = new ArrayList<>();
 
     public WorkflowImpl(JReleaserContext context, List<WorkflowItem> items) {
+        this(context, items, true);
+    }
+
+    WorkflowImpl(JReleaserContext context, List<WorkflowItem> items, boolean validate) {
         this.context = context;
-        ModelValidator.validate(context);
+        if (validate) ModelValidator.validate(context);
         this.items.addAll(items);
     }
 
     public void execute() {
-        AtomicReference<RuntimeException> exception = new AtomicReference<>();
+        Map<JReleaserCommand, Double> durations = new ConcurrentHashMap<>();
 
         Instant start = Instant.now();
         context.getLogger().info(RB.$("workflow.dryrun"), context.isDryrun());
@@ -65,28 +89,172 @@ class WorkflowImpl implements Workflow {
         logFilters("workflow.included.announcers", context.getIncludedAnnouncers());
         logFilters("workflow.excluded.announcers", context.getExcludedAnnouncers());
 
-        for (WorkflowItem item : items) {
-            try {
-                item.invoke(context);
-            } catch (RuntimeException e) {
-                // terminate
-                exception.compareAndSet(null, e);
-                break;
-            }
+
+        RuntimeException exception;
+        if (context.getMaxParallelism() > 1 && items.size() > 1) {
+            context.getLogger().info(RB.$("workflow.max.parallelism"), context.getMaxParallelism());
+            resolvePlatformReplacements();
+            exception = executeConcurrently(durations);
+        } else {
+            exception = executeSequentially(durations);
         }
         Instant end = Instant.now();
 
         double duration = Duration.between(start, end).toMillis() / 1000d;
 
         context.getLogger().reset();
+        context.setCriticalPath(resolveCriticalPath(durations));
         context.report();
-        if (null == exception.get()) {
+        if (null == exception) {
             context.getLogger().info(RB.$("workflow.success"), formatDuration(duration));
         } else {
             context.getLogger().error(RB.$("workflow.failure"), formatDuration(duration));
-            context.getLogger().trace(exception.get());
-            throw exception.get();
+            context.getLogger().trace(exception);
+            throw exception;
+        }
+    }
+
+    private RuntimeException executeSequentially(Map<JReleaserCommand, Double> durations) {
+        for (WorkflowItem item : items) {
+            try {
+                invoke(item, durations);
+            } catch (RuntimeException e) {
+                // terminate
+                return e;
+            }
+        }
+
+        return null;
+    }
+
+    private void resolvePlatformReplacements() {
+        // uploaders and releasers set this property while packagers read it,
+        // resolve it upfront so that items running concurrently only read it
+        for (Distribution distribution : context.getModel().getActiveDistributions()) {
+            for (Artifact artifact : distribution.getArtifacts()) {
+                String platformReplaced = distribution.getPlatform().applyReplacements(artifact.getPlatform());
+                if (isNotBlank(platformReplaced)) {
+                    artifact.mutate(() -> artifact.getExtraProperties().put(KEY_PLATFORM_REPLACED, platformReplaced));
+                }
+            }
+        }
+    }
+
+    RuntimeException executeConcurrently(Map<JReleaserCommand, Double> durations) {
+        ExecutorService executor = newExecutor("workflow", context.getMaxParallelism());
+        CompletionService<WorkflowItem> completionService = new ExecutorCompletionService<>(executor);
+        Set<JReleaserCommand> completed = EnumSet.noneOf(JReleaserCommand.class);
+        List<WorkflowItem> pending = new ArrayList<>(items);
+        ConcurrentUtils.Task<WorkflowItem, WorkflowItem> task = context.getLogger().scoped(item -> {
+            invoke(item, durations);
+            return item;
+        });
+        RuntimeException exception = null;
+        int running = 0;
+
+        try {
+            while (true) {
+                // stop scheduling on first failure but let running items finish
+                if (null == exception) {
+                    for (Iterator<WorkflowItem> it = pending.iterator(); it.hasNext(); ) {
+                        WorkflowItem item = it.next();
+                        if (isReady(item, completed)) {
+                            it.remove();
+                            completionService.submit(() -> task.call(item));
+                            running++;
+                        }
+                    }
+                }
+
+                if (running == 0) break;
+
+                Future<WorkflowItem> future = completionService.take();
+                running--;
+                try {
+                    completed.add(future.get().getCommand());
+                } catch (ExecutionException e) {
+                    if (null == exception) {
+                        exception = e.getCause() instanceof RuntimeException ?
+                            (RuntimeException) e.getCause() :
+                            new JReleaserException(RB.$("ERROR_unexpected_error"), e.getCause());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+            return new JReleaserException(RB.$("ERROR_unexpected_error"), e);
+        } finally {
+            executor.shutdown();
+        }
+
+        if (null == exception && !pending.isEmpty()) {
+            // dependencies always point to earlier items, this should not happen!
+            exception = new IllegalStateException(RB.$("ERROR_unexpected_error"));
+        }
+
+        return exception;
+    }
+
+    private boolean isReady(WorkflowItem item, Set<JReleaserCommand> completed) {
+        for (JReleaserCommand dependency : item.getDependencies()) {
+            if (!completed.contains(dependency) && isScheduled(dependency)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isScheduled(JReleaserCommand command) {
+        for (WorkflowItem item : items) {
+            if (item.getCommand() == command) return true;
+        }
+        return false;
+    }
+
+    private void invoke(WorkflowItem item, Map<JReleaserCommand, Double> durations) {
+        Instant start = Instant.now();
+        try {
+            item.invoke(context);
+        } finally {
+            durations.put(item.getCommand(), Duration.between(start, Instant.now()).toMillis() / 1000d);
+        }
+    }
+
+    Map<String, Double> resolveCriticalPath(Map<JReleaserCommand, Double> durations) {
+        // items are declared in dependency order
+        Map<JReleaserCommand, Double> costs = new EnumMap<>(JReleaserCommand.class);
+        Map<JReleaserCommand, JReleaserCommand> predecessors = new EnumMap<>(JReleaserCommand.class);
+        JReleaserCommand last = null;
+
+        for (WorkflowItem item : items) {
+            Double duration = durations.get(item.getCommand());
+            if (null == duration) continue;
+
+            double cost = 0d;
+            for (JReleaserCommand dependency : item.getDependencies()) {
+                Double c = costs.get(dependency);
+                if (null != c && c > cost) {
+                    cost = c;
+                    predecessors.put(item.getCommand(), dependency);
+                }
+            }
+            costs.put(item.getCommand(), cost + duration);
+            if (null == last || costs.get(last) < cost + duration) {
+                last = item.getCommand();
+            }
+        }
+
+        LinkedList<JReleaserCommand> path = new LinkedList<>();
+        for (JReleaserCommand command = last; null != command; command = predecessors.get(command)) {
+            path.addFirst(command);
+        }
+
+        Map<String, Double> criticalPath = new LinkedHashMap<>();
+        for (JReleaserCommand command : path) {
+            criticalPath.put(command.toStep(), durations.get(command));
         }
+        return criticalPath;
     }
 
     private void logFilters(String key, List<String> input) {
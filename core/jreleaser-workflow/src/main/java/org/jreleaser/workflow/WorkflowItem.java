@@ -17,12 +17,30 @@
  */
 package org.jreleaser.workflow;
 
+import org.jreleaser.model.JReleaserCommand;
 import org.jreleaser.model.JReleaserContext;
 
+import java.util.Set;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 public interface WorkflowItem {
     void invoke(JReleaserContext context);
+
+    /**
+     * The command this item executes.
+     *
+     * @since 1.3.0
+     */
+    JReleaserCommand getCommand();
+
+    /**
+     * Commands that must complete before this item may run. Commands not
+     * present in the current workflow are ignored.
+     *
+     * @since 1.3.0
+     */
+    Set<JReleaserCommand> getDependencies();
 }
@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.workflow;
+
+import org.jreleaser.model.JReleaserCommand;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.JReleaserModel;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class WorkflowImplTest {
+    @Test
+    public void independentItemsRunConcurrently() throws Exception {
+        // given:
+        CountDownLatch latch = new CountDownLatch(2);
+        Set<JReleaserCommand> overlapped = ConcurrentHashMap.newKeySet();
+        Map<JReleaserCommand, Boolean> ready = new ConcurrentHashMap<>();
+        Set<JReleaserCommand> completed = ConcurrentHashMap.newKeySet();
+
+        WorkflowItem changelog = new TestWorkflowItem(JReleaserCommand.CHANGELOG, () -> {
+            latch.countDown();
+            if (latch.await(10, TimeUnit.SECONDS)) overlapped.add(JReleaserCommand.CHANGELOG);
+            completed.add(JReleaserCommand.CHANGELOG);
+        });
+        WorkflowItem checksum = new TestWorkflowItem(JReleaserCommand.CHECKSUM, () -> {
+            latch.countDown();
+            if (latch.await(10, TimeUnit.SECONDS)) overlapped.add(JReleaserCommand.CHECKSUM);
+            completed.add(JReleaserCommand.CHECKSUM);
+        });
+        WorkflowItem prepare = new TestWorkflowItem(JReleaserCommand.PREPARE, () ->
+            ready.put(JReleaserCommand.PREPARE, completed.containsAll(EnumSet.of(JReleaserCommand.CHANGELOG, JReleaserCommand.CHECKSUM))),
+            JReleaserCommand.CHANGELOG, JReleaserCommand.CHECKSUM);
+
+        WorkflowImpl workflow = createWorkflow(4, changelog, checksum, prepare);
+        Map<JReleaserCommand, Double> durations = new ConcurrentHashMap<>();
+
+        // when:
+        RuntimeException exception = workflow.executeConcurrently(durations);
+
+        // then:
+        assertThat(exception, nullValue());
+        assertThat(overlapped, equalTo(EnumSet.of(JReleaserCommand.CHANGELOG, JReleaserCommand.CHECKSUM)));
+        assertThat(ready.get(JReleaserCommand.PREPARE), equalTo(true));
+        assertThat(durations.keySet(), equalTo(EnumSet.of(JReleaserCommand.CHANGELOG, JReleaserCommand.CHECKSUM, JReleaserCommand.PREPARE)));
+    }
+
+    @Test
+    public void failureStopsSchedulingDependentItems() throws Exception {
+        // given:
+        RuntimeException failure = new IllegalStateException("boom");
+        Set<JReleaserCommand> invoked = ConcurrentHashMap.newKeySet();
+
+        WorkflowItem checksum = new TestWorkflowItem(JReleaserCommand.CHECKSUM, () -> {
+            invoked.add(JReleaserCommand.CHECKSUM);
+            throw failure;
+        });
+        WorkflowItem sign = new TestWorkflowItem(JReleaserCommand.SIGN, () -> invoked.add(JReleaserCommand.SIGN),
+            JReleaserCommand.CHECKSUM);
+
+        WorkflowImpl workflow = createWorkflow(4, checksum, sign);
+
+        // when:
+        RuntimeException exception = workflow.executeConcurrently(new ConcurrentHashMap<>());
+
+        // then:
+        assertThat(exception, equalTo(failure));
+        assertThat(invoked, equalTo(EnumSet.of(JReleaserCommand.CHECKSUM)));
+    }
+
+    @Test
+    public void criticalPathFollowsTheMostExpensiveChain() throws Exception {
+        // given:
+        WorkflowImpl workflow = createWorkflow(4,
+            new TestWorkflowItem(JReleaserCommand.CHANGELOG, () -> {}),
+            new TestWorkflowItem(JReleaserCommand.CHECKSUM, () -> {}),
+            new TestWorkflowItem(JReleaserCommand.SIGN, () -> {}, JReleaserCommand.CHECKSUM),
+            new TestWorkflowItem(JReleaserCommand.RELEASE, () -> {}, JReleaserCommand.CHANGELOG, JReleaserCommand.SIGN),
+            new TestWorkflowItem(JReleaserCommand.ANNOUNCE, () -> {}, JReleaserCommand.RELEASE));
+
+        Map<JReleaserCommand, Double> durations = new EnumMap<>(JReleaserCommand.class);
+        durations.put(JReleaserCommand.CHANGELOG, 3d);
+        durations.put(JReleaserCommand.CHECKSUM, 1d);
+        durations.put(JReleaserCommand.SIGN, 1.5d);
+        durations.put(JReleaserCommand.RELEASE, 2d);
+        durations.put(JReleaserCommand.ANNOUNCE, 0.5d);
+
+        // when:
+        Map<String, Double> criticalPath = workflow.resolveCriticalPath(durations);
+
+        // then:
+        Map<String, Double> expected = new LinkedHashMap<>();
+        expected.put(JReleaserCommand.CHANGELOG.toStep(), 3d);
+        expected.put(JReleaserCommand.RELEASE.toStep(), 2d);
+        expected.put(JReleaserCommand.ANNOUNCE.toStep(), 0.5d);
+        assertThat(criticalPath, equalTo(expected));
+        assertThat(criticalPath.keySet().iterator().next(), equalTo(JReleaserCommand.CHANGELOG.toStep()));
+    }
+
+    @Test
+    public void criticalPathSkipsItemsThatDidNotRun() throws Exception {
+        // given:
+        WorkflowImpl workflow = createWorkflow(4,
+            new TestWorkflowItem(JReleaserCommand.CHECKSUM, () -> {}),
+            new TestWorkflowItem(JReleaserCommand.SIGN, () -> {}, JReleaserCommand.CHECKSUM),
+            new TestWorkflowItem(JReleaserCommand.UPLOAD, () -> {}, JReleaserCommand.SIGN));
+
+        Map<JReleaserCommand, Double> durations = new EnumMap<>(JReleaserCommand.class);
+        durations.put(JReleaserCommand.CHECKSUM, 1d);
+        durations.put(JReleaserCommand.SIGN, 2d);
+
+        // when:
+        Map<String, Double> criticalPath = workflow.resolveCriticalPath(durations);
+
+        // then:
+        Map<String, Double> expected = new LinkedHashMap<>();
+        expected.put(JReleaserCommand.CHECKSUM.toStep(), 1d);
+        expected.put(JReleaserCommand.SIGN.toStep(), 2d);
+        assertThat(criticalPath, equalTo(expected));
+    }
+
+    private static WorkflowImpl createWorkflow(int maxParallelism, WorkflowItem... items) throws Exception {
+        Path basedir = Files.createTempDirectory("workflow");
+        JReleaserContext context = new JReleaserContext(new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR),
+            JReleaserContext.Configurer.CLI,
+            JReleaserContext.Mode.FULL,
+            new JReleaserModel(),
+            basedir,
+            basedir.resolve("out"),
+            true,
+            false,
+            Collections.emptyList());
+        context.setMaxParallelism(maxParallelism);
+        List<WorkflowItem> list = Arrays.asList(items);
+        return new WorkflowImpl(context, list, false);
+    }
+
+    private static final class TestWorkflowItem extends AbstractWorkflowItem {
+        private final Action action;
+
+        private TestWorkflowItem(JReleaserCommand command, Action action, JReleaserCommand... dependencies) {
+            super(command, dependencies);
+            this.action = action;
+        }
+
+        @Override
+        public void invoke(JReleaserContext context) {
+            doInvoke(context);
+        }
+
+        @Override
+        protected void doInvoke(JReleaserContext context) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private interface Action {
+        void run() throws Exception;
+    }
+}
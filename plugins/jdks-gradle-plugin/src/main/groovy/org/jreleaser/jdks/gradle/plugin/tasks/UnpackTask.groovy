@@ -26,8 +26,10 @@ import org.gradle.api.tasks.InputFile
 import org.gradle.api.tasks.OutputDirectory
 import org.gradle.api.tasks.TaskAction
 import org.jreleaser.util.FileUtils
+import org.jreleaser.util.JdkCache
 
 import javax.inject.Inject
+import java.nio.file.Path
 
 /**
  *
@@ -50,9 +52,15 @@ abstract class UnpackTask extends DefaultTask {
 
     @TaskAction
     void unpack() {
-        FileUtils.unpackArchive(
-            inputFile.get().asFile.toPath(),
-            outputDirectory.get().asFile.toPath(),
-            false)
+        Path archive = inputFile.get().asFile.toPath()
+        Path destination = outputDirectory.get().asFile.toPath()
+
+        try {
+            // unpacked once per host, then hard linked or copied into place
+            JdkCache.getDefault().unpack(archive, destination, false)
+        } catch (IOException e) {
+            logger.warn("Could not use JDK cache, extracting ${archive.fileName} in place", e)
+            FileUtils.unpackArchive(archive, destination, false)
+        }
     }
 }
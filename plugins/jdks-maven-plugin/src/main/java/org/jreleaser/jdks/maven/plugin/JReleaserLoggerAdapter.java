@@ -37,7 +37,7 @@ public class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void debug(String message) {
+    protected void doDebug(String message) {
         String msg1 = formatMessage(message);
         String msg2 = msg1;
         if (isIndented()) {
@@ -48,21 +48,21 @@ public class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void info(String message) {
+    protected void doInfo(String message) {
         String msg = formatMessage(message);
         delegate.info(msg);
         trace(Level.INFO + msg);
     }
 
     @Override
-    public void warn(String message) {
+    protected void doWarn(String message) {
         String msg = formatMessage(message);
         delegate.warn(msg);
         trace(Level.WARN + msg);
     }
 
     @Override
-    public void error(String message) {
+    protected void doError(String message) {
         String msg1 = formatMessage(message);
         String msg2 = msg1;
         if (isIndented()) {
@@ -73,7 +73,7 @@ public class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void debug(String message, Object... args) {
+    protected void doDebug(String message, Object... args) {
         String msg1 = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
         String msg2 = msg1;
         if (isIndented()) {
@@ -84,21 +84,21 @@ public class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void info(String message, Object... args) {
+    protected void doInfo(String message, Object... args) {
         String msg = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
         delegate.info(msg);
         trace(Level.INFO + msg);
     }
 
     @Override
-    public void warn(String message, Object... args) {
+    protected void doWarn(String message, Object... args) {
         String msg = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
         delegate.warn(msg);
         trace(Level.WARN + msg);
     }
 
     @Override
-    public void error(String message, Object... args) {
+    protected void doError(String message, Object... args) {
         String msg1 = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
         String msg2 = msg1;
         if (isIndented()) {
@@ -109,7 +109,7 @@ public class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void debug(String message, Throwable throwable) {
+    protected void doDebug(String message, Throwable throwable) {
         String msg1 = formatMessage(message);
         String msg2 = msg1;
         if (isIndented()) {
@@ -120,21 +120,21 @@ public class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void info(String message, Throwable throwable) {
+    protected void doInfo(String message, Throwable throwable) {
         String msg = formatMessage(message);
         delegate.info(msg, throwable);
         trace(Level.INFO + msg, throwable);
     }
 
     @Override
-    public void warn(String message, Throwable throwable) {
+    protected void doWarn(String message, Throwable throwable) {
         String msg = formatMessage(message);
         delegate.warn(msg, throwable);
         trace(Level.WARN + msg, throwable);
     }
 
     @Override
-    public void error(String message, Throwable throwable) {
+    protected void doError(String message, Throwable throwable) {
         String msg1 = formatMessage(message);
         String msg2 = msg1;
         if (isIndented()) {
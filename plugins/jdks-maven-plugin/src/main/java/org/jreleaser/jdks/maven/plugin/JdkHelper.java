@@ -27,14 +27,21 @@ import org.codehaus.plexus.archiver.manager.ArchiverManager;
 import org.codehaus.plexus.archiver.manager.NoSuchArchiverException;
 import org.jreleaser.util.Algorithm;
 import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ConcurrentUtils;
+import org.jreleaser.util.FileType;
 import org.jreleaser.util.FileUtils;
+import org.jreleaser.util.JdkCache;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 
 import static org.twdata.maven.mojoexecutor.MojoExecutor.configuration;
 import static org.twdata.maven.mojoexecutor.MojoExecutor.element;
@@ -69,6 +76,43 @@ public class JdkHelper {
     }
 
     public void setupJdk(Jdk jdk) throws MojoExecutionException {
+        setupJdks(Collections.singletonList(jdk));
+    }
+
+    public void setupJdks(List<Jdk> jdks) throws MojoExecutionException {
+        // downloads reuse the Maven session, one at a time
+        List<Jdk> extractions = new ArrayList<>();
+        for (Jdk jdk : jdks) {
+            if (prepareJdk(jdk)) {
+                extractions.add(jdk);
+            }
+        }
+
+        // extractions are independent of each other
+        try {
+            ConcurrentUtils.invokeAll("jdks", ConcurrentUtils.resolveParallelism(null), extractions, jdk -> {
+                extractJdk(new File(outputDirectory, jdk.getName()), jdk);
+                return jdk;
+            });
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof MojoExecutionException) {
+                MojoExecutionException x = (MojoExecutionException) cause;
+                for (Throwable suppressed : e.getSuppressed()) {
+                    x.addSuppressed(suppressed);
+                }
+                throw x;
+            }
+            throw new MojoExecutionException("Unexpected error", e);
+        }
+    }
+
+    /**
+     * Downloads and verifies a JDK.
+     *
+     * @return whether the JDK needs to be extracted
+     */
+    private boolean prepareJdk(Jdk jdk) throws MojoExecutionException {
         File jdkExtractDirectory = new File(outputDirectory, jdk.getName());
 
         boolean downloaded = false;
@@ -87,11 +131,12 @@ public class JdkHelper {
                 } catch (IOException e) {
                     throw new MojoExecutionException("Unexpected error", e);
                 }
-                extractJdk(jdkExtractDirectory, jdk);
+                return true;
             }
-        } else {
-            extractJdk(jdkExtractDirectory, jdk);
+            return false;
         }
+
+        return true;
     }
 
     private void downloadJdk(File jdkExtractDirectory, Jdk jdk) throws MojoExecutionException {
@@ -139,7 +184,7 @@ public class JdkHelper {
         try {
             // calculate checksum
             Path input = new File(jdkExtractDirectory, filename).toPath();
-            String calculatedChecksum = ChecksumUtils.checksum(Algorithm.of(algo), Files.readAllBytes(input));
+            String calculatedChecksum = ChecksumUtils.checksum(Algorithm.of(algo), input);
 
             // verify checksum
             log.info("Verifying " + filename);
@@ -174,6 +219,19 @@ public class JdkHelper {
     private void extractJdk(File jdkExtractDirectory, Jdk jdk) throws MojoExecutionException {
         File inputFile = new File(jdkExtractDirectory, getFilename(jdk));
 
+        Optional<FileType> fileType = FileType.getFileType(inputFile.toPath());
+        if (fileType.isPresent() && fileType.get().archive()) {
+            // unpacked once per host, then hard linked or copied into place
+            try {
+                JdkCache cache = JdkCache.getDefault();
+                log.info("Extracting " + inputFile.getName() + " to " + cache.getDirectory());
+                cache.unpack(inputFile.toPath(), jdkExtractDirectory.toPath(), false);
+                return;
+            } catch (IOException e) {
+                log.warn("Could not use JDK cache, extracting " + inputFile.getName() + " in place", e);
+            }
+        }
+
         try {
             log.info("Extracting " + inputFile.getName());
             UnArchiver unarchiver = archiverManager.getUnArchiver(inputFile);
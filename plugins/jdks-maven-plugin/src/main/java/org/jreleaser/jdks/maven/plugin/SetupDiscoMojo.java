@@ -37,6 +37,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -96,12 +97,14 @@ public class SetupDiscoMojo extends AbstractMojo {
         JdkHelper jdkHelper = new JdkHelper(project, getLog(), outputDirectory,
             session, pluginManager, archiverManager);
 
+        List<Jdk> jdks = new ArrayList<>();
         for (Pkg pkg : pkgs) {
             Jdk jdk = resolvePkg(pkg, disco);
             if (null != jdk) {
-                jdkHelper.setupJdk(jdk);
+                jdks.add(jdk);
             }
         }
+        jdkHelper.setupJdks(jdks);
     }
 
     private Disco initializeDisco() throws MojoExecutionException {
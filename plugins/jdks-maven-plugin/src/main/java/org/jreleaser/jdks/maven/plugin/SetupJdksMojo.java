@@ -81,9 +81,7 @@ public class SetupJdksMojo extends AbstractJdksMojo {
                 .orElseThrow(() -> new IllegalArgumentException("Jdk " + jdkName + " was not found"));
             jdkHelper.setupJdk(jdk);
         } else {
-            for (Jdk jdk : jdks) {
-                jdkHelper.setupJdk(jdk);
-            }
+            jdkHelper.setupJdks(jdks);
         }
     }
 }
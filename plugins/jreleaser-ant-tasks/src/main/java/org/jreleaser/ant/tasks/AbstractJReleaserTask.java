@@ -59,6 +59,7 @@ abstract class AbstractJReleaserTask extends Task {
     protected File configFile;
     protected boolean dryrun;
     protected boolean gitRootSearch;
+    protected Integer maxParallelism;
     protected boolean skip;
     protected Path outputDir;
 
@@ -82,6 +83,10 @@ abstract class AbstractJReleaserTask extends Task {
         this.gitRootSearch = gitRootSearch;
     }
 
+    public void setMaxParallelism(Integer maxParallelism) {
+        this.maxParallelism = maxParallelism;
+    }
+
     public void setSkip(boolean skip) {
         this.skip = skip;
     }
@@ -159,7 +164,7 @@ abstract class AbstractJReleaserTask extends Task {
     }
 
     protected JReleaserContext createContext() {
-        return ContextCreator.create(
+        JReleaserContext context = ContextCreator.create(
             logger,
             resolveConfigurer(actualConfigFile),
             getMode(),
@@ -169,6 +174,8 @@ abstract class AbstractJReleaserTask extends Task {
             dryrun,
             gitRootSearch,
             collectSelectedPlatforms());
+        context.setMaxParallelism(maxParallelism);
+        return context;
     }
 
     protected JReleaserContext.Configurer resolveConfigurer(Path configFile) {
@@ -41,76 +41,76 @@ public class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    public void debug(String message) {
+    protected void doDebug(String message) {
         String msg = DEBUG + formatMessage(message);
         delegate.log(msg, Project.MSG_DEBUG);
         trace(msg);
     }
 
     @Override
-    public void info(String message) {
+    protected void doInfo(String message) {
         String msg = INFO + formatMessage(message);
         delegate.log(msg, Project.MSG_INFO);
         trace(msg);
     }
 
     @Override
-    public void warn(String message) {
+    protected void doWarn(String message) {
         String msg = WARN + formatMessage(message);
         delegate.log(msg, Project.MSG_WARN);
         trace(msg);
     }
 
     @Override
-    public void error(String message) {
+    protected void doError(String message) {
         String msg = ERROR + formatMessage(message);
         delegate.log(msg, Project.MSG_ERR);
         trace(msg);
     }
 
     @Override
-    public void debug(String message, Object... args) {
-        debug(MessageFormatter.arrayFormat(message, args).getMessage());
+    protected void doDebug(String message, Object... args) {
+        doDebug(MessageFormatter.arrayFormat(message, args).getMessage());
     }
 
     @Override
-    public void info(String message, Object... args) {
-        info(MessageFormatter.arrayFormat(message, args).getMessage());
+    protected void doInfo(String message, Object... args) {
+        doInfo(MessageFormatter.arrayFormat(message, args).getMessage());
     }
 
     @Override
-    public void warn(String message, Object... args) {
-        warn(MessageFormatter.arrayFormat(message, args).getMessage());
+    protected void doWarn(String message, Object... args) {
+        doWarn(MessageFormatter.arrayFormat(message, args).getMessage());
     }
 
     @Override
-    public void error(String message, Object... args) {
-        error(MessageFormatter.arrayFormat(message, args).getMessage());
+    protected void doError(String message, Object... args) {
+        doError(MessageFormatter.arrayFormat(message, args).getMessage());
     }
 
     @Override
-    public void debug(String message, Throwable throwable) {
+    protected void doDebug(String message, Throwable throwable) {
         String msg = DEBUG + formatMessage(message);
         delegate.log(msg, throwable, Project.MSG_DEBUG);
         trace(msg, throwable);
     }
 
     @Override
-    public void info(String message, Throwable throwable) {
+    protected void doInfo(String message, Throwable throwable) {
         String msg = INFO + formatMessage(message);
         delegate.log(msg, throwable, Project.MSG_INFO);
         trace(msg, throwable);
     }
 
     @Override
-    public void warn(String message, Throwable throwable) {
+    protected void doWarn(String message, Throwable throwable) {
         String msg = WARN + formatMessage(message);
         delegate.log(msg, throwable, Project.MSG_WARN);
         trace(msg, throwable);
     }
 
     @Override
-    public void error(String message, Throwable throwable) {
+    protected void doError(String message, Throwable throwable) {
         String msg = ERROR + formatMessage(message);
         delegate.log(msg, throwable, Project.MSG_ERR);
         trace(msg, throwable);
@@ -20,6 +20,7 @@ package org.jreleaser.gradle.plugin.dsl
 import groovy.transform.CompileStatic
 import org.gradle.api.Action
 import org.gradle.api.NamedDomainObjectContainer
+import org.gradle.api.provider.Property
 
 /**
  *
@@ -28,6 +29,12 @@ import org.gradle.api.NamedDomainObjectContainer
  */
 @CompileStatic
 interface Announce extends Activatable {
+    Property<Integer> getParallelism()
+
+    Property<Integer> getTimeout()
+
+    Property<Integer> getDeadline()
+
     Article getArticle()
 
     Discord getDiscord()
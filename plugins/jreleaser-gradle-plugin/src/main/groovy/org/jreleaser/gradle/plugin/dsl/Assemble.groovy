@@ -20,6 +20,7 @@ package org.jreleaser.gradle.plugin.dsl
 import groovy.transform.CompileStatic
 import org.gradle.api.Action
 import org.gradle.api.NamedDomainObjectContainer
+import org.gradle.api.provider.Property
 
 /**
  *
@@ -28,6 +29,8 @@ import org.gradle.api.NamedDomainObjectContainer
  */
 @CompileStatic
 interface Assemble extends Activatable {
+    Property<Boolean> getIncremental()
+
     NamedDomainObjectContainer<Archive> getArchive()
 
     NamedDomainObjectContainer<Jlink> getJlink()
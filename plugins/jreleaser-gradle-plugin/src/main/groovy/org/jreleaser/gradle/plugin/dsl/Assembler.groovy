@@ -32,6 +32,8 @@ import org.jreleaser.model.Stereotype
 interface Assembler extends Activatable, ExtraProperties {
     Property<Boolean> getExported()
 
+    Property<Boolean> getReproducible()
+
     Property<Stereotype> getStereotype()
 
     NamedDomainObjectContainer<FileSet> getFileSets()
@@ -77,6 +77,8 @@ interface GitService extends Releaser {
 
     Property<Integer> getReadTimeout()
 
+    Property<Integer> getUploadParallelism()
+
     Property<Boolean> getArtifacts()
 
     Property<Boolean> getFiles()
@@ -36,6 +36,8 @@ interface Jlink extends JavaAssembler {
 
     Property<Boolean> getCopyJars()
 
+    Property<Integer> getParallelism()
+
     SetProperty<String> getModuleNames()
 
     SetProperty<String> getAdditionalModuleNames()
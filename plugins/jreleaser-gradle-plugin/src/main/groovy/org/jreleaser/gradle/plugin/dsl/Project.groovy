@@ -38,6 +38,8 @@ interface Project extends ExtraProperties {
 
     Property<Stereotype> getStereotype()
 
+    Property<String> getTransformMode()
+
     Property<String> getDescription()
 
     Property<String> getLongDescription()
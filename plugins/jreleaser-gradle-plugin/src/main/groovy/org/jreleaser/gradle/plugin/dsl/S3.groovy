@@ -44,6 +44,8 @@ interface S3 extends Uploader {
 
     Property<String> getDownloadUrl()
 
+    Property<Integer> getParallelism()
+
     MapProperty<String, String> getHeaders()
 
     void setHeader(String key, String value)
@@ -48,6 +48,8 @@ interface Signing extends Activatable {
 
     Property<Boolean> getChecksums()
 
+    Property<Integer> getParallelism()
+
     Command getCommand()
 
     Cosign getCosign()
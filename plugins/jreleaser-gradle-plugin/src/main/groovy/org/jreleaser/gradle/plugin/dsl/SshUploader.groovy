@@ -49,4 +49,6 @@ interface SshUploader extends Uploader {
     Property<String> getPath()
 
     Property<String> getDownloadUrl()
+
+    Property<Integer> getParallelism()
 }
\ No newline at end of file
@@ -46,7 +46,7 @@ class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    void debug(String message) {
+    protected void doDebug(String message) {
         if (isLevelEnabled(Level.DEBUG)) {
             log(Level.DEBUG, message)
         }
@@ -54,7 +54,7 @@ class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    void info(String message) {
+    protected void doInfo(String message) {
         if (isLevelEnabled(Level.INFO)) {
             log(Level.INFO, message)
         }
@@ -62,7 +62,7 @@ class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    void warn(String message) {
+    protected void doWarn(String message) {
         if (isLevelEnabled(Level.WARN)) {
             log(Level.WARN, message)
         }
@@ -70,7 +70,7 @@ class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    void error(String message) {
+    protected void doError(String message) {
         if (isLevelEnabled(Level.ERROR)) {
             log(Level.ERROR, message)
         }
@@ -78,7 +78,7 @@ class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    void debug(String message, Object... args) {
+    protected void doDebug(String message, Object... args) {
         String msg = MessageFormatter.arrayFormat(message, args).getMessage()
         if (isLevelEnabled(Level.DEBUG)) {
             log(Level.DEBUG, msg)
@@ -87,7 +87,7 @@ class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    void info(String message, Object... args) {
+    protected void doInfo(String message, Object... args) {
         String msg = MessageFormatter.arrayFormat(message, args).getMessage()
         if (isLevelEnabled(Level.INFO)) {
             log(Level.INFO, msg)
@@ -96,7 +96,7 @@ class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    void warn(String message, Object... args) {
+    protected void doWarn(String message, Object... args) {
         String msg = MessageFormatter.arrayFormat(message, args).getMessage()
         if (isLevelEnabled(Level.WARN)) {
             log(Level.WARN, msg)
@@ -105,7 +105,7 @@ class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    void error(String message, Object... args) {
+    protected void doError(String message, Object... args) {
         String msg = MessageFormatter.arrayFormat(message, args).getMessage()
         if (isLevelEnabled(Level.ERROR)) {
             log(Level.ERROR, msg)
@@ -114,7 +114,7 @@ class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    void debug(String message, Throwable throwable) {
+    protected void doDebug(String message, Throwable throwable) {
         if (isLevelEnabled(Level.DEBUG)) {
             log(Level.DEBUG, message, throwable)
         }
@@ -122,7 +122,7 @@ class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    void info(String message, Throwable throwable) {
+    protected void doInfo(String message, Throwable throwable) {
         if (isLevelEnabled(Level.INFO)) {
             log(Level.INFO, message, throwable)
         }
@@ -130,7 +130,7 @@ class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    void warn(String message, Throwable throwable) {
+    protected void doWarn(String message, Throwable throwable) {
         if (isLevelEnabled(Level.WARN)) {
             log(Level.WARN, message, throwable)
         }
@@ -138,7 +138,7 @@ class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
     }
 
     @Override
-    void error(String message, Throwable throwable) {
+    protected void doError(String message, Throwable throwable) {
         if (isLevelEnabled(Level.ERROR)) {
             log(Level.ERROR, message, throwable)
         }
@@ -45,6 +45,7 @@ import static org.jreleaser.util.StringUtils.isNotBlank
 @CompileStatic
 abstract class AbstractAssembler implements Assembler {
     final Property<Boolean> exported
+    final Property<Boolean> reproducible
     final Property<Active> active
     final Property<Stereotype> stereotype
     final MapProperty<String, Object> extraProperties
@@ -53,6 +54,7 @@ abstract class AbstractAssembler implements Assembler {
     @Inject
     AbstractAssembler(ObjectFactory objects) {
         exported = objects.property(Boolean).convention(Providers.notDefined())
+        reproducible = objects.property(Boolean).convention(Providers.notDefined())
         active = objects.property(Active).convention(Providers.notDefined())
         stereotype = objects.property(Stereotype).convention(Providers.notDefined())
         extraProperties = objects.mapProperty(String, Object).convention(Providers.notDefined())
@@ -70,6 +72,7 @@ abstract class AbstractAssembler implements Assembler {
     @Internal
     boolean isSet() {
         exported.present ||
+            reproducible.present ||
             active.present ||
             extraProperties.present ||
             !fileSets.isEmpty()
@@ -111,6 +114,7 @@ abstract class AbstractAssembler implements Assembler {
 
     protected <A extends org.jreleaser.model.Assembler> void fillProperties(A assembler) {
         assembler.exported = exported.getOrElse(true)
+        if (reproducible.present) assembler.reproducible = reproducible.get()
         if (active.present) assembler.active = active.get()
         if (stereotype.present) assembler.stereotype = stereotype.get()
         if (extraProperties.present) assembler.extraProperties.putAll(extraProperties.get())
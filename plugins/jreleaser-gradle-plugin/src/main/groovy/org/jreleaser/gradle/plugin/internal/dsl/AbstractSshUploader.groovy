@@ -45,6 +45,7 @@ abstract class AbstractSshUploader extends AbstractUploader implements SshUpload
     final Property<String> fingerprint
     final Property<String> path
     final Property<String> downloadUrl
+    final Property<Integer> parallelism
 
     @Inject
     AbstractSshUploader(ObjectFactory objects) {
@@ -60,6 +61,7 @@ abstract class AbstractSshUploader extends AbstractUploader implements SshUpload
         fingerprint = objects.property(String).convention(Providers.notDefined())
         path = objects.property(String).convention(Providers.notDefined())
         downloadUrl = objects.property(String).convention(Providers.notDefined())
+        parallelism = objects.property(Integer).convention(Providers.notDefined())
     }
 
     @Override
@@ -76,7 +78,8 @@ abstract class AbstractSshUploader extends AbstractUploader implements SshUpload
             passphrase.present ||
             fingerprint.present ||
             path.present ||
-            downloadUrl.present
+            downloadUrl.present ||
+            parallelism.present
     }
 
     protected <U extends org.jreleaser.model.SshUploader> void fillProperties(U uploader) {
@@ -87,6 +90,7 @@ abstract class AbstractSshUploader extends AbstractUploader implements SshUpload
         uploader.path = path.orNull
         uploader.downloadUrl = downloadUrl.orNull
         if (port.present) uploader.port = port.get()
+        if (parallelism.present) uploader.parallelism = parallelism.get()
         if (knownHostsFile.present) {
             uploader.knownHostsFile = knownHostsFile.asFile.get().absolutePath
         }
@@ -55,6 +55,9 @@ import static org.jreleaser.util.StringUtils.isNotBlank
 @CompileStatic
 class AnnounceImpl implements Announce {
     final Property<Active> active
+    final Property<Integer> parallelism
+    final Property<Integer> timeout
+    final Property<Integer> deadline
     final ArticleImpl article
     final DiscordImpl discord
     final DiscussionsImpl discussions
@@ -74,6 +77,9 @@ class AnnounceImpl implements Announce {
     @Inject
     AnnounceImpl(ObjectFactory objects) {
         active = objects.property(Active).convention(Providers.notDefined())
+        parallelism = objects.property(Integer).convention(Providers.notDefined())
+        timeout = objects.property(Integer).convention(Providers.notDefined())
+        deadline = objects.property(Integer).convention(Providers.notDefined())
         article = objects.newInstance(ArticleImpl, objects)
         discord = objects.newInstance(DiscordImpl, objects)
         discussions = objects.newInstance(DiscussionsImpl, objects)
@@ -259,6 +265,9 @@ class AnnounceImpl implements Announce {
     org.jreleaser.model.Announce toModel() {
         org.jreleaser.model.Announce announce = new org.jreleaser.model.Announce()
         if (active.present) announce.active = active.get()
+        if (parallelism.present) announce.parallelism = parallelism.get()
+        if (timeout.present) announce.timeout = timeout.get()
+        if (deadline.present) announce.deadline = deadline.get()
         if (article.isSet()) announce.article = article.toModel()
         if (discord.isSet()) announce.discord = discord.toModel()
         if (discussions.isSet()) announce.discussions = discussions.toModel()
@@ -45,6 +45,7 @@ import static org.jreleaser.util.StringUtils.isNotBlank
 @CompileStatic
 class AssembleImpl implements Assemble {
     final Property<Active> active
+    final Property<Boolean> incremental
     final NamedDomainObjectContainer<Archive> archive
     final NamedDomainObjectContainer<Jlink> jlink
     final NamedDomainObjectContainer<Jpackage> jpackage
@@ -53,6 +54,7 @@ class AssembleImpl implements Assemble {
     @Inject
     AssembleImpl(ObjectFactory objects) {
         active = objects.property(Active).convention(Providers.notDefined())
+        incremental = objects.property(Boolean).convention(Providers.notDefined())
 
         archive = objects.domainObjectContainer(Archive, new NamedDomainObjectFactory<Archive>() {
             @Override
@@ -142,6 +144,7 @@ class AssembleImpl implements Assemble {
     org.jreleaser.model.Assemble toModel() {
         org.jreleaser.model.Assemble assemble = new org.jreleaser.model.Assemble()
         if (active.present) assemble.active = active.get()
+        if (incremental.present) assemble.incremental = incremental.get()
 
         archive.each { assemble.addArchive(((ArchiveImpl) it).toModel()) }
         jlink.each { assemble.addJlink(((JlinkImpl) it).toModel()) }
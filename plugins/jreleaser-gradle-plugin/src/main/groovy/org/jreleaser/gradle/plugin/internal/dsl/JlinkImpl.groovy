@@ -47,6 +47,7 @@ class JlinkImpl extends AbstractJavaAssembler implements Jlink {
     final Property<String> imageName
     final Property<String> imageNameTransform
     final Property<Boolean> copyJars
+    final Property<Integer> parallelism
     final ListProperty<String> args
     final SetProperty<String> moduleNames
     final SetProperty<String> additionalModuleNames
@@ -64,6 +65,7 @@ class JlinkImpl extends AbstractJavaAssembler implements Jlink {
         imageName = objects.property(String).convention(Providers.notDefined())
         imageNameTransform = objects.property(String).convention(Providers.notDefined())
         copyJars = objects.property(Boolean).convention(Providers.notDefined())
+        parallelism = objects.property(Integer).convention(Providers.notDefined())
         args = objects.listProperty(String).convention(Providers.notDefined())
         moduleNames = objects.setProperty(String).convention(Providers.notDefined())
         additionalModuleNames = objects.setProperty(String).convention(Providers.notDefined())
@@ -89,6 +91,7 @@ class JlinkImpl extends AbstractJavaAssembler implements Jlink {
             imageName.present ||
             imageNameTransform.present ||
             copyJars.present ||
+            parallelism.present ||
             args.present ||
             java.isSet() ||
             jdeps.isSet() ||
@@ -155,6 +158,7 @@ class JlinkImpl extends AbstractJavaAssembler implements Jlink {
         if (imageName.present) jlink.imageName = imageName.get()
         if (imageNameTransform.present) jlink.imageNameTransform = imageNameTransform.get()
         if (copyJars.present) jlink.copyJars = copyJars.get()
+        if (parallelism.present) jlink.parallelism = parallelism.get()
         jlink.moduleNames = (Set<String>) moduleNames.getOrElse([] as Set)
         jlink.additionalModuleNames = (Set<String>) additionalModuleNames.getOrElse([] as Set)
         for (ArtifactImpl artifact : targetJdks) {
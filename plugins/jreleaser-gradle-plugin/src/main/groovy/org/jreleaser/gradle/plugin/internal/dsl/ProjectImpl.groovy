@@ -59,6 +59,7 @@ class ProjectImpl implements Project {
     final Property<String> vendor
     final Property<String> docsUrl
     final Property<Stereotype> stereotype
+    final Property<String> transformMode
     final ListProperty<String> authors
     final ListProperty<String> tags
     final ListProperty<String> maintainers
@@ -88,6 +89,7 @@ class ProjectImpl implements Project {
         vendor = objects.property(String).convention(Providers.notDefined())
         docsUrl = objects.property(String).convention(Providers.notDefined())
         stereotype = objects.property(Stereotype).convention(Providers.notDefined())
+        transformMode = objects.property(String).convention(Providers.notDefined())
         authors = objects.listProperty(String).convention(Providers.notDefined())
         tags = objects.listProperty(String).convention(Providers.notDefined())
         maintainers = objects.listProperty(String).convention(Providers.notDefined())
@@ -209,6 +211,7 @@ class ProjectImpl implements Project {
         if (vendor.present) project.vendor = vendor.get()
         if (docsUrl.present) project.links.documentation = docsUrl.get()
         if (stereotype.present) project.stereotype = stereotype.get()
+        if (transformMode.present) project.transformMode = transformMode.get()
         project.authors = (List<String>) authors.getOrElse([])
         project.tags = (List<String>) tags.getOrElse([])
         project.maintainers = (List<String>) maintainers.getOrElse([])
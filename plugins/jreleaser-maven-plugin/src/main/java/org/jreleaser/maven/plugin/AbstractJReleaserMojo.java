@@ -79,6 +79,12 @@ abstract class AbstractJReleaserMojo extends AbstractMojo {
     @Parameter(property = "jreleaser.git.root.search")
     protected boolean gitRootSearch;
 
+    /**
+     * Maximum number of independent workflow steps executed concurrently.
+     */
+    @Parameter(property = "jreleaser.max.parallelism")
+    protected Integer maxParallelism;
+
     @Parameter(defaultValue = "${session}", required = true)
     private MavenSession session;
 
@@ -136,7 +142,7 @@ abstract class AbstractJReleaserMojo extends AbstractMojo {
             logger.info("- basedir set to {}", basedir.toAbsolutePath());
             logger.decreaseIndent();
 
-            return ContextCreator.create(
+            JReleaserContext context = ContextCreator.create(
                 logger,
                 resolveConfigurer(configFile),
                 getMode(),
@@ -146,6 +152,8 @@ abstract class AbstractJReleaserMojo extends AbstractMojo {
                 dryrun,
                 gitRootSearch,
                 collectSelectedPlatforms());
+            context.setMaxParallelism(maxParallelism);
+            return context;
         } catch (JReleaserException e) {
             throw new MojoExecutionException("JReleaser for project " + project.getArtifactId() + " has not been properly configured.", e);
         }
@@ -17,7 +17,6 @@
  */
 package org.jreleaser.sdk.artifactory;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Artifact;
 import org.jreleaser.model.Artifactory;
@@ -30,6 +29,7 @@ import org.jreleaser.util.ChecksumUtils;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -78,8 +78,6 @@ public class ArtifactoryArtifactUploader extends AbstractArtifactUploader<Artifa
 
             if (!context.isDryrun()) {
                 try {
-                    FormData data = ClientUtils.toFormData(path);
-
                     Map<String, String> headers = new LinkedHashMap<>();
                     switch (uploader.resolveAuthorization()) {
                         case BASIC:
@@ -96,15 +94,17 @@ public class ArtifactoryArtifactUploader extends AbstractArtifactUploader<Artifa
                     }
 
                     headers.put("X-Checksum-Deploy", "false");
-                    headers.put("X-Checksum-Sha1", ChecksumUtils.checksum(Algorithm.SHA_1, data.getData()));
-                    headers.put("X-Checksum-Sha256", ChecksumUtils.checksum(Algorithm.SHA_256, data.getData()));
-                    headers.put("X-Checksum", ChecksumUtils.checksum(Algorithm.MD5, data.getData()));
+                    Map<Algorithm, String> checksums = ChecksumUtils.checksum(
+                        Arrays.asList(Algorithm.SHA_1, Algorithm.SHA_256, Algorithm.MD5), path);
+                    headers.put("X-Checksum-Sha1", checksums.get(Algorithm.SHA_1));
+                    headers.put("X-Checksum-Sha256", checksums.get(Algorithm.SHA_256));
+                    headers.put("X-Checksum", checksums.get(Algorithm.MD5));
 
                     ClientUtils.putFile(context.getLogger(),
                         uploader.getResolvedUploadUrl(context, artifact),
                         uploader.getConnectTimeout(),
                         uploader.getReadTimeout(),
-                        data,
+                        path,
                         headers);
                 } catch (IOException e) {
                     context.getLogger().trace(e);
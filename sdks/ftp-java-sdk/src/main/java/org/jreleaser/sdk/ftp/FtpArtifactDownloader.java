@@ -67,12 +67,20 @@ public class FtpArtifactDownloader extends AbstractArtifactDownloader<FtpDownloa
     public void download(String name) throws DownloadException {
         FTPClient ftp = FtpUtils.open(context, downloader);
 
+        Throwable failure = null;
         try {
             for (Downloader.Asset asset : downloader.getAssets()) {
                 downloadAsset(name, ftp, asset);
             }
+        } catch (DownloadException | RuntimeException e) {
+            failure = e;
+            throw e;
         } finally {
-            FtpUtils.close(downloader, ftp);
+            try {
+                FtpUtils.close(downloader, ftp);
+            } finally {
+                awaitUnpack(failure);
+            }
         }
     }
 
@@ -22,17 +22,18 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import feign.form.FormData;
+import feign.Client;
 import feign.form.FormEncoder;
 import feign.httpclient.ApacheHttpClient;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
-import org.apache.tika.Tika;
-import org.apache.tika.mime.MediaType;
 import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.releaser.spi.Asset;
 import org.jreleaser.model.releaser.spi.User;
+import org.jreleaser.sdk.commons.ApiClients;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.ConcurrentAssetUploader;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.gitea.api.GiteaAPI;
 import org.jreleaser.sdk.gitea.api.GtAsset;
@@ -49,13 +50,13 @@ import org.jreleaser.util.CollectionUtils;
 import org.jreleaser.util.JReleaserLogger;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
 import static org.jreleaser.util.StringUtils.requireNonBlank;
@@ -66,16 +67,28 @@ import static org.jreleaser.util.StringUtils.requireNonBlank;
  */
 class Gitea {
     private static final String API_V1 = "/api/v1";
-    private final Tika tika = new Tika();
 
     private final JReleaserLogger logger;
     private final GiteaAPI api;
+    private final String endpoint;
+    private final String token;
+    private final int connectTimeout;
+    private final int readTimeout;
 
     Gitea(JReleaserLogger logger,
           String endpoint,
           String token,
           int connectTimeout,
           int readTimeout) throws IOException {
+        this(logger, endpoint, token, connectTimeout, readTimeout, new ApacheHttpClient());
+    }
+
+    private Gitea(JReleaserLogger logger,
+                  String endpoint,
+                  String token,
+                  int connectTimeout,
+                  int readTimeout,
+                  Client client) throws IOException {
         requireNonNull(logger, "'logger' must not be null");
         requireNonBlank(token, "'token' must not be blank");
         requireNonBlank(endpoint, "'endpoint' must not be blank");
@@ -94,14 +107,31 @@ class Gitea {
             .configure(SerializationFeature.INDENT_OUTPUT, true);
 
         this.logger = logger;
+        this.endpoint = endpoint;
+        this.token = token;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
         this.api = ClientUtils.builder(logger, connectTimeout, readTimeout)
-            .client(new ApacheHttpClient())
+            .client(client)
             .encoder(new FormEncoder(new JacksonEncoder(objectMapper)))
             .decoder(new PaginatingDecoder(new JacksonDecoder(objectMapper)))
             .requestInterceptor(template -> template.header("Authorization", String.format("token %s", token)))
             .target(GiteaAPI.class, endpoint);
     }
 
+    /**
+     * Returns the client shared by every caller of the given context with the same settings.
+     */
+    static Gitea of(JReleaserContext context,
+                    String endpoint,
+                    String token,
+                    int connectTimeout,
+                    int readTimeout) throws IOException {
+        ApiClients clients = ApiClients.of(context);
+        return clients.get(ApiClients.key(Gitea.class.getName(), endpoint, token, connectTimeout, readTimeout),
+            () -> new Gitea(context.getLogger(), endpoint, token, connectTimeout, readTimeout, clients.feignClient()));
+    }
+
     GtRepository findRepository(String owner, String repo) {
         logger.debug(RB.$("git.repository.lookup"), owner, repo);
         try {
@@ -286,46 +316,44 @@ class Gitea {
         api.updateRelease(release, owner, repo, id);
     }
 
-    void uploadAssets(String owner, String repo, GtRelease release, List<Asset> assets) throws IOException {
-        for (Asset asset : assets) {
-            if (0 == Files.size(asset.getPath()) || !Files.exists(asset.getPath())) {
-                // do not upload empty or non existent files
-                continue;
-            }
-
+    void uploadAssets(String owner, String repo, GtRelease release, List<Asset> assets, Integer parallelism) throws IOException {
+        ConcurrentAssetUploader.upload(logger, parallelism, assets, asset -> {
             logger.info(" " + RB.$("git.upload.asset"), asset.getFilename());
             try {
-                api.uploadAsset(owner, repo, release.getId(), toFormData(asset.getPath()));
+                uploadAsset(owner, repo, release, asset);
             } catch (RestAPIException e) {
                 logger.error(" " + RB.$("git.upload.asset.failure"), asset.getFilename());
                 throw e;
             }
-        }
+            return asset;
+        }, asset -> deletePartialAsset(owner, repo, release, asset));
     }
 
-    void updateAssets(String owner, String repo, GtRelease release, List<Asset> assets, Map<String, GtAsset> existingAssets) throws IOException {
-        for (Asset asset : assets) {
-            if (0 == Files.size(asset.getPath()) || !Files.exists(asset.getPath())) {
-                // do not upload empty or non existent files
-                continue;
-            }
-
-            logger.debug(" " + RB.$("git.delete.asset"), asset.getFilename());
-            try {
-                api.deleteAsset(owner, repo, release.getId(), existingAssets.get(asset.getFilename()).getId());
-            } catch (RestAPIException e) {
-                logger.error(" " + RB.$("git.delete.asset.failure"), asset.getFilename());
-                throw e;
+    void updateAssets(String owner, String repo, GtRelease release, List<Asset> assets, Map<String, GtAsset> existingAssets, Integer parallelism) throws IOException {
+        // retried attempts must not delete an asset twice
+        Map<String, GtAsset> assetsToBeDeleted = new ConcurrentHashMap<>(existingAssets);
+        ConcurrentAssetUploader.upload(logger, parallelism, assets, asset -> {
+            GtAsset existingAsset = assetsToBeDeleted.remove(asset.getFilename());
+            if (null != existingAsset) {
+                logger.debug(" " + RB.$("git.delete.asset"), asset.getFilename());
+                try {
+                    api.deleteAsset(owner, repo, release.getId(), existingAsset.getId());
+                } catch (RestAPIException e) {
+                    assetsToBeDeleted.put(asset.getFilename(), existingAsset);
+                    logger.error(" " + RB.$("git.delete.asset.failure"), asset.getFilename());
+                    throw e;
+                }
             }
 
             logger.info(" " + RB.$("git.update.asset"), asset.getFilename());
             try {
-                api.uploadAsset(owner, repo, release.getId(), toFormData(asset.getPath()));
+                uploadAsset(owner, repo, release, asset);
             } catch (RestAPIException e) {
                 logger.error(" " + RB.$("git.upload.asset.failure"), asset.getFilename());
                 throw e;
             }
-        }
+            return asset;
+        }, asset -> deletePartialAsset(owner, repo, release, asset));
     }
 
     Optional<User> findUser(String email, String name, String host) throws RestAPIException {
@@ -340,11 +368,31 @@ class Gitea {
         return Optional.empty();
     }
 
-    private FormData toFormData(Path asset) throws IOException {
-        return FormData.builder()
-            .fileName(asset.getFileName().toString())
-            .contentType(MediaType.parse(tika.detect(asset)).toString())
-            .data(Files.readAllBytes(asset))
-            .build();
+    private void deletePartialAsset(String owner, String repo, GtRelease release, Asset asset) {
+        // a failed upload may have created the attachment, uploading it again would add a duplicate
+        for (GtAsset gtasset : api.listAssets(owner, repo, release.getId())) {
+            if (asset.getFilename().equals(gtasset.getName())) {
+                logger.debug(" " + RB.$("git.delete.asset"), asset.getFilename());
+                api.deleteAsset(owner, repo, release.getId(), gtasset.getId());
+            }
+        }
+    }
+
+    private void uploadAsset(String owner, String repo, GtRelease release, Asset asset) throws IOException {
+        // streamed from disk, Feign would hold the whole file in memory
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Authorization", String.format("token %s", token));
+        ClientUtils.postMultipartFile(logger,
+            endpoint + "/repos/" + encode(owner) + "/" + encode(repo) + "/releases/" + release.getId() + "/assets",
+            connectTimeout,
+            readTimeout,
+            "attachment",
+            asset.getPath(),
+            headers);
+    }
+
+    private static String encode(String segment) throws IOException {
+        // URLEncoder targets form data, a path segment needs %20 instead of +
+        return URLEncoder.encode(segment, "UTF-8").replace("+", "%20");
     }
 }
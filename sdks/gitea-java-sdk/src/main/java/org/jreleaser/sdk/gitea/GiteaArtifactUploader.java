@@ -17,7 +17,6 @@
  */
 package org.jreleaser.sdk.gitea;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Artifact;
 import org.jreleaser.model.GiteaUploader;
@@ -26,7 +25,6 @@ import org.jreleaser.model.uploader.spi.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 import org.jreleaser.sdk.commons.ClientUtils;
 
-import java.io.IOException;
 import java.nio.file.Path;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -75,18 +73,12 @@ public class GiteaArtifactUploader extends AbstractArtifactUploader<GiteaUploade
                 try {
                     Map<String, String> headers = new LinkedHashMap<>();
                     headers.put("Authorization", "token " + token);
-                    FormData data = ClientUtils.toFormData(path);
-
                     ClientUtils.putFile(context.getLogger(),
                         uploader.getResolvedUploadUrl(context, artifact),
                         uploader.getConnectTimeout(),
                         uploader.getReadTimeout(),
-                        data,
+                        path,
                         headers);
-                } catch (IOException e) {
-                    context.getLogger().trace(e);
-                    throw new UploadException(RB.$("ERROR_unexpected_upload",
-                        context.getBasedir().relativize(path)), e);
                 } catch (UploadException e) {
                     throw new UploadException(RB.$("ERROR_unexpected_upload",
                         context.getBasedir().relativize(path)), e.getCause());
@@ -26,6 +26,7 @@ import org.jreleaser.model.releaser.spi.ReleaseException;
 import org.jreleaser.model.releaser.spi.Repository;
 import org.jreleaser.model.releaser.spi.User;
 import org.jreleaser.model.util.VersionUtils;
+import org.jreleaser.sdk.commons.ApiClients;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.git.ChangelogProvider;
 import org.jreleaser.sdk.git.GitSdk;
@@ -78,7 +79,7 @@ public class GiteaReleaser extends AbstractReleaser {
         String tagName = gitea.getEffectiveTagName(context.getModel());
 
         try {
-            Gitea api = new Gitea(context.getLogger(),
+            Gitea api = Gitea.of(context,
                 gitea.getApiEndpoint(),
                 gitea.getResolvedToken(),
                 gitea.getConnectTimeout(),
@@ -147,6 +148,8 @@ public class GiteaReleaser extends AbstractReleaser {
         } catch (IOException | IllegalStateException e) {
             context.getLogger().trace(e);
             throw new ReleaseException(e);
+        } finally {
+            ApiClients.of(context).report(context.getLogger());
         }
     }
 
@@ -163,7 +166,7 @@ public class GiteaReleaser extends AbstractReleaser {
         org.jreleaser.model.Gitea gitea = resolveGiteaFromModel();
         context.getLogger().debug(RB.$("git.repository.lookup"), owner, repo);
 
-        Gitea api = new Gitea(context.getLogger(),
+        Gitea api = Gitea.of(context,
             gitea.getApiEndpoint(),
             password,
             gitea.getConnectTimeout(),
@@ -197,7 +200,7 @@ public class GiteaReleaser extends AbstractReleaser {
                 host += "/";
             }
 
-            return new Gitea(context.getLogger(),
+            return Gitea.of(context,
                 gitea.getApiEndpoint(),
                 gitea.getResolvedToken(),
                 gitea.getConnectTimeout(),
@@ -215,7 +218,7 @@ public class GiteaReleaser extends AbstractReleaser {
     public List<org.jreleaser.model.releaser.spi.Release> listReleases(String owner, String repo) throws IOException {
         org.jreleaser.model.Gitea gitea = resolveGiteaFromModel();
 
-        Gitea api = new Gitea(context.getLogger(),
+        Gitea api = Gitea.of(context,
             gitea.getApiEndpoint(),
             gitea.getResolvedToken(),
             gitea.getConnectTimeout(),
@@ -267,7 +270,7 @@ public class GiteaReleaser extends AbstractReleaser {
         release.setBody(changelog);
 
         release = api.createRelease(gitea.getOwner(), gitea.getName(), release);
-        api.uploadAssets(gitea.getOwner(), gitea.getName(), release, assets);
+        api.uploadAssets(gitea.getOwner(), gitea.getName(), release, assets, gitea.getUploadParallelism());
 
         if (gitea.getMilestone().isClose() && !context.getModel().getProject().isSnapshot()) {
             Optional<GtMilestone> milestone = api.findMilestoneByName(
@@ -300,8 +303,8 @@ public class GiteaReleaser extends AbstractReleaser {
             }
         });
 
-        api.updateAssets(gitea.getOwner(), gitea.getName(), release, assetsToBeUpdated, existingAssets);
-        api.uploadAssets(gitea.getOwner(), gitea.getName(), release, assetsToBeUploaded);
+        api.updateAssets(gitea.getOwner(), gitea.getName(), release, assetsToBeUpdated, existingAssets, gitea.getUploadParallelism());
+        api.uploadAssets(gitea.getOwner(), gitea.getName(), release, assetsToBeUploaded, gitea.getUploadParallelism());
     }
 
     private void deleteTags(Gitea api, String owner, String repo, String tagName) {
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.gitea;
+
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.JReleaserModel;
+import org.jreleaser.sdk.commons.ApiClients;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class GiteaTest {
+    private JReleaserContext context;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        Path basedir = Files.createTempDirectory("gitea");
+        context = new JReleaserContext(new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR),
+            JReleaserContext.Configurer.CLI,
+            JReleaserContext.Mode.FULL,
+            new JReleaserModel(),
+            basedir,
+            basedir.resolve("out"),
+            true,
+            false,
+            Collections.emptyList());
+    }
+
+    @Test
+    public void clientsWithTheSameSettingsAreShared() throws IOException {
+        // when:
+        Gitea first = Gitea.of(context, "https://gitea.example.com", "secret", 20, 60);
+        Gitea second = Gitea.of(context, "https://gitea.example.com", "secret", 20, 60);
+
+        // then:
+        ApiClients clients = ApiClients.of(context);
+        assertThat(second, sameInstance(first));
+        assertThat(clients.getClientsCreated(), equalTo(1L));
+        assertThat(clients.getClientsReused(), equalTo(1L));
+    }
+
+    @Test
+    public void clientsWithDifferentSettingsAreNotShared() throws IOException {
+        // when:
+        Gitea first = Gitea.of(context, "https://gitea.example.com", "secret", 20, 60);
+        Gitea second = Gitea.of(context, "https://gitea.example.com", "other", 20, 60);
+
+        // then:
+        ApiClients clients = ApiClients.of(context);
+        assertThat(second, not(sameInstance(first)));
+        assertThat(clients.getClientsCreated(), equalTo(2L));
+        assertThat(clients.getClientsReused(), equalTo(0L));
+    }
+}
@@ -72,7 +72,7 @@ public class DiscussionsAnnouncer implements Announcer {
         context.getLogger().debug("message: {}", message);
 
         try {
-            Github api = new Github(context.getLogger(),
+            Github api = Github.of(context,
                 github.getApiEndpoint(),
                 github.getResolvedToken(),
                 discussions.getConnectTimeout(),
@@ -20,8 +20,12 @@ package org.jreleaser.sdk.github;
 import org.apache.tika.Tika;
 import org.apache.tika.mime.MediaType;
 import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.JReleaserVersion;
 import org.jreleaser.model.releaser.spi.Asset;
+import org.jreleaser.sdk.commons.ApiClients;
+import org.jreleaser.sdk.commons.ConcurrentAssetUploader;
+import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.util.JReleaserLogger;
 import org.kohsuke.github.GHAsset;
 import org.kohsuke.github.GHBranch;
@@ -38,17 +42,18 @@ import org.kohsuke.github.GHTeam;
 import org.kohsuke.github.GitHub;
 import org.kohsuke.github.GitHubBuilder;
 import org.kohsuke.github.HttpConnector;
+import org.kohsuke.github.HttpException;
 import org.kohsuke.github.PagedIterable;
 import org.kohsuke.github.extras.ImpatientHttpConnector;
 
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URL;
-import java.nio.file.Files;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.StreamSupport;
 
 import static org.jreleaser.sdk.git.GitSdk.REFS_TAGS;
@@ -77,6 +82,15 @@ class Github {
            String token,
            int connectTimeout,
            int readTimeout) throws IOException {
+        this(logger, endpoint, token, connectTimeout, readTimeout, null);
+    }
+
+    private Github(JReleaserLogger logger,
+                   String endpoint,
+                   String token,
+                   int connectTimeout,
+                   int readTimeout,
+                   ApiClients clients) throws IOException {
         this.logger = logger;
 
         if (isBlank(endpoint)) {
@@ -84,12 +98,25 @@ class Github {
         }
 
         github = new GitHubBuilder()
-            .withConnector(new JReleaserHttpConnector(connectTimeout, readTimeout))
+            .withConnector(new JReleaserHttpConnector(connectTimeout, readTimeout, clients))
             .withEndpoint(endpoint)
             .withOAuthToken(token)
             .build();
     }
 
+    /**
+     * Returns the client shared by every caller of the given context with the same settings.
+     */
+    static Github of(JReleaserContext context,
+                     String endpoint,
+                     String token,
+                     int connectTimeout,
+                     int readTimeout) throws IOException {
+        ApiClients clients = ApiClients.of(context);
+        return clients.get(ApiClients.key(Github.class.getName(), endpoint, token, connectTimeout, readTimeout),
+            () -> new Github(context.getLogger(), endpoint, token, connectTimeout, readTimeout, clients));
+    }
+
     PagedIterable<GHRelease> listReleases(String owner, String repo) throws IOException {
         logger.debug(RB.$("git.list.releases"), owner, repo);
         return github.getRepository(owner + "/" + repo)
@@ -171,41 +198,61 @@ class Github {
             .createRelease(tagName);
     }
 
-    void uploadAssets(GHRelease release, List<Asset> assets) throws IOException {
-        for (Asset asset : assets) {
-            if (0 == Files.size(asset.getPath()) || !Files.exists(asset.getPath())) {
-                // do not upload empty or non existent files
-                continue;
-            }
-
+    void uploadAssets(GHRelease release, List<Asset> assets, Integer parallelism) throws IOException {
+        ConcurrentAssetUploader.upload(logger, parallelism, assets, asset -> {
             logger.info(" " + RB.$("git.upload.asset"), asset.getFilename());
-            GHAsset ghasset = release.uploadAsset(asset.getPath().toFile(), MediaType.parse(tika.detect(asset.getPath())).toString());
+            GHAsset ghasset = uploadAsset(release, asset);
             if (!"uploaded".equalsIgnoreCase(ghasset.getState())) {
                 logger.warn(" " + RB.$("git.upload.asset.failure"), asset.getFilename());
             }
-        }
+            return ghasset;
+        }, asset -> deletePartialAsset(release, asset));
     }
 
-    void updateAssets(GHRelease release, List<Asset> assets, Map<String, GHAsset> existingAssets) throws IOException {
-        for (Asset asset : assets) {
-            if (0 == Files.size(asset.getPath()) || !Files.exists(asset.getPath())) {
-                // do not upload empty or non existent files
-                continue;
-            }
-
-            logger.debug(" " + RB.$("git.delete.asset"), asset.getFilename());
-            try {
-                existingAssets.get(asset.getFilename()).delete();
-            } catch (IOException e) {
-                logger.error(" " + RB.$("git.delete.asset.failure"), asset.getFilename());
-                throw e;
+    void updateAssets(GHRelease release, List<Asset> assets, Map<String, GHAsset> existingAssets, Integer parallelism) throws IOException {
+        // retried attempts must not delete an asset twice
+        Map<String, GHAsset> assetsToBeDeleted = new ConcurrentHashMap<>(existingAssets);
+        ConcurrentAssetUploader.upload(logger, parallelism, assets, asset -> {
+            GHAsset existingAsset = assetsToBeDeleted.remove(asset.getFilename());
+            if (null != existingAsset) {
+                logger.debug(" " + RB.$("git.delete.asset"), asset.getFilename());
+                try {
+                    existingAsset.delete();
+                } catch (IOException e) {
+                    assetsToBeDeleted.put(asset.getFilename(), existingAsset);
+                    logger.error(" " + RB.$("git.delete.asset.failure"), asset.getFilename());
+                    throw e;
+                }
             }
 
             logger.info(" " + RB.$("git.update.asset"), asset.getFilename());
-            GHAsset ghasset = release.uploadAsset(asset.getPath().toFile(), MediaType.parse(tika.detect(asset.getPath())).toString());
+            GHAsset ghasset = uploadAsset(release, asset);
             if (!"uploaded".equalsIgnoreCase(ghasset.getState())) {
                 logger.warn(" " + RB.$("git.update.asset.failure"), asset.getFilename());
             }
+            return ghasset;
+        }, asset -> deletePartialAsset(release, asset));
+    }
+
+    private GHAsset uploadAsset(GHRelease release, Asset asset) throws IOException {
+        try {
+            return release.uploadAsset(asset.getPath().toFile(), MediaType.parse(tika.detect(asset.getPath())).toString());
+        } catch (HttpException e) {
+            if (e.getResponseCode() < 0) throw e;
+            // the uploader retries by status, client errors such as 401 or 422 must not be retried
+            RestAPIException x = new RestAPIException(e.getResponseCode(), e.getMessage());
+            x.initCause(e);
+            throw x;
+        }
+    }
+
+    private void deletePartialAsset(GHRelease release, Asset asset) throws IOException {
+        // a failed upload may have created the asset, uploading it again is rejected with 422 already_exists
+        for (GHAsset ghasset : release.listAssets()) {
+            if (asset.getFilename().equals(ghasset.getName())) {
+                logger.debug(" " + RB.$("git.delete.asset"), asset.getFilename());
+                ghasset.delete();
+            }
         }
     }
 
@@ -267,15 +314,18 @@ class Github {
     }
 
     private static class JReleaserHttpConnector extends ImpatientHttpConnector {
-        public JReleaserHttpConnector(int connectTimeout, int readTimeout) {
+        private final ApiClients clients;
+
+        public JReleaserHttpConnector(int connectTimeout, int readTimeout, ApiClients clients) {
             super(HttpConnector.DEFAULT, connectTimeout * 1000, readTimeout * 1000);
+            this.clients = clients;
         }
 
         @Override
         public HttpURLConnection connect(URL url) throws IOException {
             HttpURLConnection connection = super.connect(url);
             connection.addRequestProperty("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
-            return connection;
+            return null != clients ? clients.track(connection) : connection;
         }
     }
 }
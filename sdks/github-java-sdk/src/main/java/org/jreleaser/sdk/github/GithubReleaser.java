@@ -29,6 +29,7 @@ import org.jreleaser.model.releaser.spi.ReleaseException;
 import org.jreleaser.model.releaser.spi.Repository;
 import org.jreleaser.model.releaser.spi.User;
 import org.jreleaser.model.util.VersionUtils;
+import org.jreleaser.sdk.commons.ApiClients;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.git.ChangelogGenerator;
 import org.jreleaser.sdk.git.ChangelogProvider;
@@ -99,7 +100,7 @@ public class GithubReleaser extends AbstractReleaser {
                 params.setPreviousTagName(extractTagName(tags.getPrevious().get()));
             }
             params.setTargetCommitish(github.getBranch());
-            GhReleaseNotes releaseNotes = new XGithub(context.getLogger(),
+            GhReleaseNotes releaseNotes = XGithub.of(context,
                 github.getApiEndpoint(),
                 github.getResolvedToken(),
                 github.getConnectTimeout(),
@@ -115,7 +116,7 @@ public class GithubReleaser extends AbstractReleaser {
         org.jreleaser.model.Github github = context.getModel().getRelease().getGithub();
 
         try {
-            Github api = new Github(context.getLogger(),
+            Github api = Github.of(context,
                 github.getApiEndpoint(),
                 github.getResolvedToken(),
                 github.getConnectTimeout(),
@@ -148,7 +149,7 @@ public class GithubReleaser extends AbstractReleaser {
         String tagName = github.getEffectiveTagName(context.getModel());
 
         try {
-            Github api = new Github(context.getLogger(),
+            Github api = Github.of(context,
                 github.getApiEndpoint(),
                 github.getResolvedToken(),
                 github.getConnectTimeout(),
@@ -217,6 +218,8 @@ public class GithubReleaser extends AbstractReleaser {
         } catch (IOException | IllegalStateException e) {
             context.getLogger().trace(e);
             throw new ReleaseException(e);
+        } finally {
+            ApiClients.of(context).report(context.getLogger());
         }
     }
 
@@ -225,7 +228,7 @@ public class GithubReleaser extends AbstractReleaser {
         org.jreleaser.model.Github github = context.getModel().getRelease().getGithub();
         context.getLogger().debug(RB.$("git.repository.lookup"), owner, repo);
 
-        Github api = new Github(context.getLogger(),
+        Github api = Github.of(context,
             github.getApiEndpoint(),
             password,
             github.getConnectTimeout(),
@@ -248,7 +251,7 @@ public class GithubReleaser extends AbstractReleaser {
         org.jreleaser.model.Github github = context.getModel().getRelease().getGithub();
 
         try {
-            return new XGithub(context.getLogger(),
+            return XGithub.of(context,
                 github.getApiEndpoint(),
                 github.getResolvedToken(),
                 github.getConnectTimeout(),
@@ -266,7 +269,7 @@ public class GithubReleaser extends AbstractReleaser {
     public List<Release> listReleases(String owner, String repo) throws IOException {
         org.jreleaser.model.Github github = context.getModel().getRelease().getGithub();
 
-        Github api = new Github(context.getLogger(),
+        Github api = Github.of(context,
             github.getApiEndpoint(),
             github.getResolvedToken(),
             github.getConnectTimeout(),
@@ -328,7 +331,7 @@ public class GithubReleaser extends AbstractReleaser {
             .prerelease(github.getPrerelease().isEnabled())
             .body(changelog)
             .create();
-        api.uploadAssets(release, assets);
+        api.uploadAssets(release, assets, github.getUploadParallelism());
 
         if (github.getMilestone().isClose() && !context.getModel().getProject().isSnapshot()) {
             Optional<GHMilestone> milestone = api.findMilestoneByName(
@@ -363,8 +366,8 @@ public class GithubReleaser extends AbstractReleaser {
             }
         });
 
-        api.updateAssets(release, assetsToBeUpdated, existingAssets);
-        api.uploadAssets(release, assetsToBeUploaded);
+        api.updateAssets(release, assetsToBeUpdated, existingAssets, github.getUploadParallelism());
+        api.uploadAssets(release, assetsToBeUploaded, github.getUploadParallelism());
     }
 
     private void linkDiscussion(String tagName, GHRelease release) {
@@ -380,7 +383,7 @@ public class GithubReleaser extends AbstractReleaser {
         if (context.isDryrun()) return;
 
         try {
-            XGithub xapi = new XGithub(context.getLogger(),
+            XGithub xapi = XGithub.of(context,
                 github.getApiEndpoint(),
                 github.getResolvedToken(),
                 github.getConnectTimeout(),
@@ -22,12 +22,15 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import feign.Client;
 import feign.form.FormEncoder;
 import feign.httpclient.ApacheHttpClient;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
 import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.releaser.spi.User;
+import org.jreleaser.sdk.commons.ApiClients;
 import org.jreleaser.sdk.commons.ClientUtils;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.github.api.GhRelease;
@@ -58,6 +61,15 @@ class XGithub {
             String token,
             int connectTimeout,
             int readTimeout) throws IOException {
+        this(logger, endpoint, token, connectTimeout, readTimeout, new ApacheHttpClient());
+    }
+
+    private XGithub(JReleaserLogger logger,
+                    String endpoint,
+                    String token,
+                    int connectTimeout,
+                    int readTimeout,
+                    Client client) throws IOException {
         requireNonNull(logger, "'logger' must not be null");
         requireNonBlank(token, "'token' must not be blank");
         requireNonBlank(endpoint, "'endpoint' must not be blank");
@@ -70,13 +82,26 @@ class XGithub {
 
         this.logger = logger;
         this.api = ClientUtils.builder(logger, connectTimeout, readTimeout)
-            .client(new ApacheHttpClient())
+            .client(client)
             .encoder(new FormEncoder(new JacksonEncoder(objectMapper)))
             .decoder(new JacksonDecoder(objectMapper))
             .requestInterceptor(template -> template.header("Authorization", String.format("token %s", token)))
             .target(GithubAPI.class, endpoint);
     }
 
+    /**
+     * Returns the client shared by every caller of the given context with the same settings.
+     */
+    static XGithub of(JReleaserContext context,
+                      String endpoint,
+                      String token,
+                      int connectTimeout,
+                      int readTimeout) throws IOException {
+        ApiClients clients = ApiClients.of(context);
+        return clients.get(ApiClients.key(XGithub.class.getName(), endpoint, token, connectTimeout, readTimeout),
+            () -> new XGithub(context.getLogger(), endpoint, token, connectTimeout, readTimeout, clients.feignClient()));
+    }
+
     void updateRelease(String owner, String repo, String tag, Long id, GhRelease release) throws RestAPIException {
         logger.debug(RB.$("git.update.release"), owner, repo, tag);
 
@@ -22,16 +22,14 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import feign.form.FormData;
 import feign.form.FormEncoder;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
-import org.apache.tika.Tika;
-import org.apache.tika.mime.MediaType;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.releaser.spi.Asset;
 import org.jreleaser.model.releaser.spi.Release;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.ConcurrentAssetUploader;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.gitlab.api.GitlabAPI;
 import org.jreleaser.sdk.gitlab.api.GlBranch;
@@ -50,11 +48,11 @@ import org.jreleaser.util.StringUtils;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
@@ -69,11 +67,15 @@ import static org.jreleaser.util.StringUtils.requireNonBlank;
 class Gitlab {
     static final String ENDPOINT = "https://gitlab.com/api/v4";
     private static final String API_V4 = "/api/v4";
-    private final Tika tika = new Tika();
 
     private final JReleaserLogger logger;
     private final GitlabAPI api;
+    private final ObjectMapper objectMapper;
+    private final String endpoint;
+    private final String token;
     private final String apiHost;
+    private final int connectTimeout;
+    private final int readTimeout;
 
     private GlUser user;
     private GlProject project;
@@ -99,13 +101,17 @@ class Gitlab {
 
         apiHost = endpoint.substring(0, endpoint.length() - API_V4.length());
 
-        ObjectMapper objectMapper = new ObjectMapper()
+        this.objectMapper = new ObjectMapper()
             .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
             .setSerializationInclusion(JsonInclude.Include.NON_NULL)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .configure(SerializationFeature.INDENT_OUTPUT, true);
 
         this.logger = logger;
+        this.endpoint = endpoint;
+        this.token = token;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
         this.api = ClientUtils.builder(logger, connectTimeout, readTimeout)
             .encoder(new FormEncoder(new JacksonEncoder(objectMapper)))
             .decoder(new PaginatingDecoder(new JacksonDecoder(objectMapper)))
@@ -329,31 +335,22 @@ class Gitlab {
         api.updateRelease(release, project.getId());
     }
 
-    Collection<GlFileUpload> uploadAssets(String owner, String repoName, String projectIdentifier, List<Asset> assets) throws IOException, RestAPIException {
+    Collection<GlFileUpload> uploadAssets(String owner, String repoName, String projectIdentifier, List<Asset> assets, Integer parallelism) throws IOException, RestAPIException {
         logger.debug(RB.$("git.upload.assets"), owner, repoName);
 
-        List<GlFileUpload> uploads = new ArrayList<>();
-
         GlProject project = getProject(repoName, projectIdentifier);
 
-        for (Asset asset : assets) {
-            if (0 == Files.size(asset.getPath()) || !Files.exists(asset.getPath())) {
-                // do not upload empty or non existent files
-                continue;
-            }
-
+        return ConcurrentAssetUploader.upload(logger, parallelism, assets, asset -> {
             logger.info(" " + RB.$("git.upload.asset"), asset.getFilename());
             try {
-                GlFileUpload upload = api.uploadFile(project.getId(), toFormData(asset.getPath()));
+                GlFileUpload upload = uploadFile(project.getId(), asset);
                 upload.setName(asset.getFilename());
-                uploads.add(upload);
+                return upload;
             } catch (IOException | RestAPIException e) {
                 logger.error(" " + RB.$("git.upload.asset.failure"), asset.getFilename());
                 throw e;
             }
-        }
-
-        return uploads;
+        });
     }
 
     void linkReleaseAssets(String owner, String repoName, GlRelease release, String projectIdentifier, Collection<GlFileUpload> uploads) throws IOException, RestAPIException {
@@ -408,11 +405,17 @@ class Gitlab {
         return Optional.empty();
     }
 
-    private FormData toFormData(Path asset) throws IOException {
-        return FormData.builder()
-            .fileName(asset.getFileName().toString())
-            .contentType(MediaType.parse(tika.detect(asset)).toString())
-            .data(Files.readAllBytes(asset))
-            .build();
+    private GlFileUpload uploadFile(Integer projectId, Asset asset) throws IOException {
+        // streamed from disk, Feign would hold the whole file in memory
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Authorization", String.format("Bearer %s", token));
+        String response = ClientUtils.postMultipartFile(logger,
+            endpoint + "/projects/" + projectId + "/uploads",
+            connectTimeout,
+            readTimeout,
+            "file",
+            asset.getPath(),
+            headers);
+        return objectMapper.readValue(response, GlFileUpload.class);
     }
 }
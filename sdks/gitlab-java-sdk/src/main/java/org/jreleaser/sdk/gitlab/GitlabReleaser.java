@@ -135,7 +135,7 @@ public class GitlabReleaser extends AbstractReleaser {
 
                         if (gitlab.getUpdate().getSections().contains(UpdateSection.ASSETS)) {
                             if (!assets.isEmpty()) {
-                                Collection<GlFileUpload> uploads = api.uploadAssets(gitlab.getOwner(), gitlab.getName(), gitlab.getProjectIdentifier(), assets);
+                                Collection<GlFileUpload> uploads = api.uploadAssets(gitlab.getOwner(), gitlab.getName(), gitlab.getProjectIdentifier(), assets, gitlab.getUploadParallelism());
                                 api.linkReleaseAssets(gitlab.getOwner(), gitlab.getName(), release, gitlab.getProjectIdentifier(), uploads);
                             }
                             if (!gitlab.getUploadLinks().isEmpty()) {
@@ -288,7 +288,7 @@ public class GitlabReleaser extends AbstractReleaser {
         api.createRelease(gitlab.getOwner(), gitlab.getName(), gitlab.getProjectIdentifier(), release);
 
         if (!assets.isEmpty()) {
-            Collection<GlFileUpload> uploads = api.uploadAssets(gitlab.getOwner(), gitlab.getName(), gitlab.getProjectIdentifier(), assets);
+            Collection<GlFileUpload> uploads = api.uploadAssets(gitlab.getOwner(), gitlab.getName(), gitlab.getProjectIdentifier(), assets, gitlab.getUploadParallelism());
             api.linkReleaseAssets(gitlab.getOwner(), gitlab.getName(), release, gitlab.getProjectIdentifier(), uploads);
         }
         if (!links.isEmpty()) {
@@ -350,7 +350,8 @@ public class GitlabReleaser extends AbstractReleaser {
                     if (Files.exists(path) && 0 != path.toFile().length()) {
                         String platform = artifact.getPlatform();
                         String platformReplaced = distribution.getPlatform().applyReplacements(platform);
-                        if (isNotBlank(platformReplaced)) {
+                        if (isNotBlank(platformReplaced) &&
+                            !platformReplaced.equals(artifact.getExtraProperties().get(KEY_PLATFORM_REPLACED))) {
                             artifact.mutate(() -> artifact.getExtraProperties().put(KEY_PLATFORM_REPLACED, platformReplaced));
                         }
                         artifacts.add(artifact);
@@ -59,8 +59,16 @@ public class HttpArtifactDownloader extends AbstractArtifactDownloader<HttpDownl
 
     @Override
     public void download(String name) throws DownloadException {
-        for (Downloader.Asset asset : downloader.getAssets()) {
-            downloadAsset(name, asset);
+        Throwable failure = null;
+        try {
+            for (Downloader.Asset asset : downloader.getAssets()) {
+                downloadAsset(name, asset);
+            }
+        } catch (DownloadException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            awaitUnpack(failure);
         }
     }
 
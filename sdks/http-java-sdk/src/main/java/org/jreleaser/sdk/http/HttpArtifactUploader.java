@@ -17,7 +17,6 @@
  */
 package org.jreleaser.sdk.http;
 
-import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Artifact;
 import org.jreleaser.model.Http;
@@ -27,7 +26,6 @@ import org.jreleaser.model.uploader.spi.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 import org.jreleaser.sdk.commons.ClientUtils;
 
-import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Base64;
 import java.util.LinkedHashMap;
@@ -80,8 +78,6 @@ public class HttpArtifactUploader extends AbstractArtifactUploader<HttpUploader>
 
             if (!context.isDryrun()) {
                 try {
-                    FormData data = ClientUtils.toFormData(path);
-
                     Map<String, String> headers = new LinkedHashMap<>();
                     switch (uploader.resolveAuthorization()) {
                         case NONE:
@@ -104,17 +100,17 @@ public class HttpArtifactUploader extends AbstractArtifactUploader<HttpUploader>
                             uploader.getResolvedUploadUrl(context, artifact),
                             uploader.getConnectTimeout(),
                             uploader.getReadTimeout(),
-                            data,
+                            path,
                             headers);
                     } else {
                         ClientUtils.putFile(context.getLogger(),
                             uploader.getResolvedUploadUrl(context, artifact),
                             uploader.getConnectTimeout(),
                             uploader.getReadTimeout(),
-                            data,
+                            path,
                             headers);
                     }
-                } catch (IOException e) {
+                } catch (UploadException e) {
                     context.getLogger().trace(e);
                     throw new UploadException(RB.$("ERROR_unexpected_upload",
                         context.getBasedir().relativize(path)), e);
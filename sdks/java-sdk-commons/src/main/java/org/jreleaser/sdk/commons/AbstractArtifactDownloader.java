@@ -22,36 +22,114 @@ import org.jreleaser.model.Downloader;
 import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.downloader.spi.ArtifactDownloader;
 import org.jreleaser.model.downloader.spi.DownloadException;
+import org.jreleaser.util.ConcurrentUtils;
 import org.jreleaser.util.FileType;
 import org.jreleaser.util.FileUtils;
 
-import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * @author Andres Almiray
  * @since 1.1.0
  */
 public abstract class AbstractArtifactDownloader<D extends Downloader> implements ArtifactDownloader<D> {
+    private final List<PendingUnpack> pendingUnpacks = new ArrayList<>();
     protected final JReleaserContext context;
+    private ExecutorService unpacker;
 
     protected AbstractArtifactDownloader(JReleaserContext context) {
         this.context = context;
     }
 
+    /**
+     * Schedules {@code outputPath} for unpacking, which runs in the background while other
+     * assets are downloaded. Callers must invoke {@link #awaitUnpack()} once all assets
+     * have been downloaded.
+     */
     protected void unpack(Downloader.Unpack unpack, Path outputPath) throws DownloadException {
         Optional<FileType> fileType = FileType.getFileType(outputPath);
         if (unpack.isEnabled() && fileType.isPresent() && fileType.get().archive()) {
-            try {
-                context.getLogger().info(RB.$("downloader.unpack"), outputPath.getFileName().toString());
-                FileUtils.unpackArchive(outputPath,
-                    outputPath.getParent(),
+            int parallelism = ConcurrentUtils.resolveParallelism(null);
+            if (null == unpacker) {
+                unpacker = ConcurrentUtils.newExecutor("unpack", parallelism);
+            }
+
+            // archives are unpacked concurrently, the entries of each archive sequentially
+            ConcurrentUtils.Task<Path, Void> task = context.getLogger().scoped(archive -> {
+                context.getLogger().info(RB.$("downloader.unpack"), archive.getFileName().toString());
+                FileUtils.unpackArchive(archive,
+                    archive.getParent(),
                     unpack.isSkipRootEntry(),
-                    false);
-            } catch (IOException e) {
-                throw new DownloadException(RB.$("ERROR_download_url_unpack", context.relativizeToBasedir(outputPath)), e);
+                    false,
+                    1);
+                return null;
+            });
+            pendingUnpacks.add(new PendingUnpack(outputPath, unpacker.submit(() -> task.call(outputPath))));
+        }
+    }
+
+    /**
+     * Waits for all scheduled unpacks. The first failure, in scheduling order, is thrown;
+     * any other failures are attached to it as suppressed exceptions.
+     */
+    protected void awaitUnpack() throws DownloadException {
+        DownloadException failure = null;
+
+        try {
+            for (PendingUnpack pending : pendingUnpacks) {
+                try {
+                    pending.future.get();
+                } catch (ExecutionException e) {
+                    DownloadException x = new DownloadException(RB.$("ERROR_download_url_unpack",
+                        context.relativizeToBasedir(pending.outputPath)), e.getCause());
+                    if (null == failure) {
+                        failure = x;
+                    } else {
+                        failure.addSuppressed(x);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new DownloadException(RB.$("ERROR_download_url_unpack",
+                        context.relativizeToBasedir(pending.outputPath)), e);
+                }
             }
+        } finally {
+            pendingUnpacks.clear();
+            if (null != unpacker) {
+                unpacker.shutdownNow();
+                unpacker = null;
+            }
+        }
+
+        if (null != failure) throw failure;
+    }
+
+    /**
+     * Waits for all scheduled unpacks. Failures are attached to {@code failure} as suppressed
+     * exceptions when given, thus an earlier download failure is not replaced.
+     */
+    protected void awaitUnpack(Throwable failure) throws DownloadException {
+        try {
+            awaitUnpack();
+        } catch (DownloadException e) {
+            if (null == failure) throw e;
+            failure.addSuppressed(e);
+        }
+    }
+
+    private static final class PendingUnpack {
+        private final Path outputPath;
+        private final Future<?> future;
+
+        private PendingUnpack(Path outputPath, Future<?> future) {
+            this.outputPath = outputPath;
+            this.future = future;
         }
     }
 }
@@ -86,7 +86,8 @@ public abstract class AbstractArtifactUploader<U extends Uploader> implements Ar
                     if (Files.exists(path) && 0 != path.toFile().length()) {
                         String platform = artifact.getPlatform();
                         String platformReplaced = distribution.getPlatform().applyReplacements(platform);
-                        if (isNotBlank(platformReplaced)) {
+                        if (isNotBlank(platformReplaced) &&
+                            !platformReplaced.equals(artifact.getExtraProperties().get(KEY_PLATFORM_REPLACED))) {
                             artifact.mutate(() -> artifact.getExtraProperties().put(KEY_PLATFORM_REPLACED, platformReplaced));
                         }
                         artifacts.add(artifact);
@@ -0,0 +1,265 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import feign.Client;
+import feign.httpclient.ApacheHttpClient;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.JReleaserLogger;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * API clients shared by every releaser, uploader and announcer of the same context.
+ * Clients are created once per configuration (endpoint, credentials and timeouts) and
+ * their connections are pooled and kept alive between calls.
+ * <p>
+ * Connections opened and reused are counted for the pooled Feign client and for
+ * HTTPS connections registered with {@link #track(HttpURLConnection)}.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public final class ApiClients {
+    private static final int MAX_CONNECTIONS = 64;
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 16;
+    private static final Map<JReleaserContext, ApiClients> REGISTRY = new WeakHashMap<>();
+
+    private final Map<String, Object> clients = new ConcurrentHashMap<>();
+    private final AtomicLong clientsCreated = new AtomicLong();
+    private final AtomicLong clientsReused = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong connectionsOpened = new AtomicLong();
+    private final SSLSocketFactory sslSocketFactory = new CountingSSLSocketFactory(HttpsURLConnection.getDefaultSSLSocketFactory());
+    private Client feignClient;
+
+    private ApiClients() {
+        // noop
+    }
+
+    public static ApiClients of(JReleaserContext context) {
+        synchronized (REGISTRY) {
+            return REGISTRY.computeIfAbsent(context, k -> new ApiClients());
+        }
+    }
+
+    /**
+     * Builds a registry key out of the given settings. Credentials are digested, not stored.
+     */
+    public static String key(Object... settings) throws IOException {
+        StringBuilder b = new StringBuilder();
+        for (Object setting : settings) {
+            b.append(setting).append('\0');
+        }
+        return ChecksumUtils.checksum(Algorithm.SHA_256, b.toString().getBytes(UTF_8));
+    }
+
+    /**
+     * Returns the client registered with the given key, creating it first if needed.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Factory<T> factory) throws IOException {
+        Object client = clients.get(key);
+        if (null == client) {
+            synchronized (clients) {
+                client = clients.get(key);
+                if (null == client) {
+                    client = factory.create();
+                    clients.put(key, client);
+                    clientsCreated.incrementAndGet();
+                    return (T) client;
+                }
+            }
+        }
+
+        clientsReused.incrementAndGet();
+        return (T) client;
+    }
+
+    /**
+     * Returns a Feign client backed by a pool of keep-alive connections.
+     */
+    public synchronized Client feignClient() {
+        if (null == feignClient) {
+            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                RegistryBuilder.<ConnectionSocketFactory>create()
+                    .register("http", new CountingSocketFactory(PlainConnectionSocketFactory.getSocketFactory()))
+                    .register("https", new CountingLayeredSocketFactory(SSLConnectionSocketFactory.getSocketFactory()))
+                    .build());
+            connectionManager.setMaxTotal(MAX_CONNECTIONS);
+            connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+
+            feignClient = new ApacheHttpClient(HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .addInterceptorFirst((HttpRequestInterceptor) (request, context) -> requests.incrementAndGet())
+                .build());
+        }
+        return feignClient;
+    }
+
+    /**
+     * Counts requests and TLS handshakes made through the given connection. Reused
+     * connections do not go through the socket factory set on the connection.
+     */
+    public HttpURLConnection track(HttpURLConnection connection) {
+        if (connection instanceof HttpsURLConnection) {
+            requests.incrementAndGet();
+            ((HttpsURLConnection) connection).setSSLSocketFactory(sslSocketFactory);
+        }
+        return connection;
+    }
+
+    public long getClientsCreated() {
+        return clientsCreated.get();
+    }
+
+    public long getClientsReused() {
+        return clientsReused.get();
+    }
+
+    public long getConnectionsOpened() {
+        return connectionsOpened.get();
+    }
+
+    public long getConnectionsReused() {
+        return Math.max(0, requests.get() - connectionsOpened.get());
+    }
+
+    public void report(JReleaserLogger logger) {
+        logger.debug(RB.$("git.api.clients.stats"), getClientsCreated(), getClientsReused(),
+            getConnectionsOpened(), getConnectionsReused());
+    }
+
+    @FunctionalInterface
+    public interface Factory<T> {
+        T create() throws IOException;
+    }
+
+    private class CountingSocketFactory implements ConnectionSocketFactory {
+        private final ConnectionSocketFactory delegate;
+
+        private CountingSocketFactory(ConnectionSocketFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Socket createSocket(HttpContext context) throws IOException {
+            return delegate.createSocket(context);
+        }
+
+        @Override
+        public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host, InetSocketAddress remoteAddress,
+                                    InetSocketAddress localAddress, HttpContext context) throws IOException {
+            connectionsOpened.incrementAndGet();
+            return delegate.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+        }
+    }
+
+    private class CountingLayeredSocketFactory extends CountingSocketFactory implements LayeredConnectionSocketFactory {
+        private final LayeredConnectionSocketFactory delegate;
+
+        private CountingLayeredSocketFactory(LayeredConnectionSocketFactory delegate) {
+            super(delegate);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+            return delegate.createLayeredSocket(socket, target, port, context);
+        }
+    }
+
+    private class CountingSSLSocketFactory extends SSLSocketFactory {
+        private final SSLSocketFactory delegate;
+
+        private CountingSSLSocketFactory(SSLSocketFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String[] getDefaultCipherSuites() {
+            return delegate.getDefaultCipherSuites();
+        }
+
+        @Override
+        public String[] getSupportedCipherSuites() {
+            return delegate.getSupportedCipherSuites();
+        }
+
+        @Override
+        public Socket createSocket() throws IOException {
+            connectionsOpened.incrementAndGet();
+            return delegate.createSocket();
+        }
+
+        @Override
+        public Socket createSocket(Socket socket, String host, int port, boolean autoClose) throws IOException {
+            connectionsOpened.incrementAndGet();
+            return delegate.createSocket(socket, host, port, autoClose);
+        }
+
+        @Override
+        public Socket createSocket(String host, int port) throws IOException {
+            connectionsOpened.incrementAndGet();
+            return delegate.createSocket(host, port);
+        }
+
+        @Override
+        public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+            connectionsOpened.incrementAndGet();
+            return delegate.createSocket(host, port, localHost, localPort);
+        }
+
+        @Override
+        public Socket createSocket(InetAddress host, int port) throws IOException {
+            connectionsOpened.incrementAndGet();
+            return delegate.createSocket(host, port);
+        }
+
+        @Override
+        public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+            connectionsOpened.incrementAndGet();
+            return delegate.createSocket(address, port, localAddress, localPort);
+        }
+    }
+}
@@ -38,6 +38,7 @@ import org.jreleaser.util.Constants;
 import org.jreleaser.util.JReleaserLogger;
 
 import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSession;
 import javax.net.ssl.SSLSocketFactory;
@@ -47,12 +48,18 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.Reader;
+import java.net.HttpRetryException;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.cert.X509Certificate;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -71,6 +78,10 @@ public final class ClientUtils {
         // noop
     }
 
+    /**
+     * Reads the whole file into memory; prefer the {@code Path} based upload methods,
+     * which stream the file instead.
+     */
     public static FormData toFormData(Path asset) throws IOException {
         return FormData.builder()
             .fileName(asset.getFileName().toString())
@@ -196,62 +207,210 @@ public final class ClientUtils {
         uploadFile(logger, url, connectTimeout, readTimeout, data, headers);
     }
 
+    /**
+     * Streams {@code file} as the body of a POST request without loading it into memory.
+     *
+     * @since 1.3.0
+     */
+    public static void postFile(JReleaserLogger logger,
+                                String url,
+                                int connectTimeout,
+                                int readTimeout,
+                                Path file,
+                                Map<String, String> headers) throws UploadException {
+        headers.put("METHOD", "POST");
+        uploadFile(logger, url, connectTimeout, readTimeout, file, headers);
+    }
+
+    /**
+     * Streams {@code file} as the body of a PUT request without loading it into memory.
+     *
+     * @since 1.3.0
+     */
+    public static void putFile(JReleaserLogger logger,
+                               String url,
+                               int connectTimeout,
+                               int readTimeout,
+                               Path file,
+                               Map<String, String> headers) throws UploadException {
+        headers.put("METHOD", "PUT");
+        headers.put("Expect", "100-continue");
+        uploadFile(logger, url, connectTimeout, readTimeout, file, headers);
+    }
+
+    /**
+     * Streams {@code file} as the single part of a {@code multipart/form-data} POST request
+     * without loading it into memory.
+     *
+     * @return the response body
+     * @throws RestAPIException if the server replies with an error status
+     * @since 1.3.0
+     */
+    public static String postMultipartFile(JReleaserLogger logger,
+                                           String url,
+                                           int connectTimeout,
+                                           int readTimeout,
+                                           String fieldName,
+                                           Path file,
+                                           Map<String, String> headers) throws IOException {
+        headers.put("METHOD", "POST");
+        return sendFile(logger, url, connectTimeout, readTimeout, fieldName, file, headers);
+    }
+
+    public static String detectContentType(Path file) throws IOException {
+        return MediaType.parse(TIKA.detect(file)).toString();
+    }
+
     private static void uploadFile(JReleaserLogger logger,
                                    String url,
                                    int connectTimeout,
                                    int readTimeout,
-                                   FormData data,
+                                   Path file,
                                    Map<String, String> headers) throws UploadException {
         try {
-            // create URL
-            URL theUrl = new URL(url);
-            logger.debug("url: {}", theUrl);
+            sendFile(logger, url, connectTimeout, readTimeout, null, file, headers);
+        } catch (RestAPIException e) {
+            throw new UploadException(e.getReason());
+        } catch (IOException e) {
+            logger.trace(e);
+            throw new UploadException(e);
+        }
+    }
 
-            // open connection
-            logger.debug(RB.$("webhook.connection.open"));
-            HttpURLConnection connection = (HttpURLConnection) theUrl.openConnection();
-            // set options
-            logger.debug(RB.$("webhook.connection.configure"));
-            connection.setConnectTimeout(connectTimeout * 1000);
-            connection.setReadTimeout(readTimeout * 1000);
-            connection.setAllowUserInteraction(false);
-            connection.setInstanceFollowRedirects(true);
+    private static String sendFile(JReleaserLogger logger,
+                                   String url,
+                                   int connectTimeout,
+                                   int readTimeout,
+                                   String fieldName,
+                                   Path file,
+                                   Map<String, String> headers) throws IOException {
+        long size = Files.size(file);
+        String contentType = detectContentType(file);
+        byte[] head = new byte[0];
+        byte[] tail = new byte[0];
 
-            connection.setRequestMethod(headers.remove("METHOD"));
-            connection.addRequestProperty("Accept", "*/*");
-            connection.addRequestProperty("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
-            connection.addRequestProperty("Content-Length", data.getData().length + "");
-            connection.setRequestProperty("Content-Type", data.getContentType());
-            headers.forEach(connection::setRequestProperty);
-
-            connection.getRequestProperties().forEach((k, v) -> {
-                if (JReleaserModelPrinter.isSecret(k)) {
-                    logger.debug("{}: {}", k, Constants.HIDE);
-                } else {
-                    logger.debug("{}: {}", k, v);
+        if (isNotBlank(fieldName)) {
+            String boundary = "jreleaser-" + UUID.randomUUID().toString().replace("-", "");
+            head = ("--" + boundary + "\r\n" +
+                "Content-Disposition: form-data; name=\"" + escapeQuotedString(fieldName) +
+                "\"; filename=\"" + escapeQuotedString(file.getFileName().toString()) + "\"\r\n" +
+                "Content-Type: " + contentType + "\r\n\r\n").getBytes(UTF_8);
+            tail = ("\r\n--" + boundary + "--\r\n").getBytes(UTF_8);
+            contentType = "multipart/form-data; boundary=" + boundary;
+        }
+
+        byte[] prefix = head;
+        byte[] suffix = tail;
+        return send(logger, url, connectTimeout, readTimeout, contentType, prefix.length + size + suffix.length, os -> {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                os.write(prefix);
+                WritableByteChannel out = Channels.newChannel(os);
+                for (long position = 0; position < size; ) {
+                    position += channel.transferTo(position, size - position, out);
                 }
-            });
+                os.write(suffix);
+            }
+        }, headers);
+    }
 
-            connection.setDoOutput(true);
+    private static void uploadFile(JReleaserLogger logger,
+                                   String url,
+                                   int connectTimeout,
+                                   int readTimeout,
+                                   FormData data,
+                                   Map<String, String> headers) throws UploadException {
+        try {
+            send(logger, url, connectTimeout, readTimeout, data.getContentType(), data.getData().length,
+                os -> os.write(data.getData(), 0, data.getData().length), headers);
+        } catch (RestAPIException e) {
+            throw new UploadException(e.getReason());
+        } catch (IOException e) {
+            logger.trace(e);
+            throw new UploadException(e);
+        }
+    }
 
-            // write message
-            logger.debug(RB.$("webhook.data.send"));
-            try (OutputStream os = connection.getOutputStream()) {
-                os.write(data.getData(), 0, data.getData().length);
-                os.flush();
+    /**
+     * Sends a request whose body is written by {@code body}. The body is streamed with a fixed
+     * length, thus redirects and authentication challenges can not be replayed by the connection;
+     * these are reported as a {@code RestAPIException} like any other non successful status.
+     */
+    private static String send(JReleaserLogger logger,
+                               String url,
+                               int connectTimeout,
+                               int readTimeout,
+                               String contentType,
+                               long contentLength,
+                               BodyWriter body,
+                               Map<String, String> headers) throws IOException {
+        // create URL
+        URL theUrl = new URL(url);
+        logger.debug("url: {}", theUrl);
+
+        // open connection
+        logger.debug(RB.$("webhook.connection.open"));
+        HttpURLConnection connection = (HttpURLConnection) theUrl.openConnection();
+        if (Boolean.getBoolean("jreleaser.disableSslValidation") && connection instanceof HttpsURLConnection) {
+            logger.warn(RB.$("warn_ssl_disabled"));
+            ((HttpsURLConnection) connection).setSSLSocketFactory(nonValidatingSSLSocketFactory());
+            ((HttpsURLConnection) connection).setHostnameVerifier(new NonValidatingHostnameVerifier());
+        }
+        // set options
+        logger.debug(RB.$("webhook.connection.configure"));
+        connection.setConnectTimeout(connectTimeout * 1000);
+        connection.setReadTimeout(readTimeout * 1000);
+        connection.setAllowUserInteraction(false);
+        connection.setInstanceFollowRedirects(true);
+
+        connection.setRequestMethod(headers.remove("METHOD"));
+        connection.addRequestProperty("Accept", "*/*");
+        connection.addRequestProperty("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
+        connection.setRequestProperty("Content-Type", contentType);
+        headers.forEach(connection::setRequestProperty);
+
+        connection.getRequestProperties().forEach((k, v) -> {
+            if (JReleaserModelPrinter.isSecret(k)) {
+                logger.debug("{}: {}", k, Constants.HIDE);
+            } else {
+                logger.debug("{}: {}", k, v);
             }
+        });
 
-            // handle response
-            logger.debug(RB.$("webhook.response.handle"));
-            int status = connection.getResponseCode();
-            if (status >= 400) {
-                String reason = connection.getResponseMessage();
-                StringBuilder b = new StringBuilder("Got ")
-                    .append(status);
-                if (isNotBlank(reason)) {
-                    b.append(" reason: ")
-                        .append(reason);
-                }
+        // the body is never buffered by the connection, which also sets Content-Length
+        connection.setFixedLengthStreamingMode(contentLength);
+        connection.setDoOutput(true);
+
+        // write message
+        logger.debug(RB.$("webhook.data.send"));
+        try (OutputStream os = connection.getOutputStream()) {
+            body.write(os);
+            os.flush();
+        }
+
+        // handle response
+        logger.debug(RB.$("webhook.response.handle"));
+        int status;
+        try {
+            status = connection.getResponseCode();
+        } catch (HttpRetryException e) {
+            // thrown instead of following a redirect or answering a challenge with a streamed body
+            status = e.responseCode();
+        }
+
+        if (status >= 300) {
+            String reason = connection.getResponseMessage();
+            StringBuilder b = new StringBuilder("Got ")
+                .append(status);
+            if (isNotBlank(reason)) {
+                b.append(" reason: ")
+                    .append(reason);
+            }
+            String location = connection.getHeaderField("Location");
+            if (status < 400 && isNotBlank(location)) {
+                b.append(", ")
+                    .append(RB.$("ERROR_upload_redirect_not_followed", location));
+            }
+            if (null != connection.getErrorStream()) {
                 try (Reader reader = new InputStreamReader(connection.getErrorStream(), UTF_8)) {
                     String message = IOUtils.toString(reader);
                     if (isNotBlank(message)) {
@@ -259,12 +418,20 @@ public final class ClientUtils {
                             .append(message);
                     }
                 }
-                throw new UploadException(b.toString());
             }
-        } catch (IOException e) {
-            logger.trace(e);
-            throw new UploadException(e);
+            throw new RestAPIException(status, b.toString());
         }
+
+        try (Reader reader = new InputStreamReader(connection.getInputStream(), UTF_8)) {
+            return IOUtils.toString(reader);
+        }
+    }
+
+    private static String escapeQuotedString(String str) {
+        // same escaping browsers apply to form-data names and filenames
+        return str.replace("\r", "%0D")
+            .replace("\n", "%0A")
+            .replace("\"", "%22");
     }
 
     private static SSLSocketFactory nonValidatingSSLSocketFactory() {
@@ -302,4 +469,8 @@ public final class ClientUtils {
             return true;
         }
     }
+
+    private interface BodyWriter {
+        void write(OutputStream out) throws IOException;
+    }
 }
@@ -0,0 +1,207 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.releaser.spi.Asset;
+import org.jreleaser.util.ConcurrentUtils;
+import org.jreleaser.util.JReleaserLogger;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.jreleaser.util.TimeUtils.formatDuration;
+
+/**
+ * Uploads release assets with a bounded number of workers. Each asset is retried on
+ * I/O errors and server side failures; once every asset has been attempted the first
+ * failure, in asset order, is rethrown with the others attached as suppressed exceptions.
+ * <p>
+ * Only {@link RestAPIException} statuses 408, 429 and 5xx are retried. Uploads backed by clients
+ * that signal HTTP errors with their own {@code IOException} subclasses must translate them into
+ * a {@code RestAPIException}, otherwise client errors such as 401 or 422 are retried as well.
+ * <p>
+ * A failed attempt may still have reached the server and created the asset. Uploads that are
+ * not idempotent must supply a {@link Cleanup} that removes such leftovers before a retry.
+ * <p>
+ * Workers share the caller's API client, which must be safe for concurrent use.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public final class ConcurrentAssetUploader {
+    public static final int DEFAULT_PARALLELISM = 4;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_DELAY = 1000L;
+
+    private ConcurrentAssetUploader() {
+        // noop
+    }
+
+    /**
+     * Uploads every non empty asset, results are returned in the same order as the given assets.
+     *
+     * @param logger      the logger
+     * @param parallelism maximum number of concurrent uploads, {@link #DEFAULT_PARALLELISM} if {@code null}
+     * @param assets      the assets to be uploaded
+     * @param upload      uploads a single asset
+     */
+    public static <R> List<R> upload(JReleaserLogger logger, Integer parallelism, List<Asset> assets, Upload<R> upload) throws IOException {
+        return upload(logger, parallelism, assets, upload, asset -> {
+            // noop
+        });
+    }
+
+    /**
+     * Uploads every non empty asset, results are returned in the same order as the given assets.
+     *
+     * @param logger      the logger
+     * @param parallelism maximum number of concurrent uploads, {@link #DEFAULT_PARALLELISM} if {@code null}
+     * @param assets      the assets to be uploaded
+     * @param upload      uploads a single asset
+     * @param cleanup     removes what a failed upload may have left behind, invoked before every retry
+     */
+    public static <R> List<R> upload(JReleaserLogger logger, Integer parallelism, List<Asset> assets, Upload<R> upload, Cleanup cleanup) throws IOException {
+        return upload(logger, parallelism, assets, upload, cleanup, RETRY_DELAY);
+    }
+
+    static <R> List<R> upload(JReleaserLogger logger, Integer parallelism, List<Asset> assets, Upload<R> upload, Cleanup cleanup, long retryDelay) throws IOException {
+        List<Asset> uploadable = new ArrayList<>();
+        for (Asset asset : assets) {
+            if (!Files.exists(asset.getPath()) || 0 == Files.size(asset.getPath())) {
+                // do not upload empty or non existent files
+                continue;
+            }
+            uploadable.add(asset);
+        }
+        if (uploadable.isEmpty()) return new ArrayList<>();
+
+        int workers = null == parallelism ? DEFAULT_PARALLELISM : ConcurrentUtils.resolveParallelism(parallelism);
+        long totalBytes = 0;
+        for (Asset asset : uploadable) {
+            totalBytes += Files.size(asset.getPath());
+        }
+
+        AtomicInteger done = new AtomicInteger();
+        AtomicLong uploadedBytes = new AtomicLong();
+        long start = System.currentTimeMillis();
+
+        List<R> results;
+        try {
+            results = ConcurrentUtils.invokeAll("upload", workers, uploadable, logger.scoped(asset -> {
+                long size = Files.size(asset.getPath());
+                long assetStart = System.currentTimeMillis();
+                R result = uploadWithRetries(logger, asset, upload, cleanup, retryDelay);
+                long elapsed = System.currentTimeMillis() - assetStart;
+
+                uploadedBytes.addAndGet(size);
+                logger.debug(" " + RB.$("git.upload.asset.progress", done.incrementAndGet(), uploadable.size(),
+                    asset.getFilename(), formatSize(size), formatDuration(elapsed / 1000d), throughput(size, elapsed)));
+                return result;
+            }));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            for (Throwable suppressed : e.getSuppressed()) {
+                cause.addSuppressed(suppressed);
+            }
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IOException(cause.getMessage(), cause);
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        logger.info(" " + RB.$("git.upload.assets.summary", uploadable.size(), formatSize(uploadedBytes.get()),
+            formatDuration(elapsed / 1000d), throughput(totalBytes, elapsed)));
+
+        return results.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    private static <R> R uploadWithRetries(JReleaserLogger logger, Asset asset, Upload<R> upload, Cleanup cleanup, long retryDelay) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return upload.upload(asset);
+            } catch (IOException | RestAPIException e) {
+                if (attempt >= MAX_ATTEMPTS || !isRetryable(e)) throw e;
+
+                try {
+                    cleanup.cleanup(asset);
+                } catch (IOException | RuntimeException x) {
+                    // retrying would fail on the leftover asset
+                    e.addSuppressed(x);
+                    throw e;
+                }
+
+                logger.warn(" " + RB.$("git.upload.asset.retry", asset.getFilename(), attempt, MAX_ATTEMPTS, e.getMessage()));
+                try {
+                    Thread.sleep(retryDelay * attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException(ie.getMessage());
+                }
+            }
+        }
+    }
+
+    private static boolean isRetryable(Exception e) {
+        if (e instanceof InterruptedIOException && Thread.currentThread().isInterrupted()) return false;
+        // 404, the release or the upload endpoint is gone
+        if (e instanceof FileNotFoundException) return false;
+        if (e instanceof RestAPIException) {
+            int status = ((RestAPIException) e).getStatus();
+            return status >= 500 || status == 408 || status == 429;
+        }
+        return true;
+    }
+
+    private static String throughput(long bytes, long millis) {
+        return formatSize(bytes * 1000L / Math.max(1L, millis)) + "/s";
+    }
+
+    private static String formatSize(long bytes) {
+        if (bytes < 1024L) return bytes + " B";
+        String units = "KMGT";
+        double value = bytes;
+        int unit = -1;
+        while (value >= 1024d && unit < units.length() - 1) {
+            value /= 1024d;
+            unit++;
+        }
+        return String.format("%.1f %sB", value, units.charAt(unit));
+    }
+
+    @FunctionalInterface
+    public interface Upload<R> {
+        R upload(Asset asset) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface Cleanup {
+        void cleanup(Asset asset) throws IOException;
+    }
+}
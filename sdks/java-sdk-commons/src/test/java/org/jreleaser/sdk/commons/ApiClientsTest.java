@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.JReleaserModel;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class ApiClientsTest {
+    private JReleaserContext context;
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        Path basedir = Files.createTempDirectory("clients");
+        context = new JReleaserContext(new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR),
+            JReleaserContext.Configurer.CLI,
+            JReleaserContext.Mode.FULL,
+            new JReleaserModel(),
+            basedir,
+            basedir.resolve("out"),
+            true,
+            false,
+            Collections.emptyList());
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/ping", http -> {
+            byte[] bytes = "pong".getBytes(StandardCharsets.UTF_8);
+            http.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = http.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        server.stop(0);
+    }
+
+    @Test
+    public void clientsAreCreatedOnce() throws IOException {
+        // given:
+        ApiClients clients = ApiClients.of(context);
+
+        // when:
+        Object first = clients.get(ApiClients.key("client", baseUrl, "secret"), Object::new);
+        Object second = clients.get(ApiClients.key("client", baseUrl, "secret"), Object::new);
+        Object other = clients.get(ApiClients.key("client", baseUrl, "other"), Object::new);
+
+        // then:
+        assertThat(second, sameInstance(first));
+        assertThat(other, not(sameInstance(first)));
+        assertThat(clients.getClientsCreated(), equalTo(2L));
+        assertThat(clients.getClientsReused(), equalTo(1L));
+    }
+
+    @Test
+    public void plainConnectionsArePooled() throws IOException {
+        // given:
+        ApiClients clients = ApiClients.of(context);
+
+        // when:
+        assertThat(ping(clients), equalTo("pong"));
+        assertThat(ping(clients), equalTo("pong"));
+
+        // then:
+        assertThat(clients.getConnectionsOpened(), equalTo(1L));
+        assertThat(clients.getConnectionsReused(), equalTo(1L));
+    }
+
+    private String ping(ApiClients clients) throws IOException {
+        Request request = Request.create(Request.HttpMethod.GET, baseUrl + "/ping", Collections.emptyMap(),
+            null, StandardCharsets.UTF_8, null);
+        try (Response response = clients.feignClient().execute(request, new Request.Options())) {
+            return Util.toString(response.body().asReader(StandardCharsets.UTF_8));
+        }
+    }
+}
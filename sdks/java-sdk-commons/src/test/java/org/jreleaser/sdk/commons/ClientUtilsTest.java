@@ -0,0 +1,204 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class ClientUtilsTest {
+    private final SimpleJReleaserLoggerAdapter logger = new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR);
+    private final AtomicReference<Exchange> exchange = new AtomicReference<>();
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/upload", http -> {
+            exchange.set(new Exchange(http.getRequestMethod(),
+                http.getRequestHeaders().getFirst("Content-Type"),
+                http.getRequestHeaders().getFirst("Content-Length"),
+                http.getRequestHeaders().getFirst("Transfer-Encoding"),
+                http.getRequestHeaders().getFirst("Authorization"),
+                read(http.getRequestBody())));
+            reply(http, 201, "{\"id\":1}");
+        });
+        server.createContext("/redirect", http -> {
+            read(http.getRequestBody());
+            http.getResponseHeaders().add("Location", baseUrl + "/upload");
+            reply(http, 307, "");
+        });
+        server.createContext("/secured", http -> {
+            read(http.getRequestBody());
+            http.getResponseHeaders().add("WWW-Authenticate", "Basic realm=\"uploads\"");
+            reply(http, 401, "");
+        });
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        server.stop(0);
+    }
+
+    @Test
+    public void multipartBodyIsStreamed() throws IOException {
+        // given:
+        byte[] content = "some content".getBytes(StandardCharsets.UTF_8);
+        Path file = Files.write(Files.createTempDirectory("upload").resolve("app\"1.0.txt"), content);
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Authorization", "token secret");
+
+        // when:
+        String response = ClientUtils.postMultipartFile(logger, baseUrl + "/upload", 10, 10, "attachment", file, headers);
+
+        // then:
+        Exchange e = exchange.get();
+        assertThat(response, equalTo("{\"id\":1}"));
+        assertThat(e.method, equalTo("POST"));
+        assertThat(e.authorization, equalTo("token secret"));
+        assertThat(e.transferEncoding, nullValue());
+        assertThat(e.contentType, startsWith("multipart/form-data; boundary=jreleaser-"));
+        assertThat(e.contentLength, equalTo(String.valueOf(e.body.length)));
+
+        String boundary = e.contentType.substring(e.contentType.indexOf("boundary=") + 9);
+        String body = new String(e.body, StandardCharsets.UTF_8);
+        assertThat(body, startsWith("--" + boundary + "\r\n" +
+            "Content-Disposition: form-data; name=\"attachment\"; filename=\"app%221.0.txt\"\r\n"));
+        assertThat(body, containsString("\r\n\r\nsome content\r\n--" + boundary + "--\r\n"));
+    }
+
+    @Test
+    public void rawBodyIsStreamed() throws Exception {
+        // given:
+        byte[] content = new byte[256 * 1024];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Path file = Files.write(Files.createTempDirectory("upload").resolve("app-1.0.bin"), content);
+
+        // when:
+        ClientUtils.putFile(logger, baseUrl + "/upload", 10, 10, file, new LinkedHashMap<>());
+
+        // then:
+        Exchange e = exchange.get();
+        assertThat(e.method, equalTo("PUT"));
+        assertThat(e.transferEncoding, nullValue());
+        assertThat(e.contentLength, equalTo(String.valueOf(content.length)));
+        assertThat(e.body, equalTo(content));
+    }
+
+    @Test
+    public void redirectsAreReported() throws IOException {
+        // given:
+        Path file = Files.write(Files.createTempDirectory("upload").resolve("app-1.0.txt"),
+            "some content".getBytes(StandardCharsets.UTF_8));
+
+        // when:
+        RestAPIException e = assertThrows(RestAPIException.class, () ->
+            ClientUtils.postMultipartFile(logger, baseUrl + "/redirect", 10, 10, "file", file, new LinkedHashMap<>()));
+
+        // then:
+        assertThat(e.getStatus(), equalTo(307));
+        assertThat(e.getReason(), containsString(baseUrl + "/upload"));
+        assertThat(exchange.get(), nullValue());
+    }
+
+    @Test
+    public void authenticationChallengesAreReported() throws IOException {
+        // given:
+        Path file = Files.write(Files.createTempDirectory("upload").resolve("app-1.0.txt"),
+            "some content".getBytes(StandardCharsets.UTF_8));
+
+        // when:
+        RestAPIException e = assertThrows(RestAPIException.class, () ->
+            ClientUtils.postMultipartFile(logger, baseUrl + "/secured", 10, 10, "file", file, new LinkedHashMap<>()));
+
+        // then:
+        assertThat(e.getStatus(), equalTo(401));
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static void reply(HttpExchange http, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        http.sendResponseHeaders(status, bytes.length > 0 ? bytes.length : -1);
+        if (bytes.length > 0) {
+            try (OutputStream out = http.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+        http.close();
+    }
+
+    private static final class Exchange {
+        private final String method;
+        private final String contentType;
+        private final String contentLength;
+        private final String transferEncoding;
+        private final String authorization;
+        private final byte[] body;
+
+        private Exchange(String method, String contentType, String contentLength, String transferEncoding,
+                         String authorization, byte[] body) {
+            this.method = method;
+            this.contentType = contentType;
+            this.contentLength = contentLength;
+            this.transferEncoding = transferEncoding;
+            this.authorization = authorization;
+            this.body = body;
+        }
+    }
+}
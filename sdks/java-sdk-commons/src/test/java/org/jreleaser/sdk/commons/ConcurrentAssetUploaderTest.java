@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import org.jreleaser.model.releaser.spi.Asset;
+import org.jreleaser.util.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class ConcurrentAssetUploaderTest {
+    private final SimpleJReleaserLoggerAdapter logger = new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR);
+    private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> cleanups = new ConcurrentHashMap<>();
+    private Path basedir;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        basedir = Files.createTempDirectory("assets");
+    }
+
+    @Test
+    public void serverErrorsAreRetried() throws IOException {
+        // given:
+        List<Asset> assets = assets("app-1.0.zip");
+
+        // when:
+        List<String> results = upload(assets, asset -> {
+            int attempt = attempt(asset);
+            if (attempt == 1) throw new RestAPIException(502, "Bad Gateway");
+            if (attempt == 2) throw new RestAPIException(429, "Too Many Requests");
+            return asset.getFilename();
+        });
+
+        // then:
+        assertThat(results, equalTo(Arrays.asList("app-1.0.zip")));
+        assertThat(attempts.get("app-1.0.zip").get(), equalTo(3));
+        assertThat(cleanups.get("app-1.0.zip").get(), equalTo(2));
+    }
+
+    @Test
+    public void ioErrorsAreRetried() throws IOException {
+        // given:
+        List<Asset> assets = assets("app-1.0.zip");
+
+        // when:
+        List<String> results = upload(assets, asset -> {
+            if (attempt(asset) == 1) throw new IOException("Connection reset");
+            return asset.getFilename();
+        });
+
+        // then:
+        assertThat(results, equalTo(Arrays.asList("app-1.0.zip")));
+        assertThat(attempts.get("app-1.0.zip").get(), equalTo(2));
+        assertThat(cleanups.get("app-1.0.zip").get(), equalTo(1));
+    }
+
+    @Test
+    public void clientErrorsAreNotRetried() throws IOException {
+        // given:
+        List<Asset> assets = assets("app-1.0.zip");
+
+        // when:
+        RestAPIException e = assertThrows(RestAPIException.class, () -> upload(assets, asset -> {
+            attempt(asset);
+            throw new RestAPIException(422, "Unprocessable Entity");
+        }));
+
+        // then:
+        assertThat(e.getStatus(), equalTo(422));
+        assertThat(attempts.get("app-1.0.zip").get(), equalTo(1));
+        assertThat(cleanups.containsKey("app-1.0.zip"), equalTo(false));
+    }
+
+    @Test
+    public void retriesStopWhenCleanupFails() throws IOException {
+        // given:
+        List<Asset> assets = assets("app-1.0.zip");
+        IOException failure = new IOException("Connection reset");
+        IOException cleanupFailure = new IOException("Forbidden");
+
+        // when:
+        IOException e = assertThrows(IOException.class, () ->
+            ConcurrentAssetUploader.upload(logger, 1, assets, asset -> {
+                attempt(asset);
+                throw failure;
+            }, asset -> {
+                throw cleanupFailure;
+            }, 1L));
+
+        // then:
+        assertThat(e, sameInstance(failure));
+        assertThat(e.getSuppressed().length, equalTo(1));
+        assertThat(e.getSuppressed()[0], sameInstance(cleanupFailure));
+        assertThat(attempts.get("app-1.0.zip").get(), equalTo(1));
+    }
+
+    @Test
+    public void failuresAreAggregatedInAssetOrder() throws IOException {
+        // given:
+        List<Asset> assets = assets("app-1.0.zip", "app-1.0.tar", "app-1.0.jar");
+
+        // when:
+        RestAPIException e = assertThrows(RestAPIException.class, () -> upload(assets, asset -> {
+            attempt(asset);
+            if ("app-1.0.tar".equals(asset.getFilename())) return asset.getFilename();
+            throw new RestAPIException(403, asset.getFilename());
+        }));
+
+        // then:
+        assertThat(e.getReason(), equalTo("app-1.0.zip"));
+        assertThat(e.getSuppressed().length, equalTo(1));
+        assertThat(((RestAPIException) e.getSuppressed()[0]).getReason(), equalTo("app-1.0.jar"));
+        assertThat(attempts.get("app-1.0.tar").get(), equalTo(1));
+    }
+
+    private List<String> upload(List<Asset> assets, ConcurrentAssetUploader.Upload<String> upload) throws IOException {
+        return ConcurrentAssetUploader.upload(logger, 2, assets, upload, asset ->
+            cleanups.computeIfAbsent(asset.getFilename(), k -> new AtomicInteger()).incrementAndGet(), 1L);
+    }
+
+    private int attempt(Asset asset) {
+        return attempts.computeIfAbsent(asset.getFilename(), k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private List<Asset> assets(String... filenames) throws IOException {
+        List<Asset> assets = new ArrayList<>();
+        for (String filename : filenames) {
+            Path file = Files.write(basedir.resolve(filename), filename.getBytes(StandardCharsets.UTF_8));
+            assets.add(Asset.file(file));
+        }
+        return assets;
+    }
+}
@@ -25,11 +25,12 @@ import com.amazonaws.auth.BasicSessionCredentials;
 import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
-import com.amazonaws.services.s3.model.AccessControlList;
-import com.amazonaws.services.s3.model.GroupGrantee;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.Permission;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.apache.tika.Tika;
 import org.apache.tika.mime.MediaType;
 import org.jreleaser.bundle.RB;
@@ -38,15 +39,20 @@ import org.jreleaser.model.JReleaserContext;
 import org.jreleaser.model.S3;
 import org.jreleaser.model.uploader.spi.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
+import org.jreleaser.sdk.commons.ApiClients;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ConcurrentUtils;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
-import static java.nio.file.StandardOpenOption.READ;
+import static org.jreleaser.util.ConcurrentUtils.resolveParallelism;
 import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -57,6 +63,10 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
 @org.jreleaser.infra.nativeimage.annotations.NativeImage
 public class S3ArtifactUploader extends AbstractArtifactUploader<S3> {
     private static final Tika TIKA = new Tika();
+    private static final long MULTIPART_THRESHOLD = 16L * 1024L * 1024L;
+    private static final long MINIMUM_PART_SIZE = 8L * 1024L * 1024L;
+    private static final String SHA256_METADATA = "jreleaser-sha256";
+    private static final CannedAccessControlList ACL = CannedAccessControlList.PublicRead;
     private S3 uploader;
 
     public S3ArtifactUploader(JReleaserContext context) {
@@ -86,8 +96,9 @@ public class S3ArtifactUploader extends AbstractArtifactUploader<S3> {
         }
 
         String bucketName = uploader.getResolvedBucket();
+        int parallelism = resolveParallelism(uploader.getParallelism());
 
-        AmazonS3 s3 = createS3Client();
+        AmazonS3 s3 = resolveS3Client(parallelism);
 
         // does the bucket exist?
         context.getLogger().debug(RB.$("s3.bucket.check"), bucketName);
@@ -97,85 +108,160 @@ public class S3ArtifactUploader extends AbstractArtifactUploader<S3> {
             s3.createBucket(bucketName);
         }
 
-        for (Artifact artifact : artifacts) {
-            Path path = artifact.getEffectivePath(context);
-            context.getLogger().info(" - {}", path.getFileName());
-
-            try {
-                String bucketPath = uploader.getResolvedPath(context, artifact);
-                context.getLogger().debug("   {}", bucketPath);
-
-                if (!context.isDryrun()) {
-                    context.getLogger().debug(RB.$("s3.object.check"), bucketName, bucketPath);
-                    if (s3.doesObjectExist(bucketName, bucketPath)) {
-                        context.getLogger().debug(RB.$("s3.object.create"), bucketName, bucketPath);
-                        s3.deleteObject(bucketName, bucketPath);
-                    }
-
-                    ObjectMetadata meta = new ObjectMetadata();
-                    meta.setContentType(MediaType.parse(TIKA.detect(path)).toString());
-                    meta.setContentLength(Files.size(path));
-
-                    context.getLogger().debug(RB.$("s3.object.write"), bucketName, bucketPath);
-                    try (InputStream is = Files.newInputStream(path, READ)) {
-                        s3.putObject(new PutObjectRequest(bucketName, bucketPath, is, meta));
-                    }
-
-                    context.getLogger().debug(RB.$("s3.object.acl"), bucketName, bucketPath);
-                    AccessControlList acl = s3.getObjectAcl(bucketName, bucketPath);
-                    acl.grantPermission(GroupGrantee.AllUsers, Permission.Read);
-                    s3.setObjectAcl(bucketName, bucketPath, acl);
-                }
-            } catch (IOException e) {
-                context.getLogger().trace(e);
-                throw new UploadException(RB.$("ERROR_unexpected_upload", context.relativizeToBasedir(path)), e);
+        // files above the threshold are sent as multipart uploads whose parts are sent in parallel
+        TransferManager transfers = TransferManagerBuilder.standard()
+            .withS3Client(s3)
+            .withExecutorFactory(() -> ConcurrentUtils.newExecutor("s3-parts", parallelism))
+            .withMultipartUploadThreshold(MULTIPART_THRESHOLD)
+            .withMinimumUploadPartSize(MINIMUM_PART_SIZE)
+            .build();
+
+        try {
+            ConcurrentUtils.invokeAll("s3", parallelism, artifacts, context.getLogger().scoped(artifact -> {
+                upload(s3, transfers, bucketName, artifact);
+                return artifact;
+            }));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            for (Throwable suppressed : e.getSuppressed()) {
+                cause.addSuppressed(suppressed);
             }
+            if (cause instanceof UploadException) throw (UploadException) cause;
+            throw new UploadException(RB.$("ERROR_unexpected_error"), cause);
+        } finally {
+            // the client is shared, only the part executor is released
+            transfers.shutdownNow(false);
         }
     }
 
-    private AmazonS3 createS3Client() throws UploadException {
+    private void upload(AmazonS3 s3, TransferManager transfers, String bucketName, Artifact artifact) throws UploadException {
+        Path path = artifact.getEffectivePath(context);
+        context.getLogger().info(" - {}", path.getFileName());
+
         try {
-            AmazonS3ClientBuilder s3Builder = AmazonS3ClientBuilder.standard();
-            if (isNotBlank(uploader.getResolvedAccessKeyId()) &&
-                isNotBlank(uploader.getResolvedSecretKey()) &&
-                isNotBlank(uploader.getResolvedSessionToken())) {
-                s3Builder.withCredentials(new AWSStaticCredentialsProvider(
-                    new BasicSessionCredentials(uploader.getResolvedAccessKeyId(),
-                        uploader.getResolvedSecretKey(),
-                        uploader.getResolvedSessionToken())));
-            } else if (isNotBlank(uploader.getResolvedAccessKeyId()) &&
-                isNotBlank(uploader.getResolvedSecretKey())) {
-                s3Builder.withCredentials(new AWSStaticCredentialsProvider(
-                    new BasicAWSCredentials(uploader.getResolvedAccessKeyId(),
-                        uploader.getResolvedSecretKey())));
-            }
+            String bucketPath = uploader.getResolvedPath(context, artifact);
+            context.getLogger().debug("   {}", bucketPath);
 
-            Map<String, String> headers = uploader.getHeaders();
-            if (headers != null) {
-                ClientConfiguration clientConfiguration = new ClientConfiguration();
-                for (Map.Entry<String, String> header : headers.entrySet()) {
-                    if (header.getKey() != null && header.getValue() != null) {
-                        clientConfiguration.addHeader(header.getKey(), header.getValue());
-                    }
-                }
-                s3Builder.setClientConfiguration(clientConfiguration);
-            }
+            if (context.isDryrun()) return;
 
-            if (isBlank(uploader.getResolvedEndpoint())) {
-                s3Builder.withRegion(uploader.getResolvedRegion());
-            } else {
-                s3Builder.withEndpointConfiguration(
-                    new AwsClientBuilder.EndpointConfiguration(uploader.getResolvedEndpoint(),
-                        uploader.getResolvedRegion()));
+            Map<Algorithm, String> checksums = ChecksumUtils.checksum(Arrays.asList(Algorithm.SHA_256, Algorithm.MD5), path);
+
+            context.getLogger().debug(RB.$("s3.object.check"), bucketName, bucketPath);
+            if (skipUpToDate(s3, bucketName, bucketPath, Files.size(path), checksums)) {
+                context.getLogger().info(RB.$("s3.object.skip"), bucketName, bucketPath);
+                return;
             }
 
-            s3Builder.getClientConfiguration()
-                .setConnectionTimeout(uploader.getConnectTimeout() * 1000);
+            ObjectMetadata meta = new ObjectMetadata();
+            meta.setContentType(MediaType.parse(TIKA.detect(path)).toString());
+            meta.setContentLength(Files.size(path));
+            meta.addUserMetadata(SHA256_METADATA, checksums.get(Algorithm.SHA_256));
 
-            return s3Builder.build();
-        } catch (SdkClientException e) {
+            context.getLogger().debug(RB.$("s3.object.write"), bucketName, bucketPath);
+            // objects are replaced in place, the ACL travels with the upload request
+            transfers.upload(new PutObjectRequest(bucketName, bucketPath, path.toFile())
+                    .withMetadata(meta)
+                    .withCannedAcl(ACL))
+                .waitForUploadResult();
+        } catch (IOException | SdkClientException e) {
+            context.getLogger().trace(e);
+            throw new UploadException(RB.$("ERROR_unexpected_upload", context.relativizeToBasedir(path)), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UploadException(RB.$("ERROR_unexpected_upload", context.relativizeToBasedir(path)), e);
+        }
+    }
+
+    /**
+     * Returns whether the object already holds the same contents. Its ACL is reset in that case,
+     * as the upload would have done, given that the object may have been made private since.
+     */
+    static boolean skipUpToDate(AmazonS3 s3, String bucketName, String bucketPath, long size, Map<Algorithm, String> checksums) {
+        if (!isUpToDate(s3, bucketName, bucketPath, size, checksums)) return false;
+
+        s3.setObjectAcl(bucketName, bucketPath, ACL);
+        return true;
+    }
+
+    private static boolean isUpToDate(AmazonS3 s3, String bucketName, String bucketPath, long size, Map<Algorithm, String> checksums) {
+        ObjectMetadata remote;
+        try {
+            remote = s3.getObjectMetadata(bucketName, bucketPath);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) return false;
+            throw e;
+        }
+
+        if (remote.getContentLength() != size) return false;
+
+        String sha256 = remote.getUserMetaDataOf(SHA256_METADATA);
+        if (isNotBlank(sha256)) {
+            return sha256.equalsIgnoreCase(checksums.get(Algorithm.SHA_256));
+        }
+
+        // the ETag of a single part upload is the MD5 of its contents, multipart ETags contain a '-'
+        String etag = remote.getETag();
+        return isNotBlank(etag) && !etag.contains("-") && etag.equalsIgnoreCase(checksums.get(Algorithm.MD5));
+    }
+
+    private AmazonS3 resolveS3Client(int parallelism) throws UploadException {
+        try {
+            return ApiClients.of(context).get(ApiClients.key(S3.class.getName(),
+                    uploader.getResolvedEndpoint(),
+                    uploader.getResolvedRegion(),
+                    uploader.getResolvedAccessKeyId(),
+                    uploader.getResolvedSecretKey(),
+                    uploader.getResolvedSessionToken(),
+                    uploader.getHeaders(),
+                    uploader.getConnectTimeout(),
+                    parallelism),
+                () -> createS3Client(parallelism));
+        } catch (IOException | SdkClientException e) {
             context.getLogger().trace(e);
             throw new UploadException(RB.$("ERROR_unexpected_s3_client_config"), e);
         }
     }
+
+    private AmazonS3 createS3Client(int parallelism) {
+        AmazonS3ClientBuilder s3Builder = AmazonS3ClientBuilder.standard();
+        if (isNotBlank(uploader.getResolvedAccessKeyId()) &&
+            isNotBlank(uploader.getResolvedSecretKey()) &&
+            isNotBlank(uploader.getResolvedSessionToken())) {
+            s3Builder.withCredentials(new AWSStaticCredentialsProvider(
+                new BasicSessionCredentials(uploader.getResolvedAccessKeyId(),
+                    uploader.getResolvedSecretKey(),
+                    uploader.getResolvedSessionToken())));
+        } else if (isNotBlank(uploader.getResolvedAccessKeyId()) &&
+            isNotBlank(uploader.getResolvedSecretKey())) {
+            s3Builder.withCredentials(new AWSStaticCredentialsProvider(
+                new BasicAWSCredentials(uploader.getResolvedAccessKeyId(),
+                    uploader.getResolvedSecretKey())));
+        }
+
+        Map<String, String> headers = uploader.getHeaders();
+        if (headers != null) {
+            ClientConfiguration clientConfiguration = new ClientConfiguration();
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                if (header.getKey() != null && header.getValue() != null) {
+                    clientConfiguration.addHeader(header.getKey(), header.getValue());
+                }
+            }
+            s3Builder.setClientConfiguration(clientConfiguration);
+        }
+
+        if (isBlank(uploader.getResolvedEndpoint())) {
+            s3Builder.withRegion(uploader.getResolvedRegion());
+        } else {
+            s3Builder.withEndpointConfiguration(
+                new AwsClientBuilder.EndpointConfiguration(uploader.getResolvedEndpoint(),
+                    uploader.getResolvedRegion()));
+        }
+
+        ClientConfiguration clientConfiguration = s3Builder.getClientConfiguration();
+        clientConfiguration.setConnectionTimeout(uploader.getConnectTimeout() * 1000);
+        // artifacts and their parts are uploaded concurrently, each needs its own connection
+        clientConfiguration.setMaxConnections(Math.max(ClientConfiguration.DEFAULT_MAX_CONNECTIONS, parallelism * 2));
+
+        return s3Builder.build();
+    }
 }
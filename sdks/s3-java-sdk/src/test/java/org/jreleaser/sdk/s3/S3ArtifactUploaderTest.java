@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.s3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import org.jreleaser.util.Algorithm;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class S3ArtifactUploaderTest {
+    private static final String SHA_256 = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+    private static final String MD5 = "098f6bcd4621d373cade4e832627b4f6";
+
+    @Test
+    public void skippedObjectsAreMadePublicAgain() {
+        // given:
+        AmazonS3 s3 = mock(AmazonS3.class);
+        ObjectMetadata remote = new ObjectMetadata();
+        remote.setContentLength(4);
+        remote.addUserMetadata("jreleaser-sha256", SHA_256);
+        when(s3.getObjectMetadata("bucket", "app.zip")).thenReturn(remote);
+
+        // when:
+        boolean skipped = S3ArtifactUploader.skipUpToDate(s3, "bucket", "app.zip", 4, checksums());
+
+        // then:
+        assertThat(skipped, equalTo(true));
+        verify(s3).setObjectAcl("bucket", "app.zip", CannedAccessControlList.PublicRead);
+    }
+
+    @Test
+    public void singlePartObjectsAreComparedByETag() {
+        // given:
+        AmazonS3 s3 = mock(AmazonS3.class);
+        ObjectMetadata remote = new ObjectMetadata();
+        remote.setContentLength(4);
+        remote.setHeader("ETag", MD5);
+        when(s3.getObjectMetadata("bucket", "app.zip")).thenReturn(remote);
+
+        // expect:
+        assertThat(S3ArtifactUploader.skipUpToDate(s3, "bucket", "app.zip", 4, checksums()), equalTo(true));
+    }
+
+    @Test
+    public void changedObjectsAreNotSkipped() {
+        // given:
+        AmazonS3 s3 = mock(AmazonS3.class);
+        ObjectMetadata remote = new ObjectMetadata();
+        remote.setContentLength(5);
+        remote.addUserMetadata("jreleaser-sha256", SHA_256);
+        when(s3.getObjectMetadata("bucket", "app.zip")).thenReturn(remote);
+
+        // when:
+        boolean skipped = S3ArtifactUploader.skipUpToDate(s3, "bucket", "app.zip", 4, checksums());
+
+        // then:
+        assertThat(skipped, equalTo(false));
+        verify(s3, never()).setObjectAcl(anyString(), anyString(), any(CannedAccessControlList.class));
+    }
+
+    @Test
+    public void missingObjectsAreNotSkipped() {
+        // given:
+        AmazonS3 s3 = mock(AmazonS3.class);
+        AmazonS3Exception notFound = new AmazonS3Exception("Not Found");
+        notFound.setStatusCode(404);
+        when(s3.getObjectMetadata("bucket", "app.zip")).thenThrow(notFound);
+
+        // expect:
+        assertThat(S3ArtifactUploader.skipUpToDate(s3, "bucket", "app.zip", 4, checksums()), equalTo(false));
+    }
+
+    private static Map<Algorithm, String> checksums() {
+        Map<Algorithm, String> checksums = new EnumMap<>(Algorithm.class);
+        checksums.put(Algorithm.SHA_256, SHA_256);
+        checksums.put(Algorithm.MD5, MD5);
+        return checksums;
+    }
+}
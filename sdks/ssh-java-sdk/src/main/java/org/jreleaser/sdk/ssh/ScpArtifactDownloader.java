@@ -64,12 +64,20 @@ public class ScpArtifactDownloader extends AbstractArtifactDownloader<ScpDownloa
     public void download(String name) throws DownloadException {
         SSHClient ssh = createSSHClient(context, downloader);
 
+        Throwable failure = null;
         try {
             for (Downloader.Asset asset : downloader.getAssets()) {
                 downloadAsset(name, ssh, asset);
             }
+        } catch (DownloadException | RuntimeException e) {
+            failure = e;
+            throw e;
         } finally {
-            disconnect(downloader, ssh);
+            try {
+                disconnect(downloader, ssh);
+            } finally {
+                awaitUnpack(failure);
+            }
         }
     }
 
@@ -25,12 +25,8 @@ import org.jreleaser.model.ScpUploader;
 import org.jreleaser.model.uploader.spi.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 
-import java.io.IOException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.List;
 
-import static org.jreleaser.sdk.ssh.SshUtils.createDirectories;
 import static org.jreleaser.sdk.ssh.SshUtils.createSSHClient;
 import static org.jreleaser.sdk.ssh.SshUtils.disconnect;
 
@@ -71,23 +67,7 @@ public class ScpArtifactUploader extends AbstractArtifactUploader<ScpUploader> {
         SSHClient ssh = createSSHClient(context, uploader);
 
         try {
-            for (Artifact artifact : artifacts) {
-                Path path = artifact.getEffectivePath(context);
-                context.getLogger().info(" - {}", path.getFileName());
-
-                if (!context.isDryrun()) {
-                    try {
-                        String uploadPath = uploader.getResolvedPath(context, artifact);
-                        context.getLogger().debug("   " + RB.$("uploader.uploading.to", uploadPath));
-                        createDirectories(context, uploader, ssh, Paths.get(uploadPath).getParent());
-                        ssh.newSCPFileTransfer().upload(path.toAbsolutePath().toString(), uploadPath);
-                    } catch (IOException e) {
-                        context.getLogger().trace(e);
-                        throw new UploadException(RB.$("ERROR_unexpected_upload",
-                            context.getBasedir().relativize(path)), e);
-                    }
-                }
-            }
+            SshTransferEngine.scp(context, uploader, ssh).upload(artifacts);
         } finally {
             disconnect(uploader, ssh);
         }
@@ -69,6 +69,7 @@ public class SftpArtifactDownloader extends AbstractArtifactDownloader<SftpDownl
         SSHClient ssh = createSSHClient(context, downloader);
         SFTPClient sftp = createSFTPClient(context, downloader, ssh);
 
+        Throwable failure = null;
         try {
             try {
                 for (Downloader.Asset asset : downloader.getAssets()) {
@@ -77,8 +78,15 @@ public class SftpArtifactDownloader extends AbstractArtifactDownloader<SftpDownl
             } finally {
                 close(downloader, sftp);
             }
+        } catch (DownloadException | RuntimeException e) {
+            failure = e;
+            throw e;
         } finally {
-            disconnect(downloader, ssh);
+            try {
+                disconnect(downloader, ssh);
+            } finally {
+                awaitUnpack(failure);
+            }
         }
     }
 
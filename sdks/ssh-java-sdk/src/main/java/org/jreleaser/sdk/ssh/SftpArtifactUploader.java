@@ -18,7 +18,6 @@
 package org.jreleaser.sdk.ssh;
 
 import net.schmizz.sshj.SSHClient;
-import net.schmizz.sshj.sftp.SFTPClient;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.Artifact;
 import org.jreleaser.model.JReleaserContext;
@@ -26,14 +25,8 @@ import org.jreleaser.model.SftpUploader;
 import org.jreleaser.model.uploader.spi.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 
-import java.io.IOException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.List;
 
-import static org.jreleaser.sdk.ssh.SshUtils.close;
-import static org.jreleaser.sdk.ssh.SshUtils.createDirectories;
-import static org.jreleaser.sdk.ssh.SshUtils.createSFTPClient;
 import static org.jreleaser.sdk.ssh.SshUtils.createSSHClient;
 import static org.jreleaser.sdk.ssh.SshUtils.disconnect;
 
@@ -71,28 +64,10 @@ public class SftpArtifactUploader extends AbstractArtifactUploader<SftpUploader>
         }
 
         SSHClient ssh = createSSHClient(context, uploader);
-        SFTPClient sftp = createSFTPClient(context, uploader, ssh);
 
         try {
-            for (Artifact artifact : artifacts) {
-                Path path = artifact.getEffectivePath(context);
-                context.getLogger().info(" - {}", path.getFileName());
-
-                if (!context.isDryrun()) {
-                    try {
-                        String uploadPath = uploader.getResolvedPath(context, artifact);
-                        context.getLogger().debug("   " + RB.$("uploader.uploading.to", uploadPath));
-                        createDirectories(context, uploader, ssh, Paths.get(uploadPath).getParent());
-                        sftp.put(path.toAbsolutePath().toString(), uploadPath);
-                    } catch (IOException e) {
-                        context.getLogger().trace(e);
-                        throw new UploadException(RB.$("ERROR_unexpected_upload",
-                            context.getBasedir().relativize(path)), e);
-                    }
-                }
-            }
+            SshTransferEngine.sftp(context, uploader, ssh).upload(artifacts);
         } finally {
-            close(uploader, sftp);
             disconnect(uploader, ssh);
         }
     }
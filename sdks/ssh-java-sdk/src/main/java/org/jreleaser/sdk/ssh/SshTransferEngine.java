@@ -0,0 +1,190 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.ssh;
+
+import net.schmizz.sshj.SSHClient;
+import net.schmizz.sshj.sftp.FileAttributes;
+import net.schmizz.sshj.sftp.OpenMode;
+import net.schmizz.sshj.sftp.RemoteFile;
+import net.schmizz.sshj.sftp.SFTPClient;
+import net.schmizz.sshj.xfer.FileSystemFile;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.Artifact;
+import org.jreleaser.model.JReleaserContext;
+import org.jreleaser.model.SshUploader;
+import org.jreleaser.model.uploader.spi.UploadException;
+import org.jreleaser.util.ConcurrentUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+
+import static org.jreleaser.sdk.ssh.SshUtils.createDirectories;
+import static org.jreleaser.sdk.ssh.SshUtils.createSFTPClient;
+
+/**
+ * Uploads a batch of artifacts over a single SSH session. The remote directory tree is
+ * created with one command, then files are transferred concurrently, each worker on its
+ * own channel. SFTP writes are pipelined deeper than sshj's default of 16 outstanding
+ * requests so that small files do not wait on one round trip per packet.
+ *
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+final class SshTransferEngine {
+    static final int DEFAULT_PARALLELISM = 4;
+    // OpenSSH accepts up to 10 channels per session by default (MaxSessions)
+    static final int MAX_PARALLELISM = 10;
+    private static final int MAX_UNCONFIRMED_WRITES = 64;
+
+    private final JReleaserContext context;
+    private final SshUploader uploader;
+    private final SSHClient ssh;
+    private final boolean sftp;
+
+    private SshTransferEngine(JReleaserContext context, SshUploader uploader, SSHClient ssh, boolean sftp) {
+        this.context = context;
+        this.uploader = uploader;
+        this.ssh = ssh;
+        this.sftp = sftp;
+    }
+
+    static SshTransferEngine sftp(JReleaserContext context, SshUploader uploader, SSHClient ssh) {
+        return new SshTransferEngine(context, uploader, ssh, true);
+    }
+
+    static SshTransferEngine scp(JReleaserContext context, SshUploader uploader, SSHClient ssh) {
+        return new SshTransferEngine(context, uploader, ssh, false);
+    }
+
+    void upload(List<Artifact> artifacts) throws UploadException {
+        List<Transfer> transfers = new ArrayList<>();
+        for (Artifact artifact : artifacts) {
+            transfers.add(new Transfer(artifact.getEffectivePath(context), uploader.getResolvedPath(context, artifact)));
+        }
+
+        if (context.isDryrun() || transfers.isEmpty()) {
+            for (Transfer transfer : transfers) {
+                context.getLogger().info(" - {}", transfer.local.getFileName());
+            }
+            return;
+        }
+
+        List<Path> directories = new ArrayList<>();
+        for (Transfer transfer : transfers) {
+            Path parent = Paths.get(transfer.remote).getParent();
+            if (null != parent) directories.add(parent);
+        }
+        createDirectories(context, uploader, ssh, directories);
+
+        Integer parallelism = uploader.getParallelism();
+        int workers = workers(parallelism, transfers.size());
+
+        BlockingQueue<SFTPClient> clients = new ArrayBlockingQueue<>(workers);
+        try {
+            if (sftp) {
+                for (int i = 0; i < workers; i++) {
+                    clients.add(createSFTPClient(context, uploader, ssh));
+                }
+            }
+
+            ConcurrentUtils.invokeAll(sftp ? "sftp" : "scp", workers, transfers, context.getLogger().scoped(transfer -> {
+                transfer(clients, transfer);
+                return transfer;
+            }));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            for (Throwable suppressed : e.getSuppressed()) {
+                cause.addSuppressed(suppressed);
+            }
+            if (cause instanceof UploadException) throw (UploadException) cause;
+            throw new UploadException(RB.$("ERROR_unexpected_upload_to", uploader.getName()), cause);
+        } finally {
+            for (SFTPClient client : clients) {
+                SshUtils.close(uploader, client);
+            }
+        }
+    }
+
+    static int workers(Integer parallelism, int transfers) {
+        int workers = null == parallelism ? DEFAULT_PARALLELISM : ConcurrentUtils.resolveParallelism(parallelism);
+        return Math.min(transfers, Math.min(workers, MAX_PARALLELISM));
+    }
+
+    private void transfer(BlockingQueue<SFTPClient> clients, Transfer transfer) throws UploadException, InterruptedException {
+        context.getLogger().info(" - {}", transfer.local.getFileName());
+        context.getLogger().debug("   " + RB.$("uploader.uploading.to", transfer.remote));
+
+        try {
+            if (sftp) {
+                SFTPClient client = clients.take();
+                try {
+                    put(client, transfer);
+                } finally {
+                    clients.put(client);
+                }
+            } else {
+                ssh.newSCPFileTransfer().upload(transfer.local.toAbsolutePath().toString(), transfer.remote);
+            }
+        } catch (IOException e) {
+            context.getLogger().trace(e);
+            throw new UploadException(RB.$("ERROR_unexpected_upload",
+                context.getBasedir().relativize(transfer.local)), e);
+        }
+    }
+
+    private void put(SFTPClient client, Transfer transfer) throws IOException {
+        FileAttributes attributes = new FileAttributes.Builder()
+            .withPermissions(new FileSystemFile(transfer.local.toFile()).getPermissions())
+            .build();
+
+        try (RemoteFile file = client.open(transfer.remote,
+            EnumSet.of(OpenMode.WRITE, OpenMode.CREAT, OpenMode.TRUNC), attributes)) {
+            int packetSize = client.getSFTPEngine().getSubsystem().getRemoteMaxPacketSize() -
+                file.getOutgoingPacketOverhead();
+            byte[] buffer = new byte[packetSize];
+
+            try (InputStream in = Files.newInputStream(transfer.local);
+                 OutputStream out = file.new RemoteFileOutputStream(0, MAX_UNCONFIRMED_WRITES)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            }
+        }
+    }
+
+    private static final class Transfer {
+        private final Path local;
+        private final String remote;
+
+        private Transfer(Path local, String remote) {
+            this.local = local;
+            this.remote = remote;
+        }
+    }
+}
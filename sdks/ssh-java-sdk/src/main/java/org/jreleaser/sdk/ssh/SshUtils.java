@@ -37,6 +37,12 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
 
 import static org.jreleaser.util.StringUtils.isNotBlank;
@@ -46,6 +52,8 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  * @since 1.1.0
  */
 public class SshUtils {
+    private static final int MAX_COMMAND_LENGTH = 16 * 1024;
+
     private SshUtils() {
         // noop
     }
@@ -144,12 +152,65 @@ public class SshUtils {
     }
 
     public static void createDirectories(JReleaserContext context, SshUploader uploader, SSHClient ssh, Path path) throws UploadException {
+        createDirectories(context, uploader, ssh, Collections.singletonList(path));
+    }
+
+    /**
+     * Creates every given directory with as few remote commands as possible. Directories
+     * that are parents of others in the list are implied by {@code mkdir -p} and skipped.
+     */
+    public static void createDirectories(JReleaserContext context, SshUploader uploader, SSHClient ssh, Collection<Path> paths) throws UploadException {
+        for (List<Path> batch : mkdirBatches(paths)) {
+            mkdirs(context, uploader, ssh, batch);
+        }
+    }
+
+    static List<List<Path>> mkdirBatches(Collection<Path> paths) {
+        Set<Path> directories = new TreeSet<>();
+        for (Path path : paths) {
+            directories.add(path.toAbsolutePath());
+        }
+
+        List<List<Path>> batches = new ArrayList<>();
+        List<Path> batch = new ArrayList<>();
+        int length = 0;
+        for (Path directory : directories) {
+            if (directories.stream().anyMatch(other -> !other.equals(directory) && other.startsWith(directory))) {
+                continue;
+            }
+            batch.add(directory);
+            length += directory.toString().length() + 3;
+            if (length > MAX_COMMAND_LENGTH) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                length = 0;
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    static String mkdirCommand(List<Path> batch) {
+        StringBuilder command = new StringBuilder("mkdir -p");
+        for (Path directory : batch) {
+            command.append(" '").append(directory.toString().replace("'", "'\\''")).append("'");
+        }
+        return command.toString();
+    }
+
+    private static void mkdirs(JReleaserContext context, SshUploader uploader, SSHClient ssh, List<Path> batch) throws UploadException {
         try (Session session = ssh.startSession()) {
-            Session.Command cmd = session.exec("mkdir -p " + path.toAbsolutePath());
+            Session.Command cmd = session.exec(mkdirCommand(batch));
             cmd.join(uploader.getReadTimeout(), TimeUnit.SECONDS);
+            Integer status = cmd.getExitStatus();
+            if (null == status || status != 0) {
+                throw new UploadException(RB.$("ERROR_ssh_mkdir", batch.get(0)));
+            }
         } catch (SSHException e) {
             context.getLogger().trace(e);
-            throw new UploadException(RB.$("ERROR_ssh_mkdir", path), e);
+            throw new UploadException(RB.$("ERROR_ssh_mkdir", batch.get(0)), e);
         }
     }
 
@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.ssh;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class SshTransferEngineTest {
+    @Test
+    public void workersAreBoundBySessionLimit() {
+        // expect:
+        assertThat(SshTransferEngine.workers(null, 20), equalTo(SshTransferEngine.DEFAULT_PARALLELISM));
+        assertThat(SshTransferEngine.workers(2, 20), equalTo(2));
+        assertThat(SshTransferEngine.workers(64, 20), equalTo(SshTransferEngine.MAX_PARALLELISM));
+        assertThat(SshTransferEngine.workers(0, 20), lessThanOrEqualTo(SshTransferEngine.MAX_PARALLELISM));
+        assertThat(SshTransferEngine.workers(64, 3), equalTo(3));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2022 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.ssh;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * @author Andres Almiray
+ * @since 1.3.0
+ */
+public class SshUtilsTest {
+    @Test
+    public void parentDirectoriesAreCollapsed() {
+        // given:
+        List<Path> paths = Arrays.asList(
+            Paths.get("/srv/releases/app/1.0"),
+            Paths.get("/srv/releases"),
+            Paths.get("/srv/releases/app/1.0"),
+            Paths.get("/srv/releases/app"),
+            Paths.get("/srv/docs"));
+
+        // when:
+        List<List<Path>> batches = SshUtils.mkdirBatches(paths);
+
+        // then:
+        assertThat(batches, equalTo(Arrays.asList(Arrays.asList(
+            Paths.get("/srv/docs"),
+            Paths.get("/srv/releases/app/1.0")))));
+        assertThat(SshUtils.mkdirCommand(batches.get(0)),
+            equalTo("mkdir -p '/srv/docs' '/srv/releases/app/1.0'"));
+    }
+
+    @Test
+    public void siblingsWithCommonPrefixAreKept() {
+        // when:
+        List<List<Path>> batches = SshUtils.mkdirBatches(Arrays.asList(
+            Paths.get("/srv/app"),
+            Paths.get("/srv/app-docs")));
+
+        // then:
+        assertThat(batches, equalTo(Arrays.asList(Arrays.asList(
+            Paths.get("/srv/app"),
+            Paths.get("/srv/app-docs")))));
+    }
+
+    @Test
+    public void singleQuotesAreEscaped() {
+        // expect:
+        assertThat(SshUtils.mkdirCommand(Arrays.asList(Paths.get("/srv/it's here"), Paths.get("/srv/$(rm -rf)"))),
+            equalTo("mkdir -p '/srv/it'\\''s here' '/srv/$(rm -rf)'"));
+    }
+
+    @Test
+    public void longCommandsAreSplit() {
+        // given:
+        List<Path> paths = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            paths.add(Paths.get("/srv/releases/app-" + i));
+        }
+
+        // when:
+        List<List<Path>> batches = SshUtils.mkdirBatches(paths);
+
+        // then:
+        int total = 0;
+        for (List<Path> batch : batches) {
+            total += batch.size();
+        }
+        assertThat(batches.size() > 1, equalTo(true));
+        assertThat(total, equalTo(paths.size()));
+    }
+}